@@ -0,0 +1,84 @@
+#!/usr/bin/env bash
+# Measures startup time and first-request latency of blog-api in several startup modes.
+#
+# Usage (from backend/blog-api):
+#   ./scripts/startup-bench.sh            # builds the jar, 5 runs per mode
+#   RUNS=10 SKIP_BUILD=1 ./scripts/startup-bench.sh
+#
+# Modes:
+#   baseline  plain jar, profiles from BASE_PROFILES (default: prod)
+#   fast      + "fast" profile (lazy init, no schema inspection)
+#   cds       + AppCDS archive produced by a training run
+#   aot       + Spring AOT (requires the jar to be built with -Paot)
+#
+# Output: one CSV line per run on stdout (mode,run,startup_ms,first_request_ms)
+# The datasource is taken from the usual SPRING_DATASOURCE_* environment variables.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${RUNS:-5}"
+PORT="${PORT:-8083}"
+BASE_PROFILES="${BASE_PROFILES:-prod}"
+MODES="${MODES:-baseline fast cds aot}"
+PROBE_PATH="${PROBE_PATH:-/articles/categories}"
+WORK_DIR="target/startup-bench"
+
+if [ -z "${SKIP_BUILD:-}" ]; then
+  ./mvnw -q -B -DskipTests -Paot package
+fi
+
+JAR="$(ls target/blog-api-*.jar | grep -v '\.original$' | head -n 1)"
+rm -rf "$WORK_DIR"
+mkdir -p "$WORK_DIR"
+
+# CDS works best on the extracted layout (Spring Boot 3.3+)
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK_DIR/app" >/dev/null
+APP_JAR="$WORK_DIR/app/$(basename "$JAR")"
+
+now_ms() { date +%s%3N; }
+
+java_opts_for() {
+  case "$1" in
+    baseline) echo "-Dspring.profiles.active=$BASE_PROFILES" ;;
+    fast)     echo "-Dspring.profiles.active=$BASE_PROFILES,fast" ;;
+    cds)      echo "-XX:SharedArchiveFile=$WORK_DIR/app.jsa -Dspring.profiles.active=$BASE_PROFILES,fast" ;;
+    aot)      echo "-XX:SharedArchiveFile=$WORK_DIR/app.jsa -Dspring.aot.enabled=true -Dspring.profiles.active=$BASE_PROFILES,fast" ;;
+  esac
+}
+
+case " $MODES " in
+  *" cds "*|*" aot "*)
+    # Training run: refresh the context then exit, dumping the loaded classes
+    java -XX:ArchiveClassesAtExit="$WORK_DIR/app.jsa" -Dspring.context.exit=onRefresh \
+      -Dspring.profiles.active="$BASE_PROFILES,fast" -jar "$APP_JAR" >"$WORK_DIR/training.log" 2>&1
+    ;;
+esac
+
+echo "mode,run,startup_ms,first_request_ms"
+for mode in $MODES; do
+  for run in $(seq 1 "$RUNS"); do
+    log="$WORK_DIR/$mode-$run.log"
+    start=$(now_ms)
+    # shellcheck disable=SC2046
+    java $(java_opts_for "$mode") -Dserver.port="$PORT" -jar "$APP_JAR" >"$log" 2>&1 &
+    pid=$!
+
+    until grep -q "Started BlogApiApplication" "$log"; do
+      if ! kill -0 "$pid" 2>/dev/null; then
+        echo "$mode run $run failed, see $log" >&2
+        exit 1
+      fi
+      sleep 0.05
+    done
+    started=$(now_ms)
+
+    first=$(curl -s -o /dev/null -w '%{time_total}' "http://localhost:$PORT$PROBE_PATH")
+    first_ms=$(awk -v t="$first" 'BEGIN { printf "%d", t * 1000 }')
+
+    echo "$mode,$run,$((started - start)),$first_ms"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+  done
+done
@@ -3,12 +3,16 @@ package com.example.blog_api;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
 @BatchSize(size = 20)
+@DynamicUpdate // UPDATE statements list only the columns that changed
 @Table(name = "articles", indexes = {
+    // Author filters and per-author publication ranges (AuthorStatsRepository); foreign keys are not indexed by Postgres
+    @Index(columnList = "author_id, publishedAt"),
     @Index(columnList = "createdAt"),
     @Index(columnList = "publishedAt"),
     @Index(columnList = "viewCount"),
@@ -22,8 +26,10 @@ public class Article {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String title;
-    @Column(columnDefinition = "TEXT")
-    private String content;
+    /** Start of the body for listings; the body itself lives in {@link ArticleContent}. */
+    @Column(length = ArticleContent.EXCERPT_LENGTH + 1)
+    private String excerpt;
+    private Integer wordCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     /** When null, article is draft; when set, article is published (and visible if <= now). */
@@ -45,11 +51,16 @@ public class Article {
     private boolean featured;
     private boolean pinned;
 
+    /** Optimistic lock; rows created before the column existed start at 0. */
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
+
     public Article() {}
 
     public Article(String title, String content) {
         this.title = title;
-        this.content = content;
+        describeContent(content);
     }
 
     public Long getId() { return id; }
@@ -58,8 +69,14 @@ public class Article {
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
 
-    public String getContent() { return content; }
-    public void setContent(String content) { this.content = content; }
+    public String getExcerpt() { return excerpt; }
+    public Integer getWordCount() { return wordCount; }
+
+    /** Refreshes the metadata derived from the body; call whenever the body is written. */
+    public void describeContent(String content) {
+        this.excerpt = ArticleContent.excerptOf(content);
+        this.wordCount = ArticleContent.wordCountOf(content);
+    }
 
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
@@ -100,4 +117,6 @@ public class Article {
 
     public boolean isPinned() { return pinned; }
     public void setPinned(boolean pinned) { this.pinned = pinned; }
+
+    public Long getVersion() { return version; }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.example.blog_api;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row describing a committed article write. Appended in the same transaction as the
+ * write, relayed to derived stores (caches, indexes, counters) and deleted once dispatched.
+ */
+@Entity
+@Table(name = "article_changes")
+public class ArticleChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long articleId;
+
+    /** Kept on the row because the article may be gone when the change is relayed. */
+    private Long authorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ArticleChangeType type;
+
+    private LocalDateTime createdAt;
+
+    public ArticleChange() {}
+
+    public ArticleChange(Long articleId, Long authorId, ArticleChangeType type, LocalDateTime createdAt) {
+        this.articleId = articleId;
+        this.authorId = authorId;
+        this.type = type;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getArticleId() { return articleId; }
+    public void setArticleId(Long articleId) { this.articleId = articleId; }
+
+    public Long getAuthorId() { return authorId; }
+    public void setAuthorId(Long authorId) { this.authorId = authorId; }
+
+    public ArticleChangeType getType() { return type; }
+    public void setType(ArticleChangeType type) { this.type = type; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,14 @@
+package com.example.blog_api;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ArticleChangeRepository extends JpaRepository<ArticleChange, Long> {
+
+    /** Oldest changes, in commit order; read under the relay's {@link JobLock}, so by one node at a time. */
+    @Query("SELECT c FROM ArticleChange c ORDER BY c.id")
+    List<ArticleChange> claimBatch(Pageable pageable);
+}
@@ -0,0 +1,7 @@
+package com.example.blog_api;
+
+public enum ArticleChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
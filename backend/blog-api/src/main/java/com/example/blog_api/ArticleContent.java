@@ -0,0 +1,85 @@
+package com.example.blog_api;
+
+import jakarta.persistence.*;
+
+/**
+ * Body of an article, kept out of the articles table so that loading an {@link Article}
+ * (listings, permission checks, deletes) never reads it. Shares the article id; there is
+ * deliberately no association, the body is only loaded through {@link ArticleContentRepository}.
+ */
+@Entity
+@EntityListeners(ContentCompression.class)
+@Table(name = "article_content")
+public class ArticleContent {
+
+    /** Characters kept in {@link Article#getExcerpt()}. */
+    public static final int EXCERPT_LENGTH = 300;
+
+    @Id
+    private Long articleId;
+    /** Body as text; null when stored compressed. */
+    @Column(columnDefinition = "TEXT")
+    private String content;
+    /** Deflated body (see {@link ContentCompression}); decoded on first {@link #getContent()} only. */
+    @Column(length = 100_000_000)
+    private byte[] contentCompressed;
+    @Transient
+    private String decodedContent;
+
+    /** Guards the background migrations; null until persisted, so save() inserts new rows without a lookup. */
+    @Version
+    private Long version;
+
+    protected ArticleContent() {}
+
+    public ArticleContent(Long articleId, String content) {
+        this.articleId = articleId;
+        this.content = content;
+    }
+
+    public Long getArticleId() { return articleId; }
+
+    public String getContent() {
+        if (content != null || contentCompressed == null) return content;
+        if (decodedContent == null) decodedContent = ContentCompression.decompress(contentCompressed);
+        return decodedContent;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+        this.contentCompressed = null;
+        this.decodedContent = null;
+    }
+
+    boolean hasTextContent() { return content != null; }
+
+    /** Replaces the text column by its compressed form, keeping the text for reads on this instance. */
+    void storeCompressed(byte[] compressed) {
+        this.decodedContent = content;
+        this.content = null;
+        this.contentCompressed = compressed;
+    }
+
+    public Long getVersion() { return version; }
+
+    /** First characters of the body, cut on a word boundary, for listings. */
+    public static String excerptOf(String content) {
+        if (content == null) return null;
+        String text = content.strip();
+        if (text.length() <= EXCERPT_LENGTH) return text;
+        int cut = text.lastIndexOf(' ', EXCERPT_LENGTH - 1);
+        return text.substring(0, cut > EXCERPT_LENGTH / 2 ? cut : EXCERPT_LENGTH - 1).stripTrailing() + "…";
+    }
+
+    public static int wordCountOf(String content) {
+        if (content == null) return 0;
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < content.length(); i++) {
+            boolean space = Character.isWhitespace(content.charAt(i));
+            if (!space && !inWord) words++;
+            inWord = !space;
+        }
+        return words;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.blog_api;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ArticleContentRepository extends JpaRepository<ArticleContent, Long> {
+
+    /** Replaces a body in place (draft autosave); 0 if the row does not exist yet. */
+    @Modifying
+    @Query("UPDATE ArticleContent c SET c.content = :content, c.contentCompressed = :compressed, " +
+           "c.version = c.version + 1 WHERE c.articleId = :id")
+    int updateContent(@Param("id") Long id, @Param("content") String content, @Param("compressed") byte[] compressed);
+
+    @Modifying
+    @Query("DELETE FROM ArticleContent c WHERE c.articleId = :id")
+    int deleteByArticleId(@Param("id") Long id);
+
+    /** Rows whose body is still stored as text and long enough to compress: articleId, version, content. */
+    @Query("SELECT c.articleId, c.version, c.content FROM ArticleContent c " +
+           "WHERE c.content IS NOT NULL AND LENGTH(c.content) >= :minSize AND c.articleId > :afterId ORDER BY c.articleId")
+    List<Object[]> findTextContentAfter(@Param("afterId") long afterId, @Param("minSize") int minSize, Pageable pageable);
+
+    /** Moves one body to the compressed column without bumping the version (the content is unchanged). */
+    @Modifying
+    @Query("UPDATE ArticleContent c SET c.contentCompressed = :data, c.content = NULL " +
+           "WHERE c.articleId = :id AND c.version = :version")
+    int storeCompressedContent(@Param("id") Long id, @Param("version") Long version, @Param("data") byte[] data);
+}
@@ -1,10 +1,14 @@
 package com.example.blog_api;
 
+import com.example.blog_api.dto.ArticleSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,9 +17,33 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, JpaSpec
     @Query("SELECT a FROM Article a LEFT JOIN FETCH a.author WHERE a.id = :id")
     Optional<Article> findByIdWithAuthor(@Param("id") Long id);
 
+    @Query("SELECT a.authorId FROM Article a WHERE a.id = :id")
+    Optional<Long> findAuthorIdById(@Param("id") Long id);
+
+    /** Locks the article row until the transaction ends, so writers of the same article take turns. */
+    @Query(value = "SELECT id FROM articles WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> findIdForUpdate(@Param("id") Long id);
+
+    /** View count under a lock on the article row, so a concurrent view flush is either counted or waits. */
+    @Query(value = "SELECT COALESCE(view_count, 0) FROM articles WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> findViewCountForUpdate(@Param("id") Long id);
+
     @Query("SELECT DISTINCT a.category FROM Article a WHERE a.category IS NOT NULL AND a.category != '' ORDER BY a.category")
     List<String> findDistinctCategories();
 
     @Query("SELECT COUNT(a) FROM Article a WHERE a.author.id = :authorId")
     long countByAuthorId(@Param("authorId") Long authorId);
+
+    @Modifying
+    @Query("UPDATE Article a SET a.viewCount = COALESCE(a.viewCount, 0) + :delta WHERE a.id = :id")
+    int incrementViewCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Query("SELECT new com.example.blog_api.dto.ArticleSummary(a.id, a.title, a.authorId, a.category, a.tags, a.createdAt, a.publishedAt, a.viewCount, a.featured, a.pinned) " +
+           "FROM Article a WHERE a.id IN :ids")
+    List<ArticleSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** Scheduled articles (publishedAt set later than creation) whose publication time falls in (from, to]. */
+    @Query("SELECT new com.example.blog_api.dto.ArticleSummary(a.id, a.title, a.authorId, a.category, a.tags, a.createdAt, a.publishedAt, a.viewCount, a.featured, a.pinned) " +
+           "FROM Article a WHERE a.publishedAt > :from AND a.publishedAt <= :to AND a.publishedAt > a.createdAt")
+    List<ArticleSummary> findScheduledDue(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,63 @@
+package com.example.blog_api;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One revision of an article. Content is stored deflated: either a full snapshot, or a delta
+ * (copy/insert operations) against the previous revision, see {@link com.example.blog_api.service.TextDelta}.
+ */
+@Entity
+@Table(name = "article_revisions", uniqueConstraints = @UniqueConstraint(columnNames = {"articleId", "revision"}))
+public class ArticleRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long articleId;
+
+    /** 1-based, consecutive per article. */
+    @Column(nullable = false)
+    private int revision;
+
+    private boolean snapshot;
+
+    @Column(length = 500)
+    private String title;
+
+    @Column(nullable = false, length = 100_000_000)
+    private byte[] data;
+
+    /** Length of the reconstructed content, for listings without decoding. */
+    private int contentLength;
+
+    private Long actorId;
+    private LocalDateTime createdAt;
+
+    public ArticleRevision() {}
+
+    public ArticleRevision(Long articleId, int revision, boolean snapshot, String title, byte[] data,
+                           int contentLength, Long actorId, LocalDateTime createdAt) {
+        this.articleId = articleId;
+        this.revision = revision;
+        this.snapshot = snapshot;
+        this.title = title;
+        this.data = data;
+        this.contentLength = contentLength;
+        this.actorId = actorId;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public Long getArticleId() { return articleId; }
+    public int getRevision() { return revision; }
+    public boolean isSnapshot() { return snapshot; }
+    public String getTitle() { return title; }
+    public byte[] getData() { return data; }
+    public int getContentLength() { return contentLength; }
+    public Long getActorId() { return actorId; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
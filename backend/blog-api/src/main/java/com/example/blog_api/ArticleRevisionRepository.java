@@ -0,0 +1,32 @@
+package com.example.blog_api;
+
+import com.example.blog_api.dto.ArticleRevisionInfo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ArticleRevisionRepository extends JpaRepository<ArticleRevision, Long> {
+
+    @Query("SELECT MAX(r.revision) FROM ArticleRevision r WHERE r.articleId = :articleId")
+    Integer findLatestRevision(@Param("articleId") Long articleId);
+
+    @Query("SELECT MAX(r.revision) FROM ArticleRevision r WHERE r.articleId = :articleId " +
+           "AND r.snapshot = true AND r.revision <= :revision")
+    Integer findSnapshotAtOrBefore(@Param("articleId") Long articleId, @Param("revision") int revision);
+
+    /** The revisions needed to rebuild one: its closest snapshot, then the deltas up to it. */
+    List<ArticleRevision> findByArticleIdAndRevisionBetweenOrderByRevisionAsc(Long articleId, int from, int to);
+
+    /** Listing without the stored data. */
+    @Query("SELECT new com.example.blog_api.dto.ArticleRevisionInfo(r.revision, r.title, r.snapshot, " +
+           "r.contentLength, r.actorId, r.createdAt) " +
+           "FROM ArticleRevision r WHERE r.articleId = :articleId ORDER BY r.revision DESC")
+    List<ArticleRevisionInfo> findInfoByArticleId(@Param("articleId") Long articleId);
+
+    @Modifying
+    @Query("DELETE FROM ArticleRevision r WHERE r.articleId = :articleId")
+    void deleteByArticleId(@Param("articleId") Long articleId);
+}
@@ -0,0 +1,28 @@
+package com.example.blog_api;
+
+import jakarta.persistence.*;
+
+/**
+ * Plain text of an article body stored compressed in {@link ArticleContent}, read only by keyword
+ * search so that compression does not change search results. Kept in its own table so that reading
+ * a body (detail pages, caches) never touches it. Rows exist only for compressed bodies.
+ */
+@Entity
+@Table(name = "article_search_text")
+public class ArticleSearchText {
+
+    @Id
+    private Long articleId;
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    protected ArticleSearchText() {}
+
+    public ArticleSearchText(Long articleId, String content) {
+        this.articleId = articleId;
+        this.content = content;
+    }
+
+    public Long getArticleId() { return articleId; }
+    public String getContent() { return content; }
+}
@@ -0,0 +1,17 @@
+package com.example.blog_api;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ArticleSearchTextRepository extends JpaRepository<ArticleSearchText, Long> {
+
+    @Modifying
+    @Query("UPDATE ArticleSearchText s SET s.content = :content WHERE s.articleId = :id")
+    int updateContent(@Param("id") Long id, @Param("content") String content);
+
+    @Modifying
+    @Query("DELETE FROM ArticleSearchText s WHERE s.articleId = :id")
+    int deleteByArticleId(@Param("id") Long id);
+}
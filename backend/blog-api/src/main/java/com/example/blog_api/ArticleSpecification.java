@@ -2,6 +2,8 @@ package com.example.blog_api;
 
 import org.springframework.data.jpa.domain.Specification;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -19,10 +21,20 @@ public final class ArticleSpecification {
             return (root, query, cb) -> cb.conjunction();
         }
         String pattern = "%" + keyword.toLowerCase().trim() + "%";
-        return (root, query, cb) -> cb.or(
-                cb.like(cb.lower(root.get("title")), pattern),
-                cb.like(cb.lower(root.get("content")), pattern)
-        );
+        return (root, query, cb) -> {
+            Subquery<Long> body = query.subquery(Long.class);
+            Root<ArticleContent> content = body.from(ArticleContent.class);
+            body.select(content.<Long>get("articleId")).where(
+                    cb.equal(content.get("articleId"), root.get("id")),
+                    cb.like(cb.lower(content.get("content")), pattern));
+            // Bodies stored compressed are searched through their plain-text copy
+            Subquery<Long> compressed = query.subquery(Long.class);
+            Root<ArticleSearchText> text = compressed.from(ArticleSearchText.class);
+            compressed.select(text.<Long>get("articleId")).where(
+                    cb.equal(text.get("articleId"), root.get("id")),
+                    cb.like(cb.lower(text.get("content")), pattern));
+            return cb.or(cb.like(cb.lower(root.get("title")), pattern), cb.exists(body), cb.exists(compressed));
+        };
     }
 
     /** Filter by author id (uses author.id join). */
@@ -0,0 +1,72 @@
+package com.example.blog_api;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * An image attached to an article. The bytes live in the content-addressed file store under
+ * their SHA-256 (see {@link com.example.blog_api.service.AttachmentStore}); identical uploads share one file.
+ */
+@Entity
+@Table(name = "attachments", indexes = {
+    @Index(columnList = "articleId"),
+    @Index(columnList = "sha256")
+})
+public class Attachment {
+
+    public enum ThumbnailState { PENDING, READY, NONE }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long articleId;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(nullable = false, length = 100)
+    private String contentType;
+
+    private long size;
+
+    @Column(length = 255)
+    private String originalName;
+
+    private Integer width;
+    private Integer height;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ThumbnailState thumbnail = ThumbnailState.PENDING;
+
+    private Long uploaderId;
+    private LocalDateTime createdAt;
+
+    public Attachment() {}
+
+    public Attachment(Long articleId, String sha256, String contentType, long size, String originalName,
+                      Long uploaderId, LocalDateTime createdAt) {
+        this.articleId = articleId;
+        this.sha256 = sha256;
+        this.contentType = contentType;
+        this.size = size;
+        this.originalName = originalName;
+        this.uploaderId = uploaderId;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public Long getArticleId() { return articleId; }
+    public String getSha256() { return sha256; }
+    public String getContentType() { return contentType; }
+    public long getSize() { return size; }
+    public String getOriginalName() { return originalName; }
+    public Integer getWidth() { return width; }
+    public Integer getHeight() { return height; }
+    public ThumbnailState getThumbnail() { return thumbnail; }
+    public Long getUploaderId() { return uploaderId; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
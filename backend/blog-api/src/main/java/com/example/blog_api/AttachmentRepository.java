@@ -0,0 +1,32 @@
+package com.example.blog_api;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    List<Attachment> findByArticleIdOrderByIdAsc(Long articleId);
+
+    long countBySha256(String sha256);
+
+    /** The attachment if its article is published as of now: the anonymous read path, in one query. */
+    @Query("SELECT at FROM Attachment at WHERE at.id = :id AND EXISTS (SELECT 1 FROM Article a " +
+            "WHERE a.id = at.articleId AND a.publishedAt IS NOT NULL AND a.publishedAt <= :now)")
+    Optional<Attachment> findPublishedById(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /** Oldest attachments still waiting for a thumbnail (queue full or restart). */
+    @Query("SELECT a FROM Attachment a WHERE a.thumbnail = com.example.blog_api.Attachment.ThumbnailState.PENDING ORDER BY a.id")
+    List<Attachment> findPendingThumbnails(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Attachment a SET a.thumbnail = :state, a.width = :width, a.height = :height WHERE a.sha256 = :sha256")
+    int updateImageInfo(@Param("sha256") String sha256, @Param("state") Attachment.ThumbnailState state,
+                        @Param("width") Integer width, @Param("height") Integer height);
+}
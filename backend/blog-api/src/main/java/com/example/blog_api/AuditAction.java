@@ -0,0 +1,10 @@
+package com.example.blog_api;
+
+/** Kinds of events recorded in the audit trail. */
+public enum AuditAction {
+    ARTICLE_CREATED,
+    ARTICLE_UPDATED,
+    ARTICLE_DELETED,
+    USER_REGISTERED,
+    USER_LOGGED_IN
+}
@@ -0,0 +1,58 @@
+package com.example.blog_api;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/** One audit trail entry, written in batches by the background audit writer. */
+@Entity
+@Table(name = "audit_events", indexes = {
+    @Index(columnList = "createdAt"),
+    @Index(columnList = "actorId")
+})
+public class AuditEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AuditAction action;
+
+    private Long actorId;
+    /** Id of the article or user the action applies to. */
+    private Long targetId;
+    private LocalDateTime createdAt;
+
+    /** Outbox row this event came from; null for best-effort events (e.g. login). */
+    private Long outboxId;
+
+    public AuditEvent() {}
+
+    public AuditEvent(AuditAction action, Long actorId, Long targetId, LocalDateTime createdAt, Long outboxId) {
+        this.action = action;
+        this.actorId = actorId;
+        this.targetId = targetId;
+        this.createdAt = createdAt;
+        this.outboxId = outboxId;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public AuditAction getAction() { return action; }
+    public void setAction(AuditAction action) { this.action = action; }
+
+    public Long getActorId() { return actorId; }
+    public void setActorId(Long actorId) { this.actorId = actorId; }
+
+    public Long getTargetId() { return targetId; }
+    public void setTargetId(Long targetId) { this.targetId = targetId; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public Long getOutboxId() { return outboxId; }
+    public void setOutboxId(Long outboxId) { this.outboxId = outboxId; }
+}
@@ -0,0 +1,6 @@
+package com.example.blog_api;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AuditEventRepository extends JpaRepository<AuditEvent, Long> {
+}
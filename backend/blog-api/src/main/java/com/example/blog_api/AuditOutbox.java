@@ -0,0 +1,50 @@
+package com.example.blog_api;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pending audit event, inserted in the same transaction as the write it describes.
+ * Deleted once the matching AuditEvent is stored; leftovers are replayed by the sweep.
+ */
+@Entity
+@Table(name = "audit_outbox", indexes = { @Index(columnList = "createdAt") })
+public class AuditOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AuditAction action;
+
+    private Long actorId;
+    private Long targetId;
+    private LocalDateTime createdAt;
+
+    public AuditOutbox() {}
+
+    public AuditOutbox(AuditAction action, Long actorId, Long targetId, LocalDateTime createdAt) {
+        this.action = action;
+        this.actorId = actorId;
+        this.targetId = targetId;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public AuditAction getAction() { return action; }
+    public void setAction(AuditAction action) { this.action = action; }
+
+    public Long getActorId() { return actorId; }
+    public void setActorId(Long actorId) { this.actorId = actorId; }
+
+    public Long getTargetId() { return targetId; }
+    public void setTargetId(Long targetId) { this.targetId = targetId; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
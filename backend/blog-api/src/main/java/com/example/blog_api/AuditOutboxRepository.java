@@ -0,0 +1,12 @@
+package com.example.blog_api;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AuditOutboxRepository extends JpaRepository<AuditOutbox, Long> {
+
+    List<AuditOutbox> findByCreatedAtBeforeOrderByIdAsc(LocalDateTime before, Pageable pageable);
+}
@@ -0,0 +1,61 @@
+package com.example.blog_api;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-author article aggregates, updated by a delta on each article write and each view flush,
+ * so profile statistics are a primary-key lookup.
+ */
+@Entity
+@Table(name = "author_stats")
+public class AuthorStats {
+
+    @Id
+    private Long authorId;
+
+    private long articleCount;
+    private long publishedCount;
+    private long draftCount;
+    private long scheduledCount;
+    private long totalViews;
+    private LocalDateTime lastPublishedAt;
+    /** Earliest scheduled publication; once reached, counts are rolled forward on next read. */
+    private LocalDateTime nextScheduledAt;
+    /** Published vs scheduled counts are as of this time; null on rows from before deltas (recomputed). */
+    private LocalDateTime countedAt;
+
+    public AuthorStats() {}
+
+    public AuthorStats(Long authorId) {
+        this.authorId = authorId;
+    }
+
+    public Long getAuthorId() { return authorId; }
+    public void setAuthorId(Long authorId) { this.authorId = authorId; }
+
+    public long getArticleCount() { return articleCount; }
+    public void setArticleCount(long articleCount) { this.articleCount = articleCount; }
+
+    public long getPublishedCount() { return publishedCount; }
+    public void setPublishedCount(long publishedCount) { this.publishedCount = publishedCount; }
+
+    public long getDraftCount() { return draftCount; }
+    public void setDraftCount(long draftCount) { this.draftCount = draftCount; }
+
+    public long getScheduledCount() { return scheduledCount; }
+    public void setScheduledCount(long scheduledCount) { this.scheduledCount = scheduledCount; }
+
+    public long getTotalViews() { return totalViews; }
+    public void setTotalViews(long totalViews) { this.totalViews = totalViews; }
+
+    public LocalDateTime getLastPublishedAt() { return lastPublishedAt; }
+    public void setLastPublishedAt(LocalDateTime lastPublishedAt) { this.lastPublishedAt = lastPublishedAt; }
+
+    public LocalDateTime getNextScheduledAt() { return nextScheduledAt; }
+    public void setNextScheduledAt(LocalDateTime nextScheduledAt) { this.nextScheduledAt = nextScheduledAt; }
+
+    public LocalDateTime getCountedAt() { return countedAt; }
+    public void setCountedAt(LocalDateTime countedAt) { this.countedAt = countedAt; }
+}
@@ -0,0 +1,51 @@
+package com.example.blog_api;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AuthorStatsRepository extends JpaRepository<AuthorStats, Long> {
+
+    /** Locks the row so a delta and a concurrent view flush cannot overwrite each other. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AuthorStats s WHERE s.authorId = :authorId")
+    Optional<AuthorStats> findForUpdate(@Param("authorId") Long authorId);
+
+    /**
+     * One row: total, drafts, published, scheduled, total views, last publication, next scheduled publication.
+     * Runs on the author_id column only, for one author at a time. Repair path of AuthorStatsService.
+     */
+    @Query("SELECT COUNT(a), " +
+           "SUM(CASE WHEN a.publishedAt IS NULL THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN a.publishedAt <= :now THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN a.publishedAt > :now THEN 1 ELSE 0 END), " +
+           "SUM(COALESCE(a.viewCount, 0)), " +
+           "MAX(CASE WHEN a.publishedAt <= :now THEN a.publishedAt ELSE NULL END), " +
+           "MIN(CASE WHEN a.publishedAt > :now THEN a.publishedAt ELSE NULL END) " +
+           "FROM Article a WHERE a.authorId = :authorId")
+    List<Object[]> aggregateForAuthor(@Param("authorId") Long authorId, @Param("now") LocalDateTime now);
+
+    /** One row: number and latest publication date of the author's articles published in (from, to]. */
+    @Query("SELECT COUNT(a), MAX(a.publishedAt) FROM Article a " +
+           "WHERE a.authorId = :authorId AND a.publishedAt > :from AND a.publishedAt <= :to")
+    List<Object[]> countPublishedBetween(@Param("authorId") Long authorId, @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+
+    @Query("SELECT MAX(a.publishedAt) FROM Article a WHERE a.authorId = :authorId AND a.publishedAt <= :now")
+    LocalDateTime findLastPublishedAt(@Param("authorId") Long authorId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT MIN(a.publishedAt) FROM Article a WHERE a.authorId = :authorId AND a.publishedAt > :now")
+    LocalDateTime findNextScheduledAt(@Param("authorId") Long authorId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE AuthorStats s SET s.totalViews = s.totalViews + :delta " +
+           "WHERE s.authorId = (SELECT a.authorId FROM Article a WHERE a.id = :articleId)")
+    int addViews(@Param("articleId") Long articleId, @Param("delta") long delta);
+}
@@ -0,0 +1,76 @@
+package com.example.blog_api;
+
+import com.example.blog_api.config.ContentStorageProperties;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Storage policy for article bodies, and the entity listener of {@link ArticleContent} applying it:
+ * before each insert or update, a body that is long enough moves from the TEXT column to the deflated
+ * content_compressed column (when app.content-storage.compression is on). Reading is always possible
+ * in both forms. Keyword search reads compressed bodies from {@link ArticleSearchText}, which the
+ * writers of article_content keep in step using {@link #isEligible}.
+ */
+@Component
+public class ContentCompression {
+
+    private final ContentStorageProperties properties;
+
+    public ContentCompression(ContentStorageProperties properties) {
+        this.properties = properties;
+    }
+
+    /** Whether this body is stored compressed. */
+    public boolean isEligible(String text) {
+        return properties.isCompression() && text != null && text.length() >= properties.getMinSize();
+    }
+
+    /** Deflated text if compression is on and the text is long enough, otherwise null (store as text). */
+    public byte[] compressIfEligible(String text) {
+        return isEligible(text) ? compress(text, properties.getLevel()) : null;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void beforeWrite(ArticleContent body) {
+        if (body.hasTextContent()) {
+            byte[] compressed = compressIfEligible(body.getContent());
+            if (compressed != null) {
+                body.storeCompressed(compressed);
+            }
+        }
+    }
+
+    public static byte[] compress(String text, int level) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(raw.length / 3 + 16);
+        Deflater deflater = new Deflater(level);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes, deflater)) {
+            out.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    public static String decompress(byte[] data) {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(data))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
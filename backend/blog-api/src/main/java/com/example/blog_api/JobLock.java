@@ -0,0 +1,24 @@
+package com.example.blog_api;
+
+import jakarta.persistence.*;
+
+/**
+ * Named lock row for work that must run on one node at a time: a node runs the job inside a
+ * transaction holding this row's lock, and the other nodes skip their turn while it is held.
+ */
+@Entity
+@Table(name = "job_locks")
+public class JobLock {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    public JobLock() {}
+
+    public JobLock(String name) {
+        this.name = name;
+    }
+
+    public String getName() { return name; }
+}
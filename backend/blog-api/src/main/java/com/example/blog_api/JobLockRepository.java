@@ -0,0 +1,24 @@
+package com.example.blog_api;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    /**
+     * Locks the row until the transaction ends; empty when another node holds it (lock timeout
+     * -2 = SKIP LOCKED) or the row does not exist yet. Databases without SKIP LOCKED (H2) wait
+     * instead and fail with a PessimisticLockingFailureException.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT l FROM JobLock l WHERE l.name = :name")
+    Optional<JobLock> tryLock(@Param("name") String name);
+}
@@ -0,0 +1,49 @@
+package com.example.blog_api;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A JWT (access or refresh) revoked before its expiry, by its id (jti). Rows are only needed until
+ * the token expires; {@link com.example.blog_api.security.TokenRevocationList} loads them in memory
+ * and purges the expired ones.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+    @Index(columnList = "revokedAt"),
+    @Index(columnList = "expiresAt")
+})
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Unique: a refresh token can be rotated (revoked) only once, on any node. */
+    @Column(nullable = false, unique = true, length = 36)
+    private String jti;
+
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime revokedAt;
+
+    public RevokedToken() {}
+
+    public RevokedToken(String jti, Long userId, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        this.jti = jti;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+
+    public Long getId() { return id; }
+    public String getJti() { return jti; }
+    public Long getUserId() { return userId; }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public LocalDateTime getRevokedAt() { return revokedAt; }
+}
@@ -37,6 +37,11 @@ public class User {
     @OneToMany(mappedBy = "author", cascade = {}, fetch = FetchType.LAZY)
     private List<Article> articles = new ArrayList<>();
 
+    /** Optimistic lock, also the version of cached copies on other nodes; rows created before the column existed start at 0. */
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
+
     public User() {}
 
     public User(String username, String email, String password, Role role) {
@@ -61,6 +66,8 @@ public class User {
     public Role getRole() { return role; }
     public void setRole(Role role) { this.role = role != null ? role : Role.READER; }
 
+    public Long getVersion() { return version; }
+
     public List<Article> getArticles() { return articles; }
     public void setArticles(List<Article> articles) { this.articles = articles != null ? articles : new ArrayList<>(); }
 }
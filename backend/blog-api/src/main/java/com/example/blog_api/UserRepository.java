@@ -1,7 +1,12 @@
 package com.example.blog_api;
 
+import com.example.blog_api.dto.AuthorName;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,4 +15,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    @Query("SELECT new com.example.blog_api.dto.AuthorName(u.id, u.username) FROM User u WHERE u.id IN :ids")
+    List<AuthorName> findNamesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,54 @@
+package com.example.blog_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+    /** Largest page size accepted by list endpoints; larger requests are clamped. */
+    private int maxPageSize = 100;
+
+    /** Token bucket per client IP: burst capacity and sustained requests per second. */
+    private int ipCapacity = 100;
+    private double ipRefillPerSecond = 20;
+    /** Token bucket per authenticated user id. */
+    private int userCapacity = 200;
+    private double userRefillPerSecond = 40;
+    /** Buckets kept per map; beyond that, new clients share a single overflow bucket. */
+    private int maxBuckets = 100000;
+    private long sweepIntervalMs = 60000;
+
+    /** Requests in flight per endpoint class. */
+    private int searchConcurrency = 16;
+    private int listConcurrency = 64;
+    private int writeConcurrency = 32;
+    private int authConcurrency = 16;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public int getMaxPageSize() { return maxPageSize; }
+    public void setMaxPageSize(int maxPageSize) { this.maxPageSize = maxPageSize; }
+    public int getIpCapacity() { return ipCapacity; }
+    public void setIpCapacity(int ipCapacity) { this.ipCapacity = ipCapacity; }
+    public double getIpRefillPerSecond() { return ipRefillPerSecond; }
+    public void setIpRefillPerSecond(double ipRefillPerSecond) { this.ipRefillPerSecond = ipRefillPerSecond; }
+    public int getUserCapacity() { return userCapacity; }
+    public void setUserCapacity(int userCapacity) { this.userCapacity = userCapacity; }
+    public double getUserRefillPerSecond() { return userRefillPerSecond; }
+    public void setUserRefillPerSecond(double userRefillPerSecond) { this.userRefillPerSecond = userRefillPerSecond; }
+    public int getMaxBuckets() { return maxBuckets; }
+    public void setMaxBuckets(int maxBuckets) { this.maxBuckets = maxBuckets; }
+    public long getSweepIntervalMs() { return sweepIntervalMs; }
+    public void setSweepIntervalMs(long sweepIntervalMs) { this.sweepIntervalMs = sweepIntervalMs; }
+    public int getSearchConcurrency() { return searchConcurrency; }
+    public void setSearchConcurrency(int searchConcurrency) { this.searchConcurrency = searchConcurrency; }
+    public int getListConcurrency() { return listConcurrency; }
+    public void setListConcurrency(int listConcurrency) { this.listConcurrency = listConcurrency; }
+    public int getWriteConcurrency() { return writeConcurrency; }
+    public void setWriteConcurrency(int writeConcurrency) { this.writeConcurrency = writeConcurrency; }
+    public int getAuthConcurrency() { return authConcurrency; }
+    public void setAuthConcurrency(int authConcurrency) { this.authConcurrency = authConcurrency; }
+}
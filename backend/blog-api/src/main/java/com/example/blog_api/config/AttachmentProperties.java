@@ -0,0 +1,40 @@
+package com.example.blog_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "app.attachments")
+public class AttachmentProperties {
+
+    /** Root of the content-addressed file store. */
+    private String dir = "data/attachments";
+    private long maxBytes = 10 * 1024 * 1024;
+    private List<String> allowedTypes = List.of("image/png", "image/jpeg", "image/gif", "image/webp");
+    private int thumbnailWidth = 320;
+    /** Images with more pixels are stored but not decoded (no thumbnail). */
+    private long thumbnailMaxPixels = 40_000_000;
+    private int thumbnailThreads = 2;
+    /** Queued thumbnail jobs; beyond that, uploads are picked up later by the sweep. */
+    private int thumbnailQueue = 100;
+    private long thumbnailSweepMs = 60000;
+
+    public String getDir() { return dir; }
+    public void setDir(String dir) { this.dir = dir; }
+    public long getMaxBytes() { return maxBytes; }
+    public void setMaxBytes(long maxBytes) { this.maxBytes = maxBytes; }
+    public List<String> getAllowedTypes() { return allowedTypes; }
+    public void setAllowedTypes(List<String> allowedTypes) { this.allowedTypes = allowedTypes; }
+    public int getThumbnailWidth() { return thumbnailWidth; }
+    public void setThumbnailWidth(int thumbnailWidth) { this.thumbnailWidth = thumbnailWidth; }
+    public long getThumbnailMaxPixels() { return thumbnailMaxPixels; }
+    public void setThumbnailMaxPixels(long thumbnailMaxPixels) { this.thumbnailMaxPixels = thumbnailMaxPixels; }
+    public int getThumbnailThreads() { return thumbnailThreads; }
+    public void setThumbnailThreads(int thumbnailThreads) { this.thumbnailThreads = thumbnailThreads; }
+    public int getThumbnailQueue() { return thumbnailQueue; }
+    public void setThumbnailQueue(int thumbnailQueue) { this.thumbnailQueue = thumbnailQueue; }
+    public long getThumbnailSweepMs() { return thumbnailSweepMs; }
+    public void setThumbnailSweepMs(long thumbnailSweepMs) { this.thumbnailSweepMs = thumbnailSweepMs; }
+}
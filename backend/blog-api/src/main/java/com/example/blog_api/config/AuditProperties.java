@@ -0,0 +1,37 @@
+package com.example.blog_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditProperties {
+
+    /** What to do when the ring buffer is full. */
+    public enum BackPressurePolicy {
+        /** Wait up to blockTimeoutMs for a free slot, then drop. */
+        BLOCK,
+        /** Drop immediately; events backed by an outbox row are replayed by the sweep. */
+        DROP,
+        /** Write the event synchronously on the calling thread. */
+        CALLER_RUNS
+    }
+
+    private int capacity = 8192;
+    private int batchSize = 256;
+    private BackPressurePolicy policy = BackPressurePolicy.BLOCK;
+    private long blockTimeoutMs = 50;
+    /** Outbox rows older than this are considered lost by the in-memory pipeline and replayed. */
+    private long sweepAgeMs = 30000;
+
+    public int getCapacity() { return capacity; }
+    public void setCapacity(int capacity) { this.capacity = capacity; }
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+    public BackPressurePolicy getPolicy() { return policy; }
+    public void setPolicy(BackPressurePolicy policy) { this.policy = policy; }
+    public long getBlockTimeoutMs() { return blockTimeoutMs; }
+    public void setBlockTimeoutMs(long blockTimeoutMs) { this.blockTimeoutMs = blockTimeoutMs; }
+    public long getSweepAgeMs() { return sweepAgeMs; }
+    public void setSweepAgeMs(long sweepAgeMs) { this.sweepAgeMs = sweepAgeMs; }
+}
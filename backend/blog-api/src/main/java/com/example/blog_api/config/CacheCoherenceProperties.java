@@ -0,0 +1,44 @@
+package com.example.blog_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "app.cache-coherence")
+public class CacheCoherenceProperties {
+
+    public enum Transport { NONE, POSTGRES, UDP }
+
+    /** NONE: single node, invalidations stay local. */
+    private Transport transport = Transport.NONE;
+    /** LISTEN/NOTIFY channel (POSTGRES). */
+    private String channel = "blog_cache";
+    /** host:port this node listens on (UDP). */
+    private String udpBind = "127.0.0.1:9101";
+    /** host:port of the other nodes (UDP). */
+    private List<String> udpPeers = List.of();
+    private long reconnectDelayMs = 1000;
+    /** Lets peers notice lost messages while nothing changes. */
+    private long heartbeatMs = 5000;
+    private int publishQueue = 10_000;
+    private int userCacheMaxEntries = 10_000;
+
+    public Transport getTransport() { return transport; }
+    public void setTransport(Transport transport) { this.transport = transport; }
+    public String getChannel() { return channel; }
+    public void setChannel(String channel) { this.channel = channel; }
+    public String getUdpBind() { return udpBind; }
+    public void setUdpBind(String udpBind) { this.udpBind = udpBind; }
+    public List<String> getUdpPeers() { return udpPeers; }
+    public void setUdpPeers(List<String> udpPeers) { this.udpPeers = udpPeers; }
+    public long getReconnectDelayMs() { return reconnectDelayMs; }
+    public void setReconnectDelayMs(long reconnectDelayMs) { this.reconnectDelayMs = reconnectDelayMs; }
+    public long getHeartbeatMs() { return heartbeatMs; }
+    public void setHeartbeatMs(long heartbeatMs) { this.heartbeatMs = heartbeatMs; }
+    public int getPublishQueue() { return publishQueue; }
+    public void setPublishQueue(int publishQueue) { this.publishQueue = publishQueue; }
+    public int getUserCacheMaxEntries() { return userCacheMaxEntries; }
+    public void setUserCacheMaxEntries(int userCacheMaxEntries) { this.userCacheMaxEntries = userCacheMaxEntries; }
+}
@@ -0,0 +1,22 @@
+package com.example.blog_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/** Precompressed article detail responses (server.compression handles everything else). */
+@Component
+@ConfigurationProperties(prefix = "app.compression")
+public class CompressionProperties {
+
+    private boolean detailCacheEnabled = true;
+    private int detailCacheMaxEntries = 1000;
+    /** Bodies smaller than this are sent as-is; same threshold as server.compression.min-response-size. */
+    private int minSize = 1024;
+
+    public boolean isDetailCacheEnabled() { return detailCacheEnabled; }
+    public void setDetailCacheEnabled(boolean detailCacheEnabled) { this.detailCacheEnabled = detailCacheEnabled; }
+    public int getDetailCacheMaxEntries() { return detailCacheMaxEntries; }
+    public void setDetailCacheMaxEntries(int detailCacheMaxEntries) { this.detailCacheMaxEntries = detailCacheMaxEntries; }
+    public int getMinSize() { return minSize; }
+    public void setMinSize(int minSize) { this.minSize = minSize; }
+}
@@ -0,0 +1,32 @@
+package com.example.blog_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.content-storage")
+public class ContentStorageProperties {
+
+    /**
+     * Store article bodies deflated in content_compressed instead of the TEXT column. Keyword search
+     * keeps matching them through a plain-text copy in article_search_text.
+     */
+    private boolean compression = false;
+    /** Bodies shorter than this (in characters) stay as text. */
+    private int minSize = 1024;
+    /** Deflate level, 1 (fastest) to 9 (smallest). */
+    private int level = 1;
+    private int migrationBatchSize = 200;
+    private long migrationIntervalMs = 60000;
+
+    public boolean isCompression() { return compression; }
+    public void setCompression(boolean compression) { this.compression = compression; }
+    public int getMinSize() { return minSize; }
+    public void setMinSize(int minSize) { this.minSize = minSize; }
+    public int getLevel() { return level; }
+    public void setLevel(int level) { this.level = level; }
+    public int getMigrationBatchSize() { return migrationBatchSize; }
+    public void setMigrationBatchSize(int migrationBatchSize) { this.migrationBatchSize = migrationBatchSize; }
+    public long getMigrationIntervalMs() { return migrationIntervalMs; }
+    public void setMigrationIntervalMs(long migrationIntervalMs) { this.migrationIntervalMs = migrationIntervalMs; }
+}
@@ -0,0 +1,40 @@
+package com.example.blog_api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+/**
+ * Sizes the Hikari pool from the cores available to the process (2 x cores + 1: queries
+ * alternate between CPU and waiting on the database) when no explicit
+ * spring.datasource.hikari.maximum-pool-size is configured. Runs before the pool starts, which
+ * Hikari does lazily on the first connection.
+ */
+@Configuration
+@Profile("jdbc-tuning")
+public class DataSourceTuning {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourceTuning.class);
+
+    @Bean
+    static BeanPostProcessor hikariPoolSizing(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && !environment.containsProperty("spring.datasource.hikari.maximum-pool-size")) {
+                    int size = 2 * Runtime.getRuntime().availableProcessors() + 1;
+                    dataSource.setMaximumPoolSize(size);
+                    dataSource.setMinimumIdle(size);
+                    log.info("Hikari pool {} sized to {} connections", dataSource.getPoolName(), size);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.blog_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.drafts")
+public class DraftProperties {
+
+    /** How often pending drafts are checked for flushing. */
+    private long flushIntervalMs = 1000;
+    /** A draft is written once no patch arrived for this long... */
+    private long quietMs = 3000;
+    /** ...or at the latest this long after its first unsaved patch. */
+    private long maxDelayMs = 15000;
+    /** Saved drafts are dropped from memory after this much inactivity. */
+    private long idleEvictMs = 300000;
+    /** Drafts kept in memory; beyond that, patches are written through immediately. */
+    private int maxEntries = 10000;
+    /** Failed writes in a row before a draft is dropped and its next patch told so. */
+    private int maxFlushAttempts = 5;
+
+    public long getFlushIntervalMs() { return flushIntervalMs; }
+    public void setFlushIntervalMs(long flushIntervalMs) { this.flushIntervalMs = flushIntervalMs; }
+    public long getQuietMs() { return quietMs; }
+    public void setQuietMs(long quietMs) { this.quietMs = quietMs; }
+    public long getMaxDelayMs() { return maxDelayMs; }
+    public void setMaxDelayMs(long maxDelayMs) { this.maxDelayMs = maxDelayMs; }
+    public long getIdleEvictMs() { return idleEvictMs; }
+    public void setIdleEvictMs(long idleEvictMs) { this.idleEvictMs = idleEvictMs; }
+    public int getMaxEntries() { return maxEntries; }
+    public void setMaxEntries(int maxEntries) { this.maxEntries = maxEntries; }
+    public int getMaxFlushAttempts() { return maxFlushAttempts; }
+    public void setMaxFlushAttempts(int maxFlushAttempts) { this.maxFlushAttempts = maxFlushAttempts; }
+}
@@ -0,0 +1,31 @@
+package com.example.blog_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.home")
+public class HomeProperties {
+
+    /** Threads running the branches of GET /home (each branch holds one DB connection while it runs). */
+    private int threads = 8;
+    /** Branches waiting for a thread; beyond that a branch is rejected and reported missing. */
+    private int queue = 32;
+    /** A branch not done by then is left out of the response (listed in "missing"). */
+    private long branchTimeoutMs = 1500;
+    /** Articles in the featured and pinned sections. */
+    private int sectionSize = 6;
+    /** First page of the latest articles. */
+    private int latestSize = 10;
+
+    public int getThreads() { return threads; }
+    public void setThreads(int threads) { this.threads = threads; }
+    public int getQueue() { return queue; }
+    public void setQueue(int queue) { this.queue = queue; }
+    public long getBranchTimeoutMs() { return branchTimeoutMs; }
+    public void setBranchTimeoutMs(long branchTimeoutMs) { this.branchTimeoutMs = branchTimeoutMs; }
+    public int getSectionSize() { return sectionSize; }
+    public void setSectionSize(int sectionSize) { this.sectionSize = sectionSize; }
+    public int getLatestSize() { return latestSize; }
+    public void setLatestSize(int latestSize) { this.latestSize = latestSize; }
+}
@@ -0,0 +1,32 @@
+package com.example.blog_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.live")
+public class LiveFeedProperties {
+
+    private int maxSubscribers = 50000;
+    /** Notifications buffered per subscriber; a subscriber whose buffer overflows is evicted. */
+    private int bufferSize = 16;
+    /**
+     * Threads flushing buffers to sockets (idle subscribers use none). Writes block: this many stalled
+     * clients hold every writer until server.tomcat.connection-timeout expires.
+     */
+    private int writerThreads = 4;
+    private long heartbeatMs = 25000;
+    /** Connection lifetime; EventSource reconnects automatically. */
+    private long timeoutMs = 1800000;
+
+    public int getMaxSubscribers() { return maxSubscribers; }
+    public void setMaxSubscribers(int maxSubscribers) { this.maxSubscribers = maxSubscribers; }
+    public int getBufferSize() { return bufferSize; }
+    public void setBufferSize(int bufferSize) { this.bufferSize = bufferSize; }
+    public int getWriterThreads() { return writerThreads; }
+    public void setWriterThreads(int writerThreads) { this.writerThreads = writerThreads; }
+    public long getHeartbeatMs() { return heartbeatMs; }
+    public void setHeartbeatMs(long heartbeatMs) { this.heartbeatMs = heartbeatMs; }
+    public long getTimeoutMs() { return timeoutMs; }
+    public void setTimeoutMs(long timeoutMs) { this.timeoutMs = timeoutMs; }
+}
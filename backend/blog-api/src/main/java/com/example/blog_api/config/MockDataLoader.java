@@ -1,6 +1,8 @@
 package com.example.blog_api.config;
 
 import com.example.blog_api.Article;
+import com.example.blog_api.ArticleContent;
+import com.example.blog_api.ArticleContentRepository;
 import com.example.blog_api.ArticleRepository;
 import com.example.blog_api.Role;
 import com.example.blog_api.User;
@@ -25,6 +27,7 @@ public class MockDataLoader {
     @Bean
     ApplicationRunner loadMockData(UserRepository userRepository,
                                    ArticleRepository articleRepository,
+                                   ArticleContentRepository articleContentRepository,
                                    PasswordEncoder passwordEncoder) {
         return args -> {
             if (userRepository.count() > 0) return; // already has data
@@ -43,7 +46,8 @@ public class MockDataLoader {
             for (int i = 1; i <= 22; i++) {
                 Article a = new Article();
                 a.setTitle("Article de démo #" + i + " – " + (i % 2 == 0 ? "Titre plus long pour tester" : "Court"));
-                a.setContent("Contenu de l'article " + i + ". Ceci permet de tester la recherche par mot-clé, la pagination, le tri et les filtres.\n\nParagraphe supplémentaire pour le rendu.");
+                String content = "Contenu de l'article " + i + ". Ceci permet de tester la recherche par mot-clé, la pagination, le tri et les filtres.\n\nParagraphe supplémentaire pour le rendu.";
+                a.describeContent(content);
                 a.setAuthor(mockUser);
                 a.setCreatedAt(past.plusDays(i));
                 a.setUpdatedAt(past.plusDays(i).plusHours(1));
@@ -60,6 +64,7 @@ public class MockDataLoader {
                     a.setPublishedAt(future.plusHours(i)); // scheduled
                 }
                 articleRepository.save(a);
+                articleContentRepository.save(new ArticleContent(a.getId(), content));
             }
         };
     }
@@ -0,0 +1,20 @@
+package com.example.blog_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/** In-memory evaluation of GET /articles (see ArticleMetadataIndex). */
+@Component
+@ConfigurationProperties(prefix = "app.query-engine")
+public class QueryEngineProperties {
+
+    /** Serve article list id pages from the in-memory index instead of SQL (keyword searches still use SQL). */
+    private boolean enabled = false;
+    /** Scans and sorts over at least this many candidates run on all cores. */
+    private int parallelThreshold = 50_000;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public int getParallelThreshold() { return parallelThreshold; }
+    public void setParallelThreshold(int parallelThreshold) { this.parallelThreshold = parallelThreshold; }
+}
@@ -0,0 +1,29 @@
+package com.example.blog_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/** Non-blocking R2DBC reads for anonymous GET /articles, /articles/{id} and /articles/categories. */
+@Component
+@ConfigurationProperties(prefix = "app.reactive-reads")
+public class ReactiveReadProperties {
+
+    private boolean enabled = false;
+    /** R2DBC URL of the same database as spring.datasource.url (r2dbc:postgresql://..., r2dbc:h2:mem:///...). */
+    private String url = "";
+    private String username = "";
+    private String password = "";
+    /** Connections of the R2DBC pool: bounds concurrent reads on this path instead of servlet threads. */
+    private int poolMaxSize = 20;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public String getUrl() { return url; }
+    public void setUrl(String url) { this.url = url; }
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+    public String getPassword() { return password; }
+    public void setPassword(String password) { this.password = password; }
+    public int getPoolMaxSize() { return poolMaxSize; }
+    public void setPoolMaxSize(int poolMaxSize) { this.poolMaxSize = poolMaxSize; }
+}
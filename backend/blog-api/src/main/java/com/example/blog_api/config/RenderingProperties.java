@@ -0,0 +1,26 @@
+package com.example.blog_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/** Markdown rendering of article bodies and the cache of rendered HTML. */
+@Component
+@ConfigurationProperties(prefix = "app.rendering")
+public class RenderingProperties {
+
+    /** Memory budget of the rendered HTML cache (approximate, in bytes). */
+    private long cacheMaxBytes = 64L * 1024 * 1024;
+    /** Directory receiving entries evicted from memory; empty disables the spill. */
+    private String spillDir = "";
+    private long spillMaxBytes = 1024L * 1024 * 1024;
+    private int wordsPerMinute = 200;
+
+    public long getCacheMaxBytes() { return cacheMaxBytes; }
+    public void setCacheMaxBytes(long cacheMaxBytes) { this.cacheMaxBytes = cacheMaxBytes; }
+    public String getSpillDir() { return spillDir; }
+    public void setSpillDir(String spillDir) { this.spillDir = spillDir; }
+    public long getSpillMaxBytes() { return spillMaxBytes; }
+    public void setSpillMaxBytes(long spillMaxBytes) { this.spillMaxBytes = spillMaxBytes; }
+    public int getWordsPerMinute() { return wordsPerMinute; }
+    public void setWordsPerMinute(int wordsPerMinute) { this.wordsPerMinute = wordsPerMinute; }
+}
@@ -0,0 +1,15 @@
+package com.example.blog_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.revisions")
+public class RevisionProperties {
+
+    /** A full snapshot is stored at least every this many revisions, bounding reconstruction to as many deltas. */
+    private int snapshotEvery = 20;
+
+    public int getSnapshotEvery() { return snapshotEvery; }
+    public void setSnapshotEvery(int snapshotEvery) { this.snapshotEvery = snapshotEvery; }
+}
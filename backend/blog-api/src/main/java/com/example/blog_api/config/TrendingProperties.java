@@ -0,0 +1,19 @@
+package com.example.blog_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.trending")
+public class TrendingProperties {
+
+    /** Size of the precomputed ranking per window. */
+    private int topK = 100;
+    /** Where view counters are saved so rankings survive restarts; empty disables snapshots. */
+    private String snapshotFile = "data/trending-snapshot.bin";
+
+    public int getTopK() { return topK; }
+    public void setTopK(int topK) { this.topK = topK; }
+    public String getSnapshotFile() { return snapshotFile; }
+    public void setSnapshotFile(String snapshotFile) { this.snapshotFile = snapshotFile; }
+}
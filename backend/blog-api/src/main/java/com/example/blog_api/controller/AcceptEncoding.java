@@ -0,0 +1,44 @@
+package com.example.blog_api.controller;
+
+/**
+ * Accept-Encoding negotiation for the pre-compressed article bodies (RFC 9110 §12.5.3): codings are
+ * matched as whole tokens, case-insensitively, and q=0 means "not acceptable". An explicit gzip (or
+ * its alias x-gzip) entry wins over "*".
+ */
+final class AcceptEncoding {
+
+    private AcceptEncoding() {
+    }
+
+    static boolean acceptsGzip(String header) {
+        if (header == null) return false;
+        Boolean explicit = null;
+        boolean wildcard = false;
+        for (String entry : header.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim();
+            boolean acceptable = quality(parts) > 0;
+            if (coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip")) {
+                explicit = (explicit != null && explicit) || acceptable;
+            } else if (coding.equals("*")) {
+                wildcard = acceptable;
+            }
+        }
+        return explicit != null ? explicit : wildcard;
+    }
+
+    /** The q parameter of one entry; 1 when absent, 0 when malformed. */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            int eq = param.indexOf('=');
+            if (eq < 0 || !param.substring(0, eq).trim().equalsIgnoreCase("q")) continue;
+            try {
+                return Double.parseDouble(param.substring(eq + 1).trim());
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.blog_api.controller;
+
+import com.example.blog_api.dto.ContentStorageStats;
+import com.example.blog_api.service.StorageStatsService;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin")
+public class AdminController {
+
+    private final StorageStatsService storageStatsService;
+
+    public AdminController(StorageStatsService storageStatsService) {
+        this.storageStatsService = storageStatsService;
+    }
+
+    /** GET /admin/storage - Article body footprint (text vs compressed) and buffer cache hit ratios (admin only). */
+    @GetMapping("/storage")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ContentStorageStats getStorageStats() {
+        return storageStatsService.contentStats();
+    }
+}
@@ -1,16 +1,41 @@
 package com.example.blog_api.controller;
 
 import com.example.blog_api.*;
+import com.example.blog_api.config.AdmissionProperties;
+import com.example.blog_api.config.QueryEngineProperties;
 import com.example.blog_api.dto.ArticleRequest;
+import com.example.blog_api.dto.ArticleResponse;
+import com.example.blog_api.dto.ArticleSummary;
+import com.example.blog_api.dto.DraftPatchRequest;
+import com.example.blog_api.dto.DraftResponse;
+import com.example.blog_api.dto.FacetCounts;
+import com.example.blog_api.dto.PageResponse;
+import com.example.blog_api.dto.RenderedArticleResponse;
+import com.example.blog_api.dto.RenderedBody;
+import com.example.blog_api.service.ArticleContentService;
+import com.example.blog_api.service.ArticleMetadataIndex;
 import com.example.blog_api.service.ArticlePermissionService;
+import com.example.blog_api.service.ArticleService;
+import com.example.blog_api.service.AuthorNameCache;
+import com.example.blog_api.service.CompressedArticleCache;
+import com.example.blog_api.service.DraftAutosaveService;
+import com.example.blog_api.service.RelatedArticlesIndex;
+import com.example.blog_api.service.RenderedArticleCache;
+import com.example.blog_api.service.TrendingService;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,7 +45,10 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RestController
@@ -28,14 +56,44 @@ import java.util.stream.Collectors;
 public class ArticleController {
 
     private final ArticleRepository articleRepository;
-    private final UserRepository userRepository;
+    private final ArticleService articleService;
     private final ArticlePermissionService permissionService;
+    private final CompressedArticleCache compressedArticleCache;
+    private final RelatedArticlesIndex relatedArticlesIndex;
+    private final TrendingService trendingService;
+    private final AdmissionProperties admissionProperties;
+    private final DraftAutosaveService draftAutosaveService;
+    private final ArticleContentService contentService;
+    private final RenderedArticleCache renderedArticleCache;
+    private final ArticleMetadataIndex metadataIndex;
+    private final QueryEngineProperties queryEngineProperties;
+    private final AuthorNameCache authorNameCache;
 
-    public ArticleController(ArticleRepository articleRepository, UserRepository userRepository,
-                             ArticlePermissionService permissionService) {
+    public ArticleController(ArticleRepository articleRepository, ArticleService articleService,
+                             ArticlePermissionService permissionService,
+                             CompressedArticleCache compressedArticleCache,
+                             RelatedArticlesIndex relatedArticlesIndex,
+                             TrendingService trendingService,
+                             AdmissionProperties admissionProperties,
+                             DraftAutosaveService draftAutosaveService,
+                             ArticleContentService contentService,
+                             RenderedArticleCache renderedArticleCache,
+                             ArticleMetadataIndex metadataIndex,
+                             QueryEngineProperties queryEngineProperties,
+                             AuthorNameCache authorNameCache) {
         this.articleRepository = articleRepository;
-        this.userRepository = userRepository;
+        this.articleService = articleService;
         this.permissionService = permissionService;
+        this.compressedArticleCache = compressedArticleCache;
+        this.relatedArticlesIndex = relatedArticlesIndex;
+        this.trendingService = trendingService;
+        this.admissionProperties = admissionProperties;
+        this.draftAutosaveService = draftAutosaveService;
+        this.contentService = contentService;
+        this.renderedArticleCache = renderedArticleCache;
+        this.metadataIndex = metadataIndex;
+        this.queryEngineProperties = queryEngineProperties;
+        this.authorNameCache = authorNameCache;
     }
 
     /**
@@ -43,10 +101,15 @@ public class ArticleController {
      * Query params: keyword, sort (date|popularity|title), order (asc|desc),
      *               authorId, category, tags (comma-separated), dateFrom, dateTo,
      *               publishedOnly (default true = only published), featured, pinned,
-     *               page, size
+     *               page, size (clamped to app.admission.max-page-size),
+     *               facets (default false = also return per-category/tag/author/month counts,
+     *               computed from the in-memory metadata index; absent while it is being built)
+     * Without keyword and with app.query-engine.enabled, the page ids come from the metadata index
+     * (SQL only loads the page); otherwise, and while the index is being built, from SQL.
+     * Items carry authorUsername, resolved for the whole page at once (at most one extra query).
      */
     @GetMapping
-    public Page<Article> getAllArticles(
+    public PageResponse<ArticleResponse> getAllArticles(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String sort,
             @RequestParam(required = false, defaultValue = "desc") String order,
@@ -60,31 +123,73 @@ public class ArticleController {
             @RequestParam(required = false) Boolean pinned,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean facets,
             Authentication auth) {
 
-        Specification<Article> spec = ArticleSpecification.combine(
-                ArticleSpecification.withKeyword(keyword),
-                ArticleSpecification.withAuthorId(authorId),
-                ArticleSpecification.withCategory(category),
-                tags == null || tags.isBlank()
-                        ? ArticleSpecification.withTag(null)
-                        : ArticleSpecification.withTags(parseTags(tags)),
-                ArticleSpecification.createdAfter(dateFrom != null ? dateFrom.atStartOfDay() : null),
-                ArticleSpecification.createdBefore(dateTo != null ? dateTo.atTime(LocalTime.MAX) : null),
-                Boolean.TRUE.equals(publishedOnly) ? ArticleSpecification.publishedOnly(LocalDateTime.now()) : (root, q, cb) -> cb.conjunction(),
-                ArticleSpecification.featuredOnly(featured),
-                ArticleSpecification.pinnedOnly(pinned)
-        );
+        LocalDateTime now = LocalDateTime.now();
+        List<String> tagList = tags == null || tags.isBlank() ? null : parseTags(tags);
+        LocalDateTime createdFrom = dateFrom != null ? dateFrom.atStartOfDay() : null;
+        LocalDateTime createdTo = dateTo != null ? dateTo.atTime(LocalTime.MAX) : null;
 
         Sort.Direction direction = "asc".equalsIgnoreCase(order) ? Sort.Direction.ASC : Sort.Direction.DESC;
-        String sortField = switch (sort != null && !sort.isBlank() ? sort.toLowerCase() : "date") {
+        String sortKey = sort != null && !sort.isBlank() ? sort.toLowerCase() : "date";
+        String sortField = switch (sortKey) {
             case "popularity" -> "viewCount";
             case "title" -> "title";
             default -> "createdAt";
         };
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
-        return articleRepository.findAll(spec, pageable);
+        int pageSize = Math.max(1, Math.min(size, admissionProperties.getMaxPageSize()));
+        Pageable pageable = PageRequest.of(Math.max(0, page), pageSize, Sort.by(direction, sortField));
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+        ArticleMetadataIndex.Filter filter = new ArticleMetadataIndex.Filter(authorId, category, tagList,
+                createdFrom, createdTo, Boolean.TRUE.equals(publishedOnly) ? now : null,
+                Boolean.TRUE.equals(featured), Boolean.TRUE.equals(pinned),
+                hasKeyword && facets ? metadataIndex.keywordMatches(keyword) : null);
+
+        Page<Article> result = null;
+        if (queryEngineProperties.isEnabled() && !hasKeyword) {
+            ArticleMetadataIndex.Order indexOrder = switch (sortKey) {
+                case "popularity" -> ArticleMetadataIndex.Order.POPULARITY;
+                case "title" -> ArticleMetadataIndex.Order.TITLE;
+                default -> ArticleMetadataIndex.Order.DATE;
+            };
+            ArticleMetadataIndex.IdPage ids = metadataIndex.query(filter, indexOrder,
+                    direction == Sort.Direction.ASC, pageable.getPageNumber(), pageable.getPageSize());
+            if (ids != null) {
+                Map<Long, Article> byId = articleRepository.findAllById(ids.ids()).stream()
+                        .collect(Collectors.toMap(Article::getId, Function.identity()));
+                List<Article> content = ids.ids().stream().map(byId::get).filter(a -> a != null).toList();
+                result = new PageImpl<>(content, pageable, ids.total());
+            }
+        }
+        if (result == null) {
+            Specification<Article> spec = ArticleSpecification.combine(
+                    ArticleSpecification.withKeyword(keyword),
+                    ArticleSpecification.withAuthorId(authorId),
+                    ArticleSpecification.withCategory(category),
+                    tagList == null
+                            ? ArticleSpecification.withTag(null)
+                            : ArticleSpecification.withTags(tagList),
+                    ArticleSpecification.createdAfter(createdFrom),
+                    ArticleSpecification.createdBefore(createdTo),
+                    Boolean.TRUE.equals(publishedOnly) ? ArticleSpecification.publishedOnly(now) : (root, q, cb) -> cb.conjunction(),
+                    ArticleSpecification.featuredOnly(featured),
+                    ArticleSpecification.pinnedOnly(pinned)
+            );
+            result = articleRepository.findAll(spec, pageable);
+        }
+        Map<Long, String> authorNames = authorNameCache.usernames(result.map(Article::getAuthorId).getContent());
+        PageResponse<ArticleResponse> response = PageResponse.of(result,
+                a -> ArticleResponse.listed(a, authorNames.get(a.getAuthorId())));
+        response = response.withContent(permissionService.withPermissions(response.content(), auth));
+        if (facets) {
+            FacetCounts counts = metadataIndex.count(filter);
+            if (counts != null) {
+                response = response.withFacets(counts);
+            }
+        }
+        return response;
     }
 
     /**
@@ -95,9 +200,21 @@ public class ArticleController {
         return articleRepository.findDistinctCategories();
     }
 
+    /**
+     * GET /articles/{id} - Article detail. Clients accepting gzip get a precompressed body
+     * (cached per article version); others go through regular serialization.
+     * The body (article_content) is read only after the visibility check, and not at all on a gzip cache hit.
+     * With format=html the body comes rendered from markdown (sanitized HTML, table of contents,
+     * reading time), rendered once per article version.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<Article> getArticleById(@PathVariable Long id, Authentication auth) {
-        Optional<Article> articleOpt = articleRepository.findByIdWithAuthor(id);
+    public ResponseEntity<?> getArticleById(@PathVariable Long id,
+                                            @RequestParam(required = false) String format,
+                                            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                            Authentication auth) {
+        // Only for callers who can edit it (see DraftAutosaveService): no write for other readers
+        draftAutosaveService.flushPending(id, auth);
+        Optional<Article> articleOpt = articleRepository.findById(id);
         if (articleOpt.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
@@ -107,12 +224,58 @@ public class ArticleController {
             if (auth == null || !auth.isAuthenticated()) {
                 return ResponseEntity.notFound().build();
             }
-            boolean canSee = permissionService.canUpdate(article, auth) || permissionService.canDelete(article, auth);
-            if (!canSee) {
+            if (permissionService.permissions(auth, article.getAuthorId()) == 0) {
                 return ResponseEntity.notFound().build();
             }
+        } else {
+            trendingService.recordView(article.getId());
+        }
+        if ("html".equals(format)) {
+            RenderedBody body = renderedArticleCache.get(article.getId(), article.getUpdatedAt(),
+                    () -> contentService.get(article.getId()));
+            return ResponseEntity.ok(RenderedArticleResponse.of(ArticleResponse.from(article), body));
+        }
+        boolean gzipAccepted = AcceptEncoding.acceptsGzip(acceptEncoding);
+        if (gzipAccepted) {
+            byte[] cached = compressedArticleCache.cached(article.getId(), article.getUpdatedAt(), article.getViewCount());
+            if (cached != null) {
+                return gzipped(cached);
+            }
+        }
+        ArticleResponse response = ArticleResponse.from(article, contentService.get(article.getId()));
+        if (gzipAccepted) {
+            byte[] gzip = compressedArticleCache.gzippedJson(response);
+            if (gzip != null) {
+                return gzipped(gzip);
+            }
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET /articles/trending - Most viewed public articles with time-decayed scoring, served from memory.
+     * Query params: window (1h|24h|7d, default 24h), limit (default 10, max 100).
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<?> getTrendingArticles(@RequestParam(defaultValue = "24h") String window,
+                                                 @RequestParam(defaultValue = "10") int limit) {
+        TrendingService.Window w = TrendingService.Window.fromParam(window);
+        if (w == null) {
+            return ResponseEntity.badRequest().body("window must be one of 1h, 24h, 7d");
         }
-        return ResponseEntity.ok(article);
+        long[] ids = trendingService.trending(w, Math.max(0, Math.min(limit, 100)));
+        return ResponseEntity.ok(publishedSummaries(ids));
+    }
+
+    /**
+     * GET /articles/{id}/related - Public articles most similar to this one (tags, category, text),
+     * served from the in-memory similarity index. Query param: limit (default 5, max 20).
+     */
+    @GetMapping("/{id}/related")
+    public List<ArticleSummary> getRelatedArticles(@PathVariable Long id,
+                                                   @RequestParam(defaultValue = "5") int limit) {
+        long[] ids = relatedArticlesIndex.related(id, Math.max(0, Math.min(limit, 20)));
+        return publishedSummaries(ids);
     }
 
     @PostMapping
@@ -121,28 +284,13 @@ public class ArticleController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Insufficient role to create articles");
         }
         Long userId = permissionService.getCurrentUserId(auth);
-        User author = userRepository.findById(userId).orElseThrow(() -> new IllegalStateException("User not found"));
-
-        Article article = new Article();
-        article.setTitle(request.getTitle());
-        article.setContent(request.getContent());
-        article.setCategory(request.getCategory());
-        article.setTags(request.getTags());
-        article.setAuthor(author);
-        article.setCreatedAt(LocalDateTime.now());
-        article.setUpdatedAt(LocalDateTime.now());
-        article.setPublishedAt(request.getPublishedAt());
-        article.setViewCount(0L);
-        article.setFeatured(Boolean.TRUE.equals(request.getFeatured()));
-        article.setPinned(Boolean.TRUE.equals(request.getPinned()));
-
-        article = articleRepository.save(article);
-        return ResponseEntity.status(HttpStatus.CREATED).body(article);
+        Article article = articleService.create(request, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ArticleResponse.from(article, request.getContent()));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<?> updateArticle(@PathVariable Long id, @Valid @RequestBody ArticleRequest request, Authentication auth) {
-        Optional<Article> articleOpt = articleRepository.findByIdWithAuthor(id);
+        Optional<Article> articleOpt = articleRepository.findById(id);
         if (articleOpt.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
@@ -150,21 +298,42 @@ public class ArticleController {
         if (!permissionService.canUpdate(article, auth)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Cannot update this article");
         }
-        article.setTitle(request.getTitle());
-        article.setContent(request.getContent());
-        if (request.getCategory() != null) article.setCategory(request.getCategory());
-        if (request.getTags() != null) article.setTags(request.getTags());
-        article.setUpdatedAt(LocalDateTime.now());
-        if (request.getPublishedAt() != null) article.setPublishedAt(request.getPublishedAt());
-        if (request.getFeatured() != null) article.setFeatured(request.getFeatured());
-        if (request.getPinned() != null) article.setPinned(request.getPinned());
-        article = articleRepository.save(article);
-        return ResponseEntity.ok(article);
+        try {
+            article = articleService.update(article, request, permissionService.getCurrentUserId(auth));
+        } catch (ObjectOptimisticLockingFailureException | PessimisticLockingFailureException e) {
+            // The second case: another write of this article held its row past the lock timeout
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Article modified concurrently, reload it");
+        }
+        return ResponseEntity.ok(ArticleResponse.from(article, request.getContent()));
+    }
+
+    /**
+     * PATCH /articles/{id}/draft - Autosave of an unpublished article: title and/or content edits
+     * against baseVersion. Coalesced in memory and written in the background; 409 on version mismatch,
+     * 500 when the previous edits could not be written and were dropped.
+     */
+    @PatchMapping("/{id}/draft")
+    public ResponseEntity<?> patchDraft(@PathVariable Long id, @Valid @RequestBody DraftPatchRequest request,
+                                        Authentication auth) {
+        try {
+            DraftResponse draft = draftAutosaveService.patch(id, request, auth);
+            return ResponseEntity.ok(draft);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Cannot update this article");
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Article modified concurrently, reload it");
+        } catch (DraftAutosaveService.DraftLostException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteArticle(@PathVariable Long id, Authentication auth) {
-        Optional<Article> articleOpt = articleRepository.findByIdWithAuthor(id);
+        Optional<Article> articleOpt = articleRepository.findById(id);
         if (articleOpt.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
@@ -172,10 +341,29 @@ public class ArticleController {
         if (!permissionService.canDelete(article, auth)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Cannot delete this article");
         }
-        articleRepository.delete(article);
+        articleService.delete(article, permissionService.getCurrentUserId(auth));
         return ResponseEntity.noContent().build();
     }
 
+    private static ResponseEntity<byte[]> gzipped(byte[] body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .body(body);
+    }
+
+    /** Summaries of the given articles in the same order, keeping only those currently published. */
+    private List<ArticleSummary> publishedSummaries(long[] ids) {
+        if (ids.length == 0) return List.of();
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, ArticleSummary> byId = articleRepository.findSummariesByIdIn(Arrays.stream(ids).boxed().toList()).stream()
+                .collect(Collectors.toMap(ArticleSummary::id, Function.identity()));
+        return Arrays.stream(ids).mapToObj(byId::get)
+                .filter(a -> a != null && a.isPublished(now))
+                .toList();
+    }
+
     private static List<String> parseTags(String tags) {
         if (tags == null || tags.isBlank()) return List.of();
         return Arrays.stream(tags.split(","))
@@ -0,0 +1,65 @@
+package com.example.blog_api.controller;
+
+import com.example.blog_api.ArticleRepository;
+import com.example.blog_api.dto.ArticleRevisionInfo;
+import com.example.blog_api.dto.ArticleRevisionResponse;
+import com.example.blog_api.dto.DiffChunk;
+import com.example.blog_api.service.ArticlePermissionService;
+import com.example.blog_api.service.RevisionService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+
+/** Revision history of an article, visible to those who can edit it. */
+@RestController
+@RequestMapping("/articles/{id}/revisions")
+public class ArticleRevisionController {
+
+    private final ArticleRepository articleRepository;
+    private final ArticlePermissionService permissionService;
+    private final RevisionService revisionService;
+
+    public ArticleRevisionController(ArticleRepository articleRepository, ArticlePermissionService permissionService,
+                                     RevisionService revisionService) {
+        this.articleRepository = articleRepository;
+        this.permissionService = permissionService;
+        this.revisionService = revisionService;
+    }
+
+    /** GET /articles/{id}/revisions - Revisions, newest first (metadata only). */
+    @GetMapping
+    public ResponseEntity<List<ArticleRevisionInfo>> list(@PathVariable Long id, Authentication auth) {
+        if (!canSeeHistory(id, auth)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(revisionService.list(id));
+    }
+
+    /** GET /articles/{id}/revisions/{revision} - Title and content as of that revision. */
+    @GetMapping("/{revision}")
+    public ResponseEntity<ArticleRevisionResponse> get(@PathVariable Long id, @PathVariable int revision,
+                                                       Authentication auth) {
+        if (!canSeeHistory(id, auth)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.of(revisionService.get(id, revision));
+    }
+
+    /** GET /articles/{id}/revisions/diff?from=&to= - Line diff between two revisions. */
+    @GetMapping("/diff")
+    public ResponseEntity<List<DiffChunk>> diff(@PathVariable Long id, @RequestParam int from, @RequestParam int to,
+                                                Authentication auth) {
+        if (!canSeeHistory(id, auth)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.of(revisionService.diff(id, from, to));
+    }
+
+    private boolean canSeeHistory(Long id, Authentication auth) {
+        Optional<Long> authorId = articleRepository.findAuthorIdById(id);
+        return authorId.isPresent() && permissionService.canUpdate(authorId.get(), auth);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.blog_api.controller;
+
+import com.example.blog_api.service.LiveFeedService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/articles")
+public class ArticleStreamController {
+
+    private final LiveFeedService liveFeedService;
+
+    public ArticleStreamController(LiveFeedService liveFeedService) {
+        this.liveFeedService = liveFeedService;
+    }
+
+    /**
+     * GET /articles/stream - Server-Sent Events: "published", "updated" and "deleted" notifications
+     * for public articles. Returns 503 when the subscriber limit is reached.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream() {
+        SseEmitter emitter = liveFeedService.subscribe();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.blog_api.controller;
+
+import com.example.blog_api.Article;
+import com.example.blog_api.ArticleRepository;
+import com.example.blog_api.Attachment;
+import com.example.blog_api.AttachmentRepository;
+import com.example.blog_api.config.AttachmentProperties;
+import com.example.blog_api.dto.AttachmentResponse;
+import com.example.blog_api.service.ArticlePermissionService;
+import com.example.blog_api.service.AttachmentService;
+import com.example.blog_api.service.AttachmentStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Image attachments of articles. Uploads are the raw request body (Content-Type = image type),
+ * streamed to the file store without buffering. Files of 48 KB and more are served zero-copy with
+ * Tomcat sendfile when the connector supports it (kernel page cache to socket); otherwise they are
+ * copied to the response stream through a small buffer. Single byte ranges and strong ETags (the
+ * content hash) are supported. Attachments follow their article's
+ * visibility: public once it is published, otherwise only for those who can edit it.
+ */
+@RestController
+public class AttachmentController {
+
+    /** Request attributes of Tomcat's sendfile support (see org.apache.catalina.Globals). */
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    /** Below this size a plain write is cheaper than handing the file to the poller (Tomcat DefaultServlet default). */
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024;
+
+    private final AttachmentRepository attachmentRepository;
+    private final ArticleRepository articleRepository;
+    private final ArticlePermissionService permissionService;
+    private final AttachmentService attachmentService;
+    private final AttachmentStore store;
+    private final AttachmentProperties properties;
+
+    public AttachmentController(AttachmentRepository attachmentRepository, ArticleRepository articleRepository,
+                                ArticlePermissionService permissionService, AttachmentService attachmentService,
+                                AttachmentStore store, AttachmentProperties properties) {
+        this.attachmentRepository = attachmentRepository;
+        this.articleRepository = articleRepository;
+        this.permissionService = permissionService;
+        this.attachmentService = attachmentService;
+        this.store = store;
+        this.properties = properties;
+    }
+
+    /** POST /articles/{id}/attachments?name= - Upload an image (body = bytes, Content-Type = its type). */
+    @PostMapping("/articles/{id}/attachments")
+    public ResponseEntity<?> upload(@PathVariable Long id, @RequestParam(required = false) String name,
+                                    HttpServletRequest request, Authentication auth) throws IOException {
+        Optional<Long> authorId = articleRepository.findAuthorIdById(id);
+        if (authorId.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!permissionService.canUpdate(authorId.get(), auth)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Cannot update this article");
+        }
+        if (request.getContentLengthLong() > properties.getMaxBytes()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body("Attachment too large");
+        }
+        String contentType = request.getContentType() == null ? null
+                : request.getContentType().split(";", 2)[0].trim().toLowerCase();
+        try {
+            Attachment attachment = attachmentService.upload(id, contentType, name, request.getInputStream(),
+                    permissionService.getCurrentUserId(auth));
+            return ResponseEntity.status(HttpStatus.CREATED).body(AttachmentResponse.from(attachment));
+        } catch (AttachmentStore.TooLargeException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body("Attachment too large");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(e.getMessage());
+        }
+    }
+
+    /** GET /articles/{id}/attachments - Attachments of an article, oldest first. */
+    @GetMapping("/articles/{id}/attachments")
+    public ResponseEntity<List<AttachmentResponse>> list(@PathVariable Long id, Authentication auth) {
+        Optional<Article> article = articleRepository.findById(id);
+        if (article.isEmpty() || !isPublished(article.get()) && !permissionService.canUpdate(article.get(), auth)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(attachmentService.list(id).stream().map(AttachmentResponse::from).toList());
+    }
+
+    /** DELETE /attachments/{id} - The file goes with the last attachment referencing it. */
+    @DeleteMapping("/attachments/{id}")
+    public ResponseEntity<?> delete(@PathVariable Long id, Authentication auth) {
+        Optional<Attachment> attachment = attachmentRepository.findById(id);
+        if (attachment.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Optional<Long> authorId = articleRepository.findAuthorIdById(attachment.get().getArticleId());
+        if (authorId.isEmpty() || !permissionService.canUpdate(authorId.get(), auth)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Cannot update this article");
+        }
+        attachmentService.delete(attachment.get());
+        return ResponseEntity.noContent().build();
+    }
+
+    /** GET /attachments/{id} - The stored file. */
+    @GetMapping("/attachments/{id}")
+    public void get(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response,
+                    Authentication auth) throws IOException {
+        serve(id, false, request, response, auth);
+    }
+
+    /** GET /attachments/{id}/thumbnail - PNG thumbnail; the original while it is not made (or cannot be). */
+    @GetMapping("/attachments/{id}/thumbnail")
+    public void thumbnail(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response,
+                          Authentication auth) throws IOException {
+        serve(id, true, request, response, auth);
+    }
+
+    private void serve(Long id, boolean thumbnail, HttpServletRequest request, HttpServletResponse response,
+                       Authentication auth) throws IOException {
+        Optional<Attachment> published = attachmentRepository.findPublishedById(id, LocalDateTime.now());
+        Optional<Attachment> visible = published.isPresent() ? published : editableById(id, auth);
+        if (visible.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Attachment attachment = visible.get();
+        boolean useThumbnail = thumbnail && attachment.getThumbnail() == Attachment.ThumbnailState.READY;
+        Path file = useThumbnail
+                ? store.thumbnailPath(attachment.getSha256(), properties.getThumbnailWidth())
+                : store.path(attachment.getSha256());
+        if (!Files.isRegularFile(file)) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        // Content-addressed: same ETag means same bytes
+        String etag = "\"" + attachment.getSha256() + (useThumbnail ? "-w" + properties.getThumbnailWidth() : "") + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, (published.isPresent()
+                ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable()
+                : CacheControl.noCache().cachePrivate()).getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setContentType(useThumbnail ? "image/png" : attachment.getContentType());
+
+        long length = Files.size(file);
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.trim().equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of(); // malformed: ignored, full content
+            }
+            // Several ranges would need multipart/byteranges; serving the whole file is allowed instead
+            if (ranges.size() == 1) {
+                try {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                } catch (IllegalArgumentException e) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+        if (count >= SENDFILE_MIN_BYTES && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // Tomcat writes the file from the kernel page cache to the socket after the handler returns
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        // Plain copy: the servlet stream is not a socket channel, so no zero-copy is possible here
+        try (InputStream in = Files.newInputStream(file)) {
+            in.skipNBytes(start);
+            OutputStream out = response.getOutputStream();
+            byte[] buffer = new byte[(int) Math.min(count, 64 * 1024)];
+            long remaining = count;
+            while (remaining > 0) {
+                int n = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (n < 0) break;
+                out.write(buffer, 0, n);
+                remaining -= n;
+            }
+        }
+    }
+
+    private Optional<Attachment> editableById(Long id, Authentication auth) {
+        if (auth == null || !auth.isAuthenticated()) {
+            return Optional.empty();
+        }
+        return attachmentRepository.findById(id).filter(a -> articleRepository.findAuthorIdById(a.getArticleId())
+                .map(authorId -> permissionService.canUpdate(authorId, auth))
+                .orElse(false));
+    }
+
+    private static boolean isPublished(Article article) {
+        return article.getPublishedAt() != null && !article.getPublishedAt().isAfter(LocalDateTime.now());
+    }
+
+    /** If-None-Match: "*" or a list of tags; weak comparison as the header requires. */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String tag : ifNoneMatch.split(",")) {
+            String t = tag.trim();
+            if (t.startsWith("W/")) t = t.substring(2);
+            if (t.equals("*") || t.equals(etag)) return true;
+        }
+        return false;
+    }
+}
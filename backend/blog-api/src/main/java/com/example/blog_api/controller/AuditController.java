@@ -0,0 +1,26 @@
+package com.example.blog_api.controller;
+
+import com.example.blog_api.dto.AuditMetrics;
+import com.example.blog_api.service.AuditPipeline;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/audit")
+public class AuditController {
+
+    private final AuditPipeline auditPipeline;
+
+    public AuditController(AuditPipeline auditPipeline) {
+        this.auditPipeline = auditPipeline;
+    }
+
+    /** GET /audit/metrics - Throughput and back-pressure counters of the audit pipeline (admin only). */
+    @GetMapping("/metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public AuditMetrics getMetrics() {
+        return auditPipeline.metrics();
+    }
+}
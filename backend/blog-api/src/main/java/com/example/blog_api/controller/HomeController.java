@@ -0,0 +1,35 @@
+package com.example.blog_api.controller;
+
+import com.example.blog_api.dto.HomeResponse;
+import com.example.blog_api.service.ArticlePermissionService;
+import com.example.blog_api.service.HomeService;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class HomeController {
+
+    private final HomeService homeService;
+    private final ArticlePermissionService permissionService;
+
+    public HomeController(HomeService homeService, ArticlePermissionService permissionService) {
+        this.homeService = homeService;
+        this.permissionService = permissionService;
+    }
+
+    /**
+     * GET /home - Homepage in one request: featured, pinned and latest published articles,
+     * categories, and the caller's profile when authenticated. Sections are loaded in parallel;
+     * a slow or failing one is null and listed in "missing". Articles carry canEdit/canDelete for
+     * callers who can write.
+     */
+    @GetMapping("/home")
+    public HomeResponse getHome(Authentication auth) {
+        HomeResponse home = homeService.load(permissionService.getCurrentUserId(auth));
+        return new HomeResponse(permissionService.withPermissions(home.featured(), auth),
+                permissionService.withPermissions(home.pinned(), auth),
+                home.latest() == null ? null : home.latest().withContent(permissionService.withPermissions(home.latest().content(), auth)),
+                home.categories(), home.user(), home.missing());
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.blog_api.controller;
+
+import com.example.blog_api.config.AdmissionProperties;
+import com.example.blog_api.config.QueryEngineProperties;
+import com.example.blog_api.dto.ArticleResponse;
+import com.example.blog_api.dto.AuthorName;
+import com.example.blog_api.dto.FacetCounts;
+import com.example.blog_api.dto.PageResponse;
+import com.example.blog_api.service.ArticleContentService;
+import com.example.blog_api.service.ArticleMetadataIndex;
+import com.example.blog_api.service.AuthorNameCache;
+import com.example.blog_api.service.CompressedArticleCache;
+import com.example.blog_api.service.ReactiveArticleReader;
+import com.example.blog_api.service.TrendingService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Anonymous reads of GET /articles, /articles/{id} and /articles/categories without blocking a
+ * servlet thread. This is still Spring MVC, not WebFlux: handlers return a Mono, served as servlet
+ * async requests, and the database is read over R2DBC. The one blocking step is the JDBC fallback
+ * for bodies not yet in article_content, moved to boundedElastic. Selected over
+ * {@link ArticleController} by the absence of an Authorization header, with the same parameters
+ * and responses; authenticated reads, writes and format=html stay on the MVC path. Enabled with
+ * app.reactive-reads.enabled.
+ */
+@RestController
+@RequestMapping("/articles")
+@ConditionalOnProperty(prefix = "app.reactive-reads", name = "enabled", havingValue = "true")
+public class ReactiveArticleReadController {
+
+    private final ReactiveArticleReader reader;
+    private final ArticleMetadataIndex metadataIndex;
+    private final QueryEngineProperties queryEngineProperties;
+    private final AdmissionProperties admissionProperties;
+    private final AuthorNameCache authorNameCache;
+    private final CompressedArticleCache compressedArticleCache;
+    private final ArticleContentService contentService;
+    private final TrendingService trendingService;
+
+    public ReactiveArticleReadController(ReactiveArticleReader reader, ArticleMetadataIndex metadataIndex,
+                                         QueryEngineProperties queryEngineProperties,
+                                         AdmissionProperties admissionProperties,
+                                         AuthorNameCache authorNameCache,
+                                         CompressedArticleCache compressedArticleCache,
+                                         ArticleContentService contentService,
+                                         TrendingService trendingService) {
+        this.reader = reader;
+        this.metadataIndex = metadataIndex;
+        this.queryEngineProperties = queryEngineProperties;
+        this.admissionProperties = admissionProperties;
+        this.authorNameCache = authorNameCache;
+        this.compressedArticleCache = compressedArticleCache;
+        this.contentService = contentService;
+        this.trendingService = trendingService;
+    }
+
+    /** Same as {@link ArticleController#getAllArticles}. */
+    @GetMapping(headers = "!Authorization")
+    public Mono<PageResponse<ArticleResponse>> getAllArticles(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false, defaultValue = "desc") String order,
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String tags,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
+            @RequestParam(required = false, defaultValue = "true") Boolean publishedOnly,
+            @RequestParam(required = false) Boolean featured,
+            @RequestParam(required = false) Boolean pinned,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean facets) {
+
+        LocalDateTime now = LocalDateTime.now();
+        List<String> tagList = tags == null || tags.isBlank() ? null : parseTags(tags);
+        ReactiveArticleReader.Query query = new ReactiveArticleReader.Query(keyword, authorId, category, tagList,
+                dateFrom != null ? dateFrom.atStartOfDay() : null,
+                dateTo != null ? dateTo.atTime(LocalTime.MAX) : null,
+                Boolean.TRUE.equals(publishedOnly) ? now : null,
+                Boolean.TRUE.equals(featured), Boolean.TRUE.equals(pinned));
+        boolean ascending = "asc".equalsIgnoreCase(order);
+        String sortKey = sort != null && !sort.isBlank() ? sort.toLowerCase() : "date";
+        int pageNumber = Math.max(0, page);
+        int pageSize = Math.max(1, Math.min(size, admissionProperties.getMaxPageSize()));
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+
+        Mono<List<Long>> keywordMatches = hasKeyword && facets ? reader.keywordMatches(keyword) : Mono.just(List.of());
+        return keywordMatches.flatMap(matches -> {
+            ArticleMetadataIndex.Filter filter = new ArticleMetadataIndex.Filter(authorId, category, tagList,
+                    query.createdFrom(), query.createdTo(), query.publishedAsOf(), query.featured(), query.pinned(),
+                    hasKeyword && facets ? matches : null);
+            ArticleMetadataIndex.IdPage ids = queryEngineProperties.isEnabled() && !hasKeyword
+                    ? metadataIndex.query(filter, switch (sortKey) {
+                        case "popularity" -> ArticleMetadataIndex.Order.POPULARITY;
+                        case "title" -> ArticleMetadataIndex.Order.TITLE;
+                        default -> ArticleMetadataIndex.Order.DATE;
+                    }, ascending, pageNumber, pageSize)
+                    : null;
+            Mono<ReactiveArticleReader.ArticlePage> result = ids != null
+                    ? reader.findAllById(ids.ids()).map(content -> new ReactiveArticleReader.ArticlePage(content, ids.total()))
+                    : reader.page(query, switch (sortKey) {
+                        case "popularity" -> "view_count";
+                        case "title" -> "title";
+                        default -> "created_at";
+                    }, ascending, pageNumber, pageSize);
+            return result.flatMap(this::withAuthorNames).map(articlePage -> {
+                long total = articlePage.total();
+                int totalPages = (int) ((total + pageSize - 1) / pageSize);
+                PageResponse<ArticleResponse> response = new PageResponse<>(articlePage.content(), total, totalPages,
+                        pageSize, pageNumber, pageNumber == 0, pageNumber + 1 >= totalPages, null);
+                FacetCounts counts = facets ? metadataIndex.count(filter) : null;
+                return counts != null ? response.withFacets(counts) : response;
+            });
+        });
+    }
+
+    @GetMapping(value = "/categories", headers = "!Authorization")
+    public Mono<List<String>> getCategories() {
+        return reader.categories();
+    }
+
+    /** Same as {@link ArticleController#getArticleById} for anonymous callers: published articles only. */
+    @GetMapping(value = "/{id}", headers = "!Authorization", params = "format!=html")
+    public Mono<ResponseEntity<?>> getArticleById(@PathVariable Long id,
+                                                  @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean gzipAccepted = AcceptEncoding.acceptsGzip(acceptEncoding);
+        return reader.findById(id)
+                .filter(article -> article.publishedAt() != null && !article.publishedAt().isAfter(now))
+                .flatMap(article -> {
+                    trendingService.recordView(article.id());
+                    if (gzipAccepted) {
+                        byte[] cached = compressedArticleCache.cached(article.id(), article.updatedAt(), article.viewCount());
+                        if (cached != null) {
+                            return Mono.<ResponseEntity<?>>just(gzipped(cached));
+                        }
+                    }
+                    return reader.body(article.id())
+                            .map(ReactiveArticleReader.Body::text)
+                            // Not in article_content yet (migration running): legacy columns, read off the event loop
+                            .switchIfEmpty(Mono.fromCallable(() -> contentService.get(article.id()))
+                                    .subscribeOn(Schedulers.boundedElastic()))
+                            .<ResponseEntity<?>>map(content -> toDetail(article, content, gzipAccepted))
+                            .switchIfEmpty(Mono.<ResponseEntity<?>>fromSupplier(() -> toDetail(article, null, gzipAccepted)));
+                })
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    private ResponseEntity<?> toDetail(ArticleResponse article, String content, boolean gzipAccepted) {
+        ArticleResponse response = new ArticleResponse(article.id(), article.title(), content, article.excerpt(),
+                article.wordCount(), article.createdAt(), article.updatedAt(), article.publishedAt(),
+                article.viewCount(), article.authorId(), null, article.category(), article.tags(),
+                article.featured(), article.pinned(), article.version(), null, null);
+        if (gzipAccepted) {
+            byte[] gzip = compressedArticleCache.gzippedJson(response);
+            if (gzip != null) {
+                return gzipped(gzip);
+            }
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /** Usernames from the cache, the misses in one R2DBC query. */
+    private Mono<ReactiveArticleReader.ArticlePage> withAuthorNames(ReactiveArticleReader.ArticlePage page) {
+        List<Long> authorIds = page.content().stream().map(ArticleResponse::authorId).filter(Objects::nonNull).distinct().toList();
+        Map<Long, String> cached = authorNameCache.cachedUsernames(authorIds);
+        List<Long> missing = authorIds.stream().filter(authorId -> !cached.containsKey(authorId)).toList();
+        return reader.authorNames(missing).map(loaded -> {
+            Map<Long, String> names = new HashMap<>(cached);
+            for (AuthorName author : loaded) {
+                authorNameCache.update(author.id(), author.username());
+                names.put(author.id(), author.username());
+            }
+            return new ReactiveArticleReader.ArticlePage(page.content().stream()
+                    .map(a -> a.withAuthorUsername(names.get(a.authorId())))
+                    .toList(), page.total());
+        });
+    }
+
+    private static ResponseEntity<byte[]> gzipped(byte[] body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .body(body);
+    }
+
+    private static List<String> parseTags(String tags) {
+        return Arrays.stream(tags.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.blog_api.dto;
+
+import com.example.blog_api.ArticleChange;
+import com.example.blog_api.ArticleChangeType;
+
+import java.time.LocalDateTime;
+
+/** A committed article write, as delivered to {@link com.example.blog_api.service.ArticleChangeListener}s. */
+public record ArticleChangeEvent(long changeId, long articleId, Long authorId, ArticleChangeType type, LocalDateTime createdAt) {
+
+    public static ArticleChangeEvent from(ArticleChange change) {
+        return new ArticleChangeEvent(change.getId(), change.getArticleId(), change.getAuthorId(), change.getType(),
+                change.getCreatedAt());
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.blog_api.dto;
+
+import java.time.LocalDateTime;
+
+/** Compact live-feed message: type is "published", "updated" or "deleted" (only id is set for deletes). */
+public record ArticleNotification(String type, long id, String title, String category, LocalDateTime publishedAt) {
+
+    public static final String PUBLISHED = "published";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+}
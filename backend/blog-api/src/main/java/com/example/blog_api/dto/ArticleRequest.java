@@ -23,6 +23,9 @@ public class ArticleRequest {
     private Boolean featured;
     private Boolean pinned;
 
+    /** Version the client edited; when set, the update fails with 409 if the article changed since. */
+    private Long version;
+
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
     public String getContent() { return content; }
@@ -37,4 +40,6 @@ public class ArticleRequest {
     public void setFeatured(Boolean featured) { this.featured = featured; }
     public Boolean getPinned() { return pinned; }
     public void setPinned(Boolean pinned) { this.pinned = pinned; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
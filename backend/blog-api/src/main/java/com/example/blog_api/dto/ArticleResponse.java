@@ -0,0 +1,81 @@
+package com.example.blog_api.dto;
+
+import com.example.blog_api.Article;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * Article as returned by the API; built from the entity once, then serialized without touching Hibernate.
+ * Listings carry only the excerpt, and the author's username; content is set for the detail and
+ * write responses. canEdit/canDelete are per caller, so only set on listings for callers with
+ * write grants (see ArticlePermissionService.withPermissions), never on cached bodies.
+ */
+public record ArticleResponse(
+        Long id,
+        String title,
+        String content,
+        String excerpt,
+        Integer wordCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime publishedAt,
+        Long viewCount,
+        Long authorId,
+        String authorUsername,
+        String category,
+        String tags,
+        boolean featured,
+        boolean pinned,
+        Long version,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Boolean canEdit,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Boolean canDelete
+) {
+
+    /** Metadata only (no body). */
+    public static ArticleResponse from(Article article) {
+        return from(article, null);
+    }
+
+    public static ArticleResponse from(Article article, String content) {
+        return from(article, content, null);
+    }
+
+    /** Metadata with the author's username (listings). */
+    public static ArticleResponse listed(Article article, String authorUsername) {
+        return from(article, null, authorUsername);
+    }
+
+    public ArticleResponse withAuthorUsername(String authorUsername) {
+        return new ArticleResponse(id, title, content, excerpt, wordCount, createdAt, updatedAt, publishedAt,
+                viewCount, authorId, authorUsername, category, tags, featured, pinned, version, canEdit, canDelete);
+    }
+
+    public ArticleResponse withPermissions(boolean canEdit, boolean canDelete) {
+        return new ArticleResponse(id, title, content, excerpt, wordCount, createdAt, updatedAt, publishedAt,
+                viewCount, authorId, authorUsername, category, tags, featured, pinned, version, canEdit, canDelete);
+    }
+
+    private static ArticleResponse from(Article article, String content, String authorUsername) {
+        return new ArticleResponse(
+                article.getId(),
+                article.getTitle(),
+                content,
+                article.getExcerpt(),
+                article.getWordCount(),
+                article.getCreatedAt(),
+                article.getUpdatedAt(),
+                article.getPublishedAt(),
+                article.getViewCount(),
+                article.getAuthorId(),
+                authorUsername,
+                article.getCategory(),
+                article.getTags(),
+                article.isFeatured(),
+                article.isPinned(),
+                article.getVersion(),
+                null,
+                null
+        );
+    }
+}
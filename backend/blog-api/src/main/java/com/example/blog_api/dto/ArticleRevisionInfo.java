@@ -0,0 +1,7 @@
+package com.example.blog_api.dto;
+
+import java.time.LocalDateTime;
+
+/** Revision metadata for the history listing (stored data is not loaded). */
+public record ArticleRevisionInfo(int revision, String title, boolean snapshot, int contentLength,
+                                  Long actorId, LocalDateTime createdAt) {}
@@ -0,0 +1,7 @@
+package com.example.blog_api.dto;
+
+import java.time.LocalDateTime;
+
+/** A reconstructed revision. */
+public record ArticleRevisionResponse(long articleId, int revision, String title, String content,
+                                      Long actorId, LocalDateTime createdAt) {}
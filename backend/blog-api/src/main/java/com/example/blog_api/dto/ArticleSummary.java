@@ -0,0 +1,22 @@
+package com.example.blog_api.dto;
+
+import java.time.LocalDateTime;
+
+/** Article metadata without the content column, loaded through JPQL constructor expressions. */
+public record ArticleSummary(
+        Long id,
+        String title,
+        Long authorId,
+        String category,
+        String tags,
+        LocalDateTime createdAt,
+        LocalDateTime publishedAt,
+        Long viewCount,
+        boolean featured,
+        boolean pinned
+) {
+
+    public boolean isPublished(LocalDateTime now) {
+        return publishedAt != null && !publishedAt.isAfter(now);
+    }
+}
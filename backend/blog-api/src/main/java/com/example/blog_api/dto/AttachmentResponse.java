@@ -0,0 +1,17 @@
+package com.example.blog_api.dto;
+
+import com.example.blog_api.Attachment;
+
+import java.time.LocalDateTime;
+
+/** Attachment metadata; url and thumbnailUrl are relative to the API root. */
+public record AttachmentResponse(Long id, Long articleId, String contentType, long size, String originalName,
+                                 Integer width, Integer height, String thumbnail, String url, String thumbnailUrl,
+                                 LocalDateTime createdAt) {
+
+    public static AttachmentResponse from(Attachment a) {
+        return new AttachmentResponse(a.getId(), a.getArticleId(), a.getContentType(), a.getSize(),
+                a.getOriginalName(), a.getWidth(), a.getHeight(), a.getThumbnail().name(),
+                "/attachments/" + a.getId(), "/attachments/" + a.getId() + "/thumbnail", a.getCreatedAt());
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.blog_api.dto;
+
+/** Counters of the audit pipeline since startup. */
+public record AuditMetrics(
+        long enqueued,
+        long written,
+        long dropped,
+        long callerRuns,
+        long failed,
+        long replayed,
+        long batches,
+        int queued,
+        int capacity,
+        double writtenPerSecond
+) {}
@@ -6,6 +6,10 @@ public class AuthResponse {
 
     private String token;
     private String type = "Bearer";
+    /** Exchanged at POST /auth/refresh for a new pair before the access token expires. */
+    private String refreshToken;
+    /** Lifetime of the access token, in seconds. */
+    private long expiresIn;
     private Long id;
     private String username;
     private String email;
@@ -13,8 +17,10 @@ public class AuthResponse {
 
     public AuthResponse() {}
 
-    public AuthResponse(String token, Long id, String username, String email, Role role) {
+    public AuthResponse(String token, String refreshToken, long expiresIn, Long id, String username, String email, Role role) {
         this.token = token;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
         this.id = id;
         this.username = username;
         this.email = email;
@@ -25,6 +31,10 @@ public class AuthResponse {
     public void setToken(String token) { this.token = token; }
     public String getType() { return type; }
     public void setType(String type) { this.type = type; }
+    public String getRefreshToken() { return refreshToken; }
+    public void setRefreshToken(String refreshToken) { this.refreshToken = refreshToken; }
+    public long getExpiresIn() { return expiresIn; }
+    public void setExpiresIn(long expiresIn) { this.expiresIn = expiresIn; }
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     public String getUsername() { return username; }
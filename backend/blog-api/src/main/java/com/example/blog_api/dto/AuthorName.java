@@ -0,0 +1,4 @@
+package com.example.blog_api.dto;
+
+/** User id and username only, loaded through a JPQL constructor expression for article listings. */
+public record AuthorName(Long id, String username) {}
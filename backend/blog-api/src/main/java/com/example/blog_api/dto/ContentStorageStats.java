@@ -0,0 +1,17 @@
+package com.example.blog_api.dto;
+
+/**
+ * Article body storage footprint. tableBytes (article_content incl. TOAST and indexes),
+ * searchTextBytes (the plain-text copy of compressed bodies kept for keyword search) and the buffer
+ * cache hit ratios are PostgreSQL statistics, null on other databases.
+ */
+public record ContentStorageStats(
+        long articles,
+        long compressedRows,
+        long textBytes,
+        long compressedBytes,
+        Long tableBytes,
+        Long searchTextBytes,
+        Double heapCacheHitRatio,
+        Double toastCacheHitRatio
+) {}
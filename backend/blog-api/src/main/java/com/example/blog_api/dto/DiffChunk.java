@@ -0,0 +1,4 @@
+package com.example.blog_api.dto;
+
+/** Run of lines in a diff; type is "equal", "insert" or "delete". */
+public record DiffChunk(String type, String text) {}
@@ -0,0 +1,24 @@
+package com.example.blog_api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Autosave of a draft against a known state: the article version last read or returned by an
+ * autosave, and the sequence of the last accepted autosave (null or 0 right after reading the
+ * article). Carries an optional new title and a list of content edits, applied in order, each
+ * against the result of the previous one.
+ */
+public record DraftPatchRequest(
+        @NotNull Long baseVersion,
+        Long baseSequence,
+        @Size(min = 1, max = 500) String title,
+        @Valid List<TextEdit> edits
+) {
+
+    /** Replaces content[start, end) with text (UTF-16 offsets, as in JavaScript strings). */
+    public record TextEdit(int start, int end, @NotNull String text) {}
+}
@@ -0,0 +1,7 @@
+package com.example.blog_api.dto;
+
+/**
+ * Version (the article version in the database, to send with PUT) and sequence (autosaves accepted)
+ * to send with the next patch; pending = not yet written to the database.
+ */
+public record DraftResponse(long id, long version, long sequence, boolean pending) {}
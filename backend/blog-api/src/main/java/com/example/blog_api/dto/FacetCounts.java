@@ -0,0 +1,17 @@
+package com.example.blog_api.dto;
+
+import java.util.Map;
+
+/**
+ * Result counts per facet value for a filter set. Each facet is counted under all the other
+ * filters but not its own, so a selected category still shows the counts of its alternatives.
+ * Maps are ordered by count (months: most recent first); keys of authors are user ids.
+ */
+public record FacetCounts(
+        long total,
+        Map<String, Long> categories,
+        Map<String, Long> tags,
+        Map<Long, Long> authors,
+        Map<String, Long> months
+) {
+}
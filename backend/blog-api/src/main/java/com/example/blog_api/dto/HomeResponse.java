@@ -0,0 +1,17 @@
+package com.example.blog_api.dto;
+
+import java.util.List;
+
+/**
+ * GET /home: everything the homepage shows on first load. A section whose branch failed or timed
+ * out is null and named in missing (featured, pinned, latest, categories, user); user is also null
+ * for anonymous visitors, without being missing.
+ */
+public record HomeResponse(
+        List<ArticleResponse> featured,
+        List<ArticleResponse> pinned,
+        PageResponse<ArticleResponse> latest,
+        List<String> categories,
+        UserProfileResponse user,
+        List<String> missing
+) {}
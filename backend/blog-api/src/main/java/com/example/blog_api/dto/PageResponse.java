@@ -0,0 +1,46 @@
+package com.example.blog_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Compact page envelope matching the frontend Page&lt;T&gt; interface (api.ts).
+ * Unlike Spring's PageImpl it does not serialize pageable/sort metadata.
+ * facets is only present when requested (GET /articles?facets=true).
+ */
+public record PageResponse<T>(
+        List<T> content,
+        long totalElements,
+        int totalPages,
+        int size,
+        int number,
+        boolean first,
+        boolean last,
+        @JsonInclude(JsonInclude.Include.NON_NULL) FacetCounts facets
+) {
+
+    public static <S, T> PageResponse<T> of(Page<S> page, Function<? super S, ? extends T> mapper) {
+        List<T> content = page.getContent().stream().<T>map(mapper).toList();
+        return new PageResponse<>(
+                content,
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.getSize(),
+                page.getNumber(),
+                page.isFirst(),
+                page.isLast(),
+                null
+        );
+    }
+
+    public PageResponse<T> withContent(List<T> content) {
+        return new PageResponse<>(content, totalElements, totalPages, size, number, first, last, facets);
+    }
+
+    public PageResponse<T> withFacets(FacetCounts facets) {
+        return new PageResponse<>(content, totalElements, totalPages, size, number, first, last, facets);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.blog_api.dto;
+
+import java.util.List;
+
+/** GET /articles/{id}?format=html: article metadata (content null) and the rendered body. */
+public record RenderedArticleResponse(
+        ArticleResponse article,
+        String html,
+        List<TocEntry> toc,
+        int wordCount,
+        int readingTimeMinutes
+) {
+
+    public static RenderedArticleResponse of(ArticleResponse article, RenderedBody body) {
+        return new RenderedArticleResponse(article, body.html(), body.toc(), body.wordCount(), body.readingTimeMinutes());
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.blog_api.dto;
+
+import java.util.List;
+
+/** Article body rendered from markdown to sanitized HTML, with what was computed along the way. */
+public record RenderedBody(String html, List<TocEntry> toc, int wordCount, int readingTimeMinutes) {
+
+    /** Rough heap footprint, for the cache budget. */
+    public long sizeInBytes() {
+        long size = 64 + 2L * html.length();
+        for (TocEntry entry : toc) {
+            size += 48 + 2L * (entry.id().length() + entry.text().length());
+        }
+        return size;
+    }
+}
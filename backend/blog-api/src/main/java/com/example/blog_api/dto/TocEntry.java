@@ -0,0 +1,5 @@
+package com.example.blog_api.dto;
+
+/** Heading of a rendered article; id is the anchor set on the heading element. */
+public record TocEntry(int level, String id, String text) {
+}
@@ -2,6 +2,8 @@ package com.example.blog_api.dto;
 
 import com.example.blog_api.Role;
 
+import java.time.LocalDateTime;
+
 public class UserProfileResponse {
 
     private Long id;
@@ -9,15 +11,27 @@ public class UserProfileResponse {
     private String email;
     private Role role;
     private long articleCount;
+    private long publishedCount;
+    private long draftCount;
+    private long scheduledCount;
+    private long totalViews;
+    private LocalDateTime lastPublishedAt;
 
     public UserProfileResponse() {}
 
-    public UserProfileResponse(Long id, String username, String email, Role role, long articleCount) {
+    public UserProfileResponse(Long id, String username, String email, Role role, long articleCount,
+                               long publishedCount, long draftCount, long scheduledCount, long totalViews,
+                               LocalDateTime lastPublishedAt) {
         this.id = id;
         this.username = username;
         this.email = email;
         this.role = role;
         this.articleCount = articleCount;
+        this.publishedCount = publishedCount;
+        this.draftCount = draftCount;
+        this.scheduledCount = scheduledCount;
+        this.totalViews = totalViews;
+        this.lastPublishedAt = lastPublishedAt;
     }
 
     public Long getId() { return id; }
@@ -30,4 +44,14 @@ public class UserProfileResponse {
     public void setRole(Role role) { this.role = role; }
     public long getArticleCount() { return articleCount; }
     public void setArticleCount(long articleCount) { this.articleCount = articleCount; }
+    public long getPublishedCount() { return publishedCount; }
+    public void setPublishedCount(long publishedCount) { this.publishedCount = publishedCount; }
+    public long getDraftCount() { return draftCount; }
+    public void setDraftCount(long draftCount) { this.draftCount = draftCount; }
+    public long getScheduledCount() { return scheduledCount; }
+    public void setScheduledCount(long scheduledCount) { this.scheduledCount = scheduledCount; }
+    public long getTotalViews() { return totalViews; }
+    public void setTotalViews(long totalViews) { this.totalViews = totalViews; }
+    public LocalDateTime getLastPublishedAt() { return lastPublishedAt; }
+    public void setLastPublishedAt(LocalDateTime lastPublishedAt) { this.lastPublishedAt = lastPublishedAt; }
 }
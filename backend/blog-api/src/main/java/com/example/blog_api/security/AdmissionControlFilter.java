@@ -0,0 +1,172 @@
+package com.example.blog_api.security;
+
+import com.example.blog_api.config.AdmissionProperties;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admission control, placed right after JWT authentication in the security chain.
+ * Every request takes a token from its client IP bucket and, when authenticated, from its user
+ * bucket; it then needs a free slot in its endpoint class. Rejections are immediate 429s with
+ * Retry-After: nothing queues, so overload never reaches the connection pool. An async request
+ * (Mono or SseEmitter handler) keeps its slot until the response completes, not just until the
+ * handler returns.
+ */
+@Component
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    enum EndpointClass { SEARCH, LIST, WRITE, AUTH }
+
+    private final AdmissionProperties properties;
+    private final RateLimiter<String> ipLimiter;
+    private final RateLimiter<Long> userLimiter;
+    private final Map<EndpointClass, Semaphore> slots = new EnumMap<>(EndpointClass.class);
+
+    public AdmissionControlFilter(AdmissionProperties properties) {
+        this.properties = properties;
+        this.ipLimiter = new RateLimiter<>(properties.getIpCapacity(), properties.getIpRefillPerSecond(),
+                properties.getMaxBuckets());
+        this.userLimiter = new RateLimiter<>(properties.getUserCapacity(), properties.getUserRefillPerSecond(),
+                properties.getMaxBuckets());
+        slots.put(EndpointClass.SEARCH, new Semaphore(properties.getSearchConcurrency()));
+        slots.put(EndpointClass.LIST, new Semaphore(properties.getListConcurrency()));
+        slots.put(EndpointClass.WRITE, new Semaphore(properties.getWriteConcurrency()));
+        slots.put(EndpointClass.AUTH, new Semaphore(properties.getAuthConcurrency()));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || "OPTIONS".equals(request.getMethod())
+                || request.getRequestURI().startsWith("/h2-console");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        // Client address behind a trusted proxy (server.forward-headers-strategy=native)
+        long wait = ipLimiter.tryAcquire(request.getRemoteAddr());
+        Long userId = currentUserId();
+        if (wait == 0 && userId != null) {
+            wait = userLimiter.tryAcquire(userId);
+        }
+        if (wait > 0) {
+            reject(response, TimeUnit.NANOSECONDS.toSeconds(wait - 1) + 1);
+            return;
+        }
+        EndpointClass endpointClass = classify(request);
+        Semaphore semaphore = endpointClass == null ? null : slots.get(endpointClass);
+        if (semaphore == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!semaphore.tryAcquire()) {
+            reject(response, 1);
+            return;
+        }
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            async = request.isAsyncStarted();
+        } finally {
+            if (async) {
+                request.getAsyncContext().addListener(new SlotRelease(semaphore));
+            } else {
+                semaphore.release();
+            }
+        }
+    }
+
+    /** Releases the slot of an async request once, on whichever of complete/error/timeout comes first. */
+    private static final class SlotRelease implements AsyncListener {
+
+        private final Semaphore semaphore;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        SlotRelease(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                semaphore.release();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) { release(); }
+
+        @Override
+        public void onTimeout(AsyncEvent event) { release(); }
+
+        @Override
+        public void onError(AsyncEvent event) { release(); }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Re-dispatched: keep listening on the new cycle
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.admission.sweep-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        ipLimiter.evictIdle();
+        userLimiter.evictIdle();
+    }
+
+    static EndpointClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.startsWith("/auth/")) {
+            return EndpointClass.AUTH;
+        }
+        if (!"GET".equals(request.getMethod())) {
+            return EndpointClass.WRITE;
+        }
+        if (path.equals("/articles")) {
+            String keyword = request.getParameter("keyword");
+            return keyword != null && !keyword.isBlank() ? EndpointClass.SEARCH : EndpointClass.LIST;
+        }
+        if (path.equals("/home")) {
+            return EndpointClass.LIST;
+        }
+        // Detail pages and small fixed-size reads are only rate limited; the SSE stream holds no slot
+        return null;
+    }
+
+    private static Long currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof UserDetailsImpl user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    private static void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("Too many requests, retry later");
+    }
+}
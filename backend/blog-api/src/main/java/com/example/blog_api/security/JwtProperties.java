@@ -8,10 +8,29 @@ import org.springframework.stereotype.Component;
 public class JwtProperties {
 
     private String secret = "change-me-in-production-use-at-least-256-bit-secret-key-for-hs256";
-    private long expirationMs = 86400000L; // 24 hours
+    /** Access tokens: short-lived, renewed with the refresh token. */
+    private long expirationMs = 900000L; // 15 minutes
+    private long refreshExpirationMs = 2592000000L; // 30 days
+    /** Bloom filter sizing of the revocation list (grown on rebuild when exceeded). */
+    private int revocationExpectedEntries = 100_000;
+    private double revocationFalsePositiveRate = 0.001;
+    /** Pulls revocations made on other nodes from the table. */
+    private long revocationSyncMs = 5000;
+    /** Full reload: drops expired entries from memory and purges them from the table. */
+    private long revocationRebuildMs = 3600000;
 
     public String getSecret() { return secret; }
     public void setSecret(String secret) { this.secret = secret; }
     public long getExpirationMs() { return expirationMs; }
     public void setExpirationMs(long expirationMs) { this.expirationMs = expirationMs; }
+    public long getRefreshExpirationMs() { return refreshExpirationMs; }
+    public void setRefreshExpirationMs(long refreshExpirationMs) { this.refreshExpirationMs = refreshExpirationMs; }
+    public int getRevocationExpectedEntries() { return revocationExpectedEntries; }
+    public void setRevocationExpectedEntries(int revocationExpectedEntries) { this.revocationExpectedEntries = revocationExpectedEntries; }
+    public double getRevocationFalsePositiveRate() { return revocationFalsePositiveRate; }
+    public void setRevocationFalsePositiveRate(double revocationFalsePositiveRate) { this.revocationFalsePositiveRate = revocationFalsePositiveRate; }
+    public long getRevocationSyncMs() { return revocationSyncMs; }
+    public void setRevocationSyncMs(long revocationSyncMs) { this.revocationSyncMs = revocationSyncMs; }
+    public long getRevocationRebuildMs() { return revocationRebuildMs; }
+    public void setRevocationRebuildMs(long revocationRebuildMs) { this.revocationRebuildMs = revocationRebuildMs; }
 }
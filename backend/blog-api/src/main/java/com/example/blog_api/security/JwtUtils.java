@@ -10,10 +10,14 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtils {
 
+    private static final String TYPE = "type";
+    private static final String REFRESH = "refresh";
+
     private final JwtProperties properties;
 
     public JwtUtils(JwtProperties properties) {
@@ -28,8 +32,10 @@ public class JwtUtils {
         return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
     }
 
+    /** Access token, with a random id (jti) so it can be revoked. */
     public String generateToken(User user) {
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(user.getUsername())
                 .claim("userId", user.getId())
                 .claim("role", user.getRole().name())
@@ -39,13 +45,42 @@ public class JwtUtils {
                 .compact();
     }
 
+    /** Refresh token: only accepted by POST /auth/refresh, never as a bearer token. */
+    public String generateRefreshToken(User user) {
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(user.getUsername())
+                .claim("userId", user.getId())
+                .claim(TYPE, REFRESH)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + properties.getRefreshExpirationMs()))
+                .signWith(signingKey())
+                .compact();
+    }
+
+    /** Claims of a valid, unexpired access token; null otherwise (including refresh tokens). */
+    public Claims parseAccessToken(String token) {
+        Claims claims = parse(token);
+        return claims != null && !REFRESH.equals(claims.get(TYPE, String.class)) ? claims : null;
+    }
+
+    /** Claims of a valid, unexpired refresh token; null otherwise. */
+    public Claims parseRefreshToken(String token) {
+        Claims claims = parse(token);
+        return claims != null && REFRESH.equals(claims.get(TYPE, String.class)) ? claims : null;
+    }
+
+    public static Long userId(Claims claims) {
+        Number n = claims.get("userId", Number.class);
+        return n != null ? n.longValue() : null;
+    }
+
     public String getUsernameFromToken(String token) {
         return getClaims(token).getSubject();
     }
 
     public Long getUserIdFromToken(String token) {
-        Number n = getClaims(token).get("userId", Number.class);
-        return n != null ? n.longValue() : null;
+        return userId(getClaims(token));
     }
 
     public String getRoleFromToken(String token) {
@@ -53,11 +88,14 @@ public class JwtUtils {
     }
 
     public boolean validateToken(String token) {
+        return parseAccessToken(token) != null;
+    }
+
+    private Claims parse(String token) {
         try {
-            getClaims(token);
-            return true;
+            return getClaims(token);
         } catch (Exception e) {
-            return false;
+            return null;
         }
     }
 
@@ -0,0 +1,59 @@
+package com.example.blog_api.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets keyed by client, stored as GCRA state: one "theoretical arrival time" per key,
+ * updated with a single CAS, so acquiring never locks. A bucket whose arrival time is in the past
+ * is full, i.e. indistinguishable from a fresh one, so the sweep can drop it without losing state.
+ * The map is bounded: once full, unknown keys share one overflow bucket until the next sweep.
+ */
+public class RateLimiter<K> {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxBuckets;
+    private final Map<K, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow = new AtomicLong(System.nanoTime());
+
+    public RateLimiter(int capacity, double refillPerSecond, int maxBuckets) {
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(1, capacity);
+        this.maxBuckets = maxBuckets;
+    }
+
+    /** Takes one token for the key: returns 0 if granted, otherwise the nanos until a token is available. */
+    public long tryAcquire(K key) {
+        long now = System.nanoTime();
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            tat = buckets.size() < maxBuckets
+                    ? buckets.computeIfAbsent(key, k -> new AtomicLong(now))
+                    : overflow;
+        }
+        while (true) {
+            long current = tat.get();
+            long next = (current - now > 0 ? current : now) + emissionIntervalNanos;
+            long wait = next - burstToleranceNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /** Drops buckets that have refilled completely. */
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(tat -> tat.get() - now <= 0);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
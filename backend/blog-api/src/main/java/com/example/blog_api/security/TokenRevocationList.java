@@ -0,0 +1,112 @@
+package com.example.blog_api.security;
+
+import com.example.blog_api.RevokedToken;
+import com.example.blog_api.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ids (jti) of the revoked, unexpired JWTs, held in memory so that every authenticated request can
+ * check its token without a query. A Bloom filter answers "not revoked" for almost every token
+ * after a few bit reads; only its rare positives (revoked tokens and false positives) go on to the
+ * exact hash map (jti -> expiry). The revoked_tokens table is the source of truth. Revocations
+ * made on this node are added right away, and broadcast by CacheCoherenceService when a transport
+ * is set; the others are pulled from the table every app.jwt.revocation-sync-ms. The Bloom filter
+ * cannot drop entries, so both structures are rebuilt from the table, without the expired tokens,
+ * every app.jwt.revocation-rebuild-ms.
+ */
+@Component
+@Lazy(false)
+public class TokenRevocationList {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationList.class);
+    /** Re-read window of the incremental sync: rows committed late, clock skew between nodes. */
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    /** Swapped as a whole on rebuild, so that a check never pairs a new filter with an old map. */
+    private record State(BloomFilter bloom, Map<String, LocalDateTime> expiries) {}
+
+    private final RevokedTokenRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final JwtProperties properties;
+
+    private volatile State state;
+    private LocalDateTime lastSync;
+    private LocalDateTime lastRebuild;
+
+    public TokenRevocationList(RevokedTokenRepository repository, TransactionTemplate transactionTemplate,
+                               JwtProperties properties) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    /** Before the first request: a revoked token must not be accepted while the list is loading. */
+    @PostConstruct
+    void load() {
+        rebuild(LocalDateTime.now());
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null) return false; // tokens issued before jti existed
+        State s = state;
+        return s.bloom().mightContain(jti) && s.expiries().containsKey(jti);
+    }
+
+    /** A revocation committed on this node or received from a peer; expiresAt is the token's own expiry. */
+    public void add(String jti, LocalDateTime expiresAt) {
+        State s = state;
+        // Map first: a reader that sees the filter bits then finds the entry
+        if (s.expiries().putIfAbsent(jti, expiresAt) == null) {
+            s.bloom().put(jti);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation-sync-ms:5000}")
+    public synchronized void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        if (!now.isBefore(lastRebuild.plus(Duration.ofMillis(properties.getRevocationRebuildMs())))) {
+            rebuild(now);
+            return;
+        }
+        for (RevokedToken token : repository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(lastSync.minus(SYNC_OVERLAP), now)) {
+            add(token.getJti(), token.getExpiresAt());
+        }
+        lastSync = now;
+    }
+
+    private synchronized void rebuild(LocalDateTime now) {
+        Integer purged = transactionTemplate.execute(status -> repository.deleteExpired(now));
+        List<RevokedToken> tokens = repository.findByExpiresAtAfter(now);
+        // Room to grow until the next rebuild
+        BloomFilter bloom = new BloomFilter(Math.max(properties.getRevocationExpectedEntries(), 2 * tokens.size()),
+                properties.getRevocationFalsePositiveRate());
+        Map<String, LocalDateTime> expiries = new ConcurrentHashMap<>(Math.max(16, tokens.size() * 2));
+        for (RevokedToken token : tokens) {
+            expiries.put(token.getJti(), token.getExpiresAt());
+            bloom.put(token.getJti());
+        }
+        State previous = state;
+        state = new State(bloom, expiries);
+        // Added while loading (committed after the query): carried over unless expired
+        if (previous != null) {
+            previous.expiries().forEach((jti, expiresAt) -> {
+                if (expiresAt.isAfter(now)) add(jti, expiresAt);
+            });
+        }
+        lastSync = now;
+        lastRebuild = now;
+        log.debug("Token revocation list rebuilt: {} entries, {} expired rows purged", expiries.size(), purged);
+    }
+}
@@ -17,6 +17,7 @@ public class UserDetailsImpl implements UserDetails {
     private final String email;
     private final String password;
     private final Role role;
+    private final long version;
 
     public UserDetailsImpl(User user) {
         this.id = user.getId();
@@ -24,11 +25,13 @@ public class UserDetailsImpl implements UserDetails {
         this.email = user.getEmail();
         this.password = user.getPassword();
         this.role = user.getRole();
+        this.version = user.getVersion() != null ? user.getVersion() : 0;
     }
 
     public Long getId() { return id; }
     public String getEmail() { return email; }
     public Role getRole() { return role; }
+    public long getVersion() { return version; }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -2,6 +2,8 @@ package com.example.blog_api.security;
 
 import com.example.blog_api.User;
 import com.example.blog_api.UserRepository;
+import com.example.blog_api.config.CacheCoherenceProperties;
+import com.example.blog_api.service.VersionedCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -12,9 +14,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    /** By username, for token authentication; kept coherent across nodes by CacheCoherenceService. */
+    private final VersionedCache<String, UserDetailsImpl> cache;
 
-    public UserDetailsServiceImpl(UserRepository userRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository, CacheCoherenceProperties coherenceProperties) {
         this.userRepository = userRepository;
+        this.cache = new VersionedCache<>(coherenceProperties.getUserCacheMaxEntries());
     }
 
     @Override
@@ -24,4 +29,24 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         return new UserDetailsImpl(user);
     }
+
+    /** Same as {@link #loadUserByUsername} from the cache, for every JWT request; login still reads the database. */
+    public UserDetailsImpl loadCachedUserByUsername(String username) throws UsernameNotFoundException {
+        UserDetailsImpl cached = cache.get(username);
+        if (cached != null) {
+            return cached;
+        }
+        UserDetailsImpl loaded = (UserDetailsImpl) loadUserByUsername(username);
+        cache.put(username, loaded, loaded.getVersion());
+        return loaded;
+    }
+
+    /** The user saved at this version was cached under this username (the old one after a rename). */
+    public void invalidate(String username, long version) {
+        cache.invalidate(username, version);
+    }
+
+    public void clearCache() {
+        cache.clear();
+    }
 }
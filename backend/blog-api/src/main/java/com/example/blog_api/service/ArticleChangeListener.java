@@ -0,0 +1,28 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.dto.ArticleChangeEvent;
+
+import java.util.List;
+
+/**
+ * Consumer of committed article changes, called by {@link ArticleChangeRelay} off the request path.
+ * Batches are in commit order (so ordered per article id). Delivery is at-least-once:
+ * a batch is redelivered if any listener fails, so implementations must be idempotent.
+ */
+public interface ArticleChangeListener {
+
+    void onArticleChanges(List<ArticleChangeEvent> changes);
+
+    /**
+     * True for in-memory state of this node (caches, indexes, SSE subscribers): such listeners also
+     * receive the changes relayed by other nodes (see {@link CacheCoherenceService}). False for
+     * shared side effects (database writes), which must run once, on the node consuming the outbox.
+     */
+    default boolean isNodeLocal() {
+        return false;
+    }
+
+    /** Changes may have been missed (lost invalidation, reconnect): drop or rebuild the local state. */
+    default void onChangesMissed() {
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.ArticleChange;
+import com.example.blog_api.ArticleChangeRepository;
+import com.example.blog_api.JobLock;
+import com.example.blog_api.JobLockRepository;
+import com.example.blog_api.config.OutboxProperties;
+import com.example.blog_api.dto.ArticleChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Polls the article_changes outbox and dispatches batches to every {@link ArticleChangeListener}.
+ * Rows are deleted in the same transaction as the dispatch; if a listener throws, the
+ * transaction rolls back and the batch is retried on the next poll. With several nodes, one
+ * relays at a time: the dispatching transaction holds the lock of the "article-change-relay"
+ * {@link JobLock} row, and a node finding it held skips its poll. Batches therefore commit in
+ * id order, and the changes of one article reach the listeners in the order they were written.
+ * Once committed, the batch is passed on to the other nodes' local listeners by
+ * {@link CacheCoherenceService}.
+ */
+@Service
+@Lazy(false)
+public class ArticleChangeRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleChangeRelay.class);
+    private static final String LOCK = "article-change-relay";
+
+    private final ArticleChangeRepository changeRepository;
+    private final JobLockRepository jobLockRepository;
+    private final List<ArticleChangeListener> listeners;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheCoherenceService cacheCoherence;
+
+    private volatile boolean lockRowCreated;
+
+    public ArticleChangeRelay(ArticleChangeRepository changeRepository, JobLockRepository jobLockRepository,
+                              List<ArticleChangeListener> listeners,
+                              OutboxProperties properties, TransactionTemplate transactionTemplate,
+                              CacheCoherenceService cacheCoherence) {
+        this.changeRepository = changeRepository;
+        this.jobLockRepository = jobLockRepository;
+        this.listeners = listeners;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheCoherence = cacheCoherence;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:500}")
+    public void relay() {
+        try {
+            createLockRow();
+            List<ArticleChangeEvent> dispatched;
+            do {
+                dispatched = transactionTemplate.execute(status -> relayBatch());
+                if (dispatched != null && !dispatched.isEmpty()) {
+                    cacheCoherence.articlesChanged(dispatched);
+                }
+            } while (dispatched != null && dispatched.size() == properties.getBatchSize());
+        } catch (PessimisticLockingFailureException e) {
+            // Relay lock held by another node, on a database that waits instead of skipping (H2)
+            log.debug("Article change relay busy on another node");
+        } catch (RuntimeException e) {
+            log.warn("Article change dispatch failed, will retry", e);
+        }
+    }
+
+    private void createLockRow() {
+        if (lockRowCreated) return;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!jobLockRepository.existsById(LOCK)) jobLockRepository.saveAndFlush(new JobLock(LOCK));
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Inserted by another node at the same time
+        }
+        lockRowCreated = true;
+    }
+
+    private List<ArticleChangeEvent> relayBatch() {
+        if (jobLockRepository.tryLock(LOCK).isEmpty()) {
+            return List.of(); // another node is relaying
+        }
+        List<ArticleChange> rows = changeRepository.claimBatch(PageRequest.of(0, properties.getBatchSize()));
+        if (rows.isEmpty()) return List.of();
+        List<ArticleChangeEvent> events = rows.stream().map(ArticleChangeEvent::from).toList();
+        for (ArticleChangeListener listener : listeners) {
+            listener.onArticleChanges(events);
+        }
+        changeRepository.deleteAllByIdInBatch(rows.stream().map(ArticleChange::getId).toList());
+        return events;
+    }
+}
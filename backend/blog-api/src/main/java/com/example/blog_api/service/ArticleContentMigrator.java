@@ -0,0 +1,146 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.ArticleContent;
+import com.example.blog_api.ArticleContentRepository;
+import com.example.blog_api.ContentCompression;
+import com.example.blog_api.config.ContentStorageProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Online move of article bodies from the legacy articles.content / articles.content_compressed
+ * columns (left in place by ddl-auto=update) to article_content. Runs in id order and small
+ * batches, one short transaction each: copies the body unless a newer write already created its
+ * article_content row, fills excerpt and word_count, then clears the legacy columns.
+ * Until it is done, {@link #legacyContent(Long)} serves bodies not moved yet.
+ * Each legacy column is looked up on its own: content_compressed only exists where compression
+ * was enabled before the split. A database created after the split has neither and is done from
+ * the start.
+ */
+@Service
+@Lazy(false)
+public class ArticleContentMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleContentMigrator.class);
+
+    private record LegacyRow(long id, String content) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArticleContentRepository contentRepository;
+    private final ContentCompression contentCompression;
+    private final ContentStorageProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    /** Legacy columns present in articles; null until checked, empty once gone or migrated. */
+    private volatile List<String> legacyColumns;
+
+    public ArticleContentMigrator(JdbcTemplate jdbcTemplate, ArticleContentRepository contentRepository,
+                                  ContentCompression contentCompression, ContentStorageProperties properties,
+                                  TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.contentRepository = contentRepository;
+        this.contentCompression = contentCompression;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(initialDelay = 5000, fixedDelayString = "${app.content-storage.migration-interval-ms:60000}")
+    public void migrate() {
+        List<String> columns = legacyColumns();
+        if (columns.isEmpty()) return;
+        String select = "SELECT id, " + String.join(", ", columns) + " FROM articles WHERE (" +
+                columns.stream().map(c -> c + " IS NOT NULL").collect(Collectors.joining(" OR ")) +
+                ") AND id > ? ORDER BY id LIMIT ?";
+        long afterId = 0;
+        long moved = 0;
+        while (true) {
+            List<LegacyRow> rows = jdbcTemplate.query(select,
+                    (rs, n) -> new LegacyRow(rs.getLong("id"), decode(rs, columns)),
+                    afterId, properties.getMigrationBatchSize());
+            if (rows.isEmpty()) break;
+            try {
+                transactionTemplate.executeWithoutResult(status -> rows.forEach(row -> move(row, columns)));
+                moved += rows.size();
+            } catch (RuntimeException e) {
+                // Typically a concurrent write inserted the same article_content row; retried next run
+                log.warn("Failed to move article bodies after id {}", afterId, e);
+                return;
+            }
+            afterId = rows.get(rows.size() - 1).id();
+        }
+        if (moved > 0) {
+            log.info("Moved {} article bodies to article_content", moved);
+        } else {
+            legacyColumns = List.of();
+            log.info("Article bodies all in article_content; legacy columns {} of articles can be dropped", columns);
+        }
+    }
+
+    /** Body still in the legacy columns for this article, or null. */
+    public String legacyContent(Long articleId) {
+        List<String> columns = legacyColumns();
+        if (columns.isEmpty()) return null;
+        List<String> rows = jdbcTemplate.query("SELECT " + String.join(", ", columns) + " FROM articles WHERE id = ?",
+                (rs, n) -> decode(rs, columns), articleId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private void move(LegacyRow row, List<String> columns) {
+        if (!contentRepository.existsById(row.id())) {
+            byte[] compressed = contentCompression.compressIfEligible(row.content());
+            jdbcTemplate.update("INSERT INTO article_content (article_id, content, content_compressed, version) " +
+                    "VALUES (?, ?, ?, 0)", row.id(), compressed == null ? row.content() : null, compressed);
+            if (compressed != null) {
+                jdbcTemplate.update("INSERT INTO article_search_text (article_id, content) VALUES (?, ?)",
+                        row.id(), row.content());
+            }
+            jdbcTemplate.update("UPDATE articles SET excerpt = ?, word_count = ? WHERE id = ?",
+                    ArticleContent.excerptOf(row.content()), ArticleContent.wordCountOf(row.content()), row.id());
+        }
+        jdbcTemplate.update("UPDATE articles SET " +
+                columns.stream().map(c -> c + " = NULL").collect(Collectors.joining(", ")) + " WHERE id = ?", row.id());
+    }
+
+    private List<String> legacyColumns() {
+        List<String> columns = legacyColumns;
+        if (columns == null) {
+            columns = jdbcTemplate.execute((ConnectionCallback<List<String>>) con -> {
+                DatabaseMetaData meta = con.getMetaData();
+                List<String> present = new ArrayList<>();
+                for (String column : List.of("content", "content_compressed")) {
+                    // Unquoted identifiers: upper case in H2, lower case in PostgreSQL
+                    if (hasColumn(meta, "articles", column) || hasColumn(meta, "ARTICLES", column.toUpperCase())) {
+                        present.add(column);
+                    }
+                }
+                return List.copyOf(present);
+            });
+            legacyColumns = columns;
+        }
+        return columns;
+    }
+
+    private static boolean hasColumn(DatabaseMetaData meta, String table, String column) throws SQLException {
+        try (ResultSet rs = meta.getColumns(null, null, table, column)) {
+            return rs.next();
+        }
+    }
+
+    private static String decode(ResultSet rs, List<String> columns) throws SQLException {
+        String text = columns.contains("content") ? rs.getString("content") : null;
+        byte[] compressed = columns.contains("content_compressed") ? rs.getBytes("content_compressed") : null;
+        return text != null || compressed == null ? text : ContentCompression.decompress(compressed);
+    }
+}
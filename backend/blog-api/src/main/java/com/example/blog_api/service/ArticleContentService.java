@@ -0,0 +1,88 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.ArticleContent;
+import com.example.blog_api.ArticleContentRepository;
+import com.example.blog_api.ArticleSearchText;
+import com.example.blog_api.ArticleSearchTextRepository;
+import com.example.blog_api.ContentCompression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Article bodies (article_content). Articles are loaded without their body; callers that need it
+ * ask here, by id. Bodies not yet moved by {@link ArticleContentMigrator} are read from the legacy columns.
+ * Every write keeps the searchable copy of compressed bodies ({@link ArticleSearchText}) in step.
+ */
+@Service
+public class ArticleContentService {
+
+    private final ArticleContentRepository repository;
+    private final ArticleSearchTextRepository searchTextRepository;
+    private final ContentCompression contentCompression;
+    private final ArticleContentMigrator migrator;
+
+    public ArticleContentService(ArticleContentRepository repository, ArticleSearchTextRepository searchTextRepository,
+                                 ContentCompression contentCompression, ArticleContentMigrator migrator) {
+        this.repository = repository;
+        this.searchTextRepository = searchTextRepository;
+        this.contentCompression = contentCompression;
+        this.migrator = migrator;
+    }
+
+    @Transactional(readOnly = true)
+    public String get(Long articleId) {
+        return repository.findById(articleId)
+                .map(ArticleContent::getContent)
+                .orElseGet(() -> migrator.legacyContent(articleId));
+    }
+
+    /** Bodies by article id; articles without a body are absent. */
+    @Transactional(readOnly = true)
+    public Map<Long, String> getAll(Collection<Long> articleIds) {
+        Map<Long, String> bodies = new HashMap<>();
+        for (ArticleContent body : repository.findAllById(articleIds)) {
+            if (body.getContent() != null) bodies.put(body.getArticleId(), body.getContent());
+        }
+        for (Long id : articleIds) {
+            if (!bodies.containsKey(id)) {
+                String legacy = migrator.legacyContent(id);
+                if (legacy != null) bodies.put(id, legacy);
+            }
+        }
+        return bodies;
+    }
+
+    /** Body of a new article. */
+    @Transactional
+    public void create(Long articleId, String content) {
+        repository.save(new ArticleContent(articleId, content));
+        if (contentCompression.isEligible(content)) {
+            searchTextRepository.save(new ArticleSearchText(articleId, content));
+        }
+    }
+
+    /** Replaces the body with one UPDATE (no read of the old body); inserts it if the row does not exist yet. */
+    @Transactional
+    public void replace(Long articleId, String content) {
+        // Same storage rule as entity writes: exactly one of the two columns is set
+        byte[] compressed = contentCompression.compressIfEligible(content);
+        if (repository.updateContent(articleId, compressed == null ? content : null, compressed) == 0) {
+            repository.save(new ArticleContent(articleId, content));
+        }
+        if (compressed == null) {
+            searchTextRepository.deleteByArticleId(articleId);
+        } else if (searchTextRepository.updateContent(articleId, content) == 0) {
+            searchTextRepository.save(new ArticleSearchText(articleId, content));
+        }
+    }
+
+    @Transactional
+    public void delete(Long articleId) {
+        repository.deleteByArticleId(articleId);
+        searchTextRepository.deleteByArticleId(articleId);
+    }
+}
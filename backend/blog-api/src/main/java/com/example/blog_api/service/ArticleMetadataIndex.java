@@ -0,0 +1,592 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.Article;
+import com.example.blog_api.ArticleChangeType;
+import com.example.blog_api.ArticleRepository;
+import com.example.blog_api.ArticleSpecification;
+import com.example.blog_api.config.QueryEngineProperties;
+import com.example.blog_api.dto.ArticleChangeEvent;
+import com.example.blog_api.dto.FacetCounts;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory columnar copy of the filterable article metadata (id, author, category, tags,
+ * createdAt, publishedAt, viewCount, featured, pinned, title for sorting), serving two read paths
+ * of GET /articles without SQL:
+ * - facet counts (per category, tag, author, month), always;
+ * - the id page itself when app.query-engine.enabled: the filters of {@link ArticleSpecification}
+ *   except the keyword, and the date / popularity / title orders. The page is then hydrated with
+ *   one findAllById.
+ * Columns are primitive arrays indexed by a dense doc id: timestamps as epoch seconds, categories
+ * and tags as dictionary codes, flags and facet values as BitSets. A query intersects the bitmaps,
+ * scans the remaining candidates for range filters, then selects the page with a bounded heap;
+ * scans and selection over app.query-engine.parallel-threshold candidates or more are split across
+ * the common fork-join pool.
+ * Built in the background at startup, then maintained from the article change outbox; view counts
+ * follow the trending flush (approximately: a concurrent reindex may count a flush twice until
+ * the next change of that article).
+ */
+@Service
+@Lazy(false)
+public class ArticleMetadataIndex implements ArticleChangeListener {
+
+    /** Filters of GET /articles; keywordMatches is null when there is no keyword. */
+    public record Filter(Long authorId, String category, List<String> tags,
+                         LocalDateTime createdFrom, LocalDateTime createdTo, LocalDateTime publishedAsOf,
+                         boolean featured, boolean pinned, Collection<Long> keywordMatches) {}
+
+    public enum Order { DATE, POPULARITY, TITLE }
+
+    /** Article ids of one page, in order, and the number of matches. */
+    public record IdPage(List<Long> ids, long total) {}
+
+    /** Codes of the values of one facet, with the documents of each code. Codes are never reused. */
+    private static final class Dictionary {
+        final Map<String, Integer> codes = new HashMap<>();
+        final List<String> labels = new ArrayList<>();
+        final List<BitSet> postings = new ArrayList<>();
+
+        int codeOf(String key, String label) {
+            Integer code = codes.get(key);
+            if (code == null) {
+                code = labels.size();
+                codes.put(key, code);
+                labels.add(label);
+                postings.add(new BitSet());
+            } else {
+                labels.set(code, label);
+            }
+            return code;
+        }
+
+        BitSet docs(String key) {
+            Integer code = codes.get(key);
+            return code == null ? null : postings.get(code);
+        }
+    }
+
+    private interface DocOrder {
+        int compare(int a, int b);
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleMetadataIndex.class);
+
+    private static final int MAX_TAG_VALUES = 100;
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final long DRAFT = Long.MAX_VALUE;
+    private static final long NO_AUTHOR = Long.MIN_VALUE;
+    private static final int[] NO_TAGS = new int[0];
+
+    private final ArticleRepository articleRepository;
+    private final EntityManager entityManager;
+    private final QueryEngineProperties properties;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Columns (doc id -> value); slots of removed articles are reused
+    private long[] docArticleIds = new long[1024];
+    private long[] docCreatedAt = new long[1024];
+    private long[] docPublishedAt = new long[1024];
+    private long[] docViewCount = new long[1024];
+    private long[] docAuthor = new long[1024];
+    private int[] docCategory = new int[1024];
+    private int[][] docTags = new int[1024][];
+    /** yyyy * 100 + mm of createdAt, 0 when unknown. */
+    private int[] docMonth = new int[1024];
+    private String[] docTitle = new String[1024];
+    private int docCount;
+    private final Deque<Integer> freeDocs = new ArrayDeque<>();
+    private final Map<Long, Integer> docByArticle = new HashMap<>();
+    private final BitSet liveDocs = new BitSet();
+    private final BitSet featuredDocs = new BitSet();
+    private final BitSet pinnedDocs = new BitSet();
+
+    // Facet postings; categories and tags keyed lower-case like ArticleSpecification
+    private final Dictionary categories = new Dictionary();
+    private final Dictionary tags = new Dictionary();
+    private final Map<Long, BitSet> byAuthor = new HashMap<>();
+
+    private volatile boolean ready;
+
+    public ArticleMetadataIndex(ArticleRepository articleRepository, EntityManager entityManager,
+                                QueryEngineProperties properties) {
+        this.articleRepository = articleRepository;
+        this.entityManager = entityManager;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        Thread builder = new Thread(this::buildFromDatabase, "metadata-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    @Override
+    public boolean isNodeLocal() {
+        return true;
+    }
+
+    /** Reindexes everything in the background, dropping the articles that are gone. */
+    @Override
+    public void onChangesMissed() {
+        buildInBackground();
+    }
+
+    @Override
+    public void onArticleChanges(List<ArticleChangeEvent> changes) {
+        List<Long> ids = changes.stream()
+                .filter(c -> c.type() != ArticleChangeType.DELETED)
+                .map(ArticleChangeEvent::articleId)
+                .distinct()
+                .toList();
+        Map<Long, Article> articles = new HashMap<>();
+        for (Article a : articleRepository.findAllById(ids)) {
+            articles.put(a.getId(), a);
+        }
+        for (ArticleChangeEvent change : changes) {
+            Article article = articles.get(change.articleId());
+            if (change.type() == ArticleChangeType.DELETED || article == null) {
+                remove(change.articleId());
+            } else {
+                index(article);
+            }
+        }
+    }
+
+    public void index(Article article) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(article.getId());
+            addLocked(article);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Views flushed to articles.viewCount, by article id. */
+    public void addViews(Map<Long, Long> deltas) {
+        lock.writeLock().lock();
+        try {
+            deltas.forEach((articleId, delta) -> {
+                Integer doc = docByArticle.get(articleId);
+                if (doc != null) docViewCount[doc] += delta;
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** Ids of the articles matching the keyword (title or body), for {@link Filter#keywordMatches()}. */
+    public List<Long> keywordMatches(String keyword) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Article> root = query.from(Article.class);
+        query.select(root.<Long>get("id"))
+                .where(ArticleSpecification.withKeyword(keyword).toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    /**
+     * One page of matching article ids in the given order (ties by id), or null while the index is
+     * still being built.
+     */
+    public IdPage query(Filter filter, Order order, boolean ascending, int page, int size) {
+        if (!ready) return null;
+        lock.readLock().lock();
+        try {
+            BitSet base = base(filter);
+            BitSet matches = intersect(base, categoryDocs(filter), tagDocs(filter), authorDocs(filter),
+                    createdBetween(base, filter));
+            int[] docs = matches.stream().toArray();
+            long from = (long) page * size;
+            if (from >= docs.length) {
+                return new IdPage(List.of(), docs.length);
+            }
+            int k = (int) Math.min(docs.length, from + size);
+            int[] top = topK(docs, k, docOrder(order, ascending));
+            List<Long> ids = new ArrayList<>(k - (int) from);
+            for (int i = (int) from; i < k; i++) {
+                ids.add(docArticleIds[top[i]]);
+            }
+            return new IdPage(ids, docs.length);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Facet counts for the filter set, or null while the index is still being built. Each facet is
+     * counted under the other filters but not its own.
+     */
+    public FacetCounts count(Filter filter) {
+        if (!ready) return null;
+        lock.readLock().lock();
+        try {
+            BitSet base = base(filter);
+            BitSet category = categoryDocs(filter);
+            BitSet tag = tagDocs(filter);
+            BitSet author = authorDocs(filter);
+            BitSet dates = createdBetween(base, filter);
+
+            long total = intersect(base, category, tag, author, dates).cardinality();
+
+            long[] categoryCounts = new long[categories.labels.size()];
+            forEach(intersect(base, null, tag, author, dates), doc -> {
+                if (docCategory[doc] >= 0) categoryCounts[docCategory[doc]]++;
+            });
+            long[] tagCounts = new long[tags.labels.size()];
+            forEach(intersect(base, category, null, author, dates), doc -> {
+                for (int t : docTags[doc]) tagCounts[t]++;
+            });
+            Map<Long, Long> authorCounts = new HashMap<>();
+            forEach(intersect(base, category, tag, null, dates), doc -> {
+                if (docAuthor[doc] != NO_AUTHOR) authorCounts.merge(docAuthor[doc], 1L, Long::sum);
+            });
+            Map<Integer, Long> monthCounts = new TreeMap<>(Comparator.reverseOrder());
+            forEach(intersect(base, category, tag, author, null), doc -> {
+                if (docMonth[doc] != 0) monthCounts.merge(docMonth[doc], 1L, Long::sum);
+            });
+
+            Map<String, Long> months = new LinkedHashMap<>();
+            monthCounts.forEach((m, n) -> months.put(String.format("%04d-%02d", m / 100, m % 100), n));
+            return new FacetCounts(total, byCount(categories, categoryCounts, Integer.MAX_VALUE),
+                    byCount(tags, tagCounts, MAX_TAG_VALUES), byCount(authorCounts), months);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private synchronized void buildFromDatabase() {
+        long start = System.nanoTime();
+        int page = 0;
+        Set<Long> seen = new HashSet<>();
+        long maxId = Long.MIN_VALUE;
+        Page<Article> batch;
+        do {
+            batch = articleRepository.findAll(PageRequest.of(page++, 500, Sort.by("id")));
+            for (Article article : batch) {
+                index(article);
+                seen.add(article.getId());
+                maxId = Math.max(maxId, article.getId());
+            }
+        } while (batch.hasNext());
+        pruneMissing(seen, seen.isEmpty() ? Long.MAX_VALUE : maxId);
+        ready = true;
+        log.info("Metadata index built: {} articles, {} categories, {} tags in {} ms", docByArticle.size(),
+                categories.codes.size(), tags.codes.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /** Drops indexed articles not found by a rebuild; ids above maxId were created during the scan. */
+    private void pruneMissing(Set<Long> seen, long maxId) {
+        lock.writeLock().lock();
+        try {
+            List<Long> gone = docByArticle.keySet().stream().filter(id -> id <= maxId && !seen.contains(id)).toList();
+            gone.forEach(this::removeLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addLocked(Article article) {
+        int doc = freeDocs.isEmpty() ? docCount++ : freeDocs.pop();
+        ensureCapacity(doc + 1);
+        LocalDateTime createdAt = article.getCreatedAt();
+        docArticleIds[doc] = article.getId();
+        docCreatedAt[doc] = createdAt != null ? createdAt.toEpochSecond(ZoneOffset.UTC) : NO_DATE;
+        docPublishedAt[doc] = article.getPublishedAt() != null ? article.getPublishedAt().toEpochSecond(ZoneOffset.UTC) : DRAFT;
+        docMonth[doc] = createdAt != null ? createdAt.getYear() * 100 + createdAt.getMonthValue() : 0;
+        docViewCount[doc] = article.getViewCount() != null ? article.getViewCount() : 0;
+        docTitle[doc] = article.getTitle();
+
+        if (isBlank(article.getCategory())) {
+            docCategory[doc] = -1;
+        } else {
+            int code = categories.codeOf(key(article.getCategory()), article.getCategory().trim());
+            categories.postings.get(code).set(doc);
+            docCategory[doc] = code;
+        }
+        int[] tagCodes = article.getTags() == null ? NO_TAGS : Arrays.stream(article.getTags().split(","))
+                .map(ArticleMetadataIndex::key)
+                .filter(t -> !t.isEmpty())
+                .distinct()
+                .mapToInt(t -> tags.codeOf(t, t))
+                .toArray();
+        for (int code : tagCodes) {
+            tags.postings.get(code).set(doc);
+        }
+        docTags[doc] = tagCodes;
+        Long author = article.getAuthorId();
+        docAuthor[doc] = author != null ? author : NO_AUTHOR;
+        if (author != null) {
+            byAuthor.computeIfAbsent(author, k -> new BitSet()).set(doc);
+        }
+        liveDocs.set(doc);
+        featuredDocs.set(doc, article.isFeatured());
+        pinnedDocs.set(doc, article.isPinned());
+        docByArticle.put(article.getId(), doc);
+    }
+
+    private void removeLocked(long articleId) {
+        Integer doc = docByArticle.remove(articleId);
+        if (doc == null) return;
+        if (docCategory[doc] >= 0) {
+            categories.postings.get(docCategory[doc]).clear(doc);
+        }
+        for (int code : docTags[doc]) {
+            tags.postings.get(code).clear(doc);
+        }
+        if (docAuthor[doc] != NO_AUTHOR) {
+            BitSet docs = byAuthor.get(docAuthor[doc]);
+            docs.clear(doc);
+            if (docs.isEmpty()) byAuthor.remove(docAuthor[doc]);
+        }
+        docTags[doc] = NO_TAGS;
+        docTitle[doc] = null;
+        liveDocs.clear(doc);
+        featuredDocs.clear(doc);
+        pinnedDocs.clear(doc);
+        freeDocs.push(doc);
+    }
+
+    private void ensureCapacity(int size) {
+        if (size <= docArticleIds.length) return;
+        int cap = Math.max(size, docArticleIds.length * 2);
+        docArticleIds = Arrays.copyOf(docArticleIds, cap);
+        docCreatedAt = Arrays.copyOf(docCreatedAt, cap);
+        docPublishedAt = Arrays.copyOf(docPublishedAt, cap);
+        docViewCount = Arrays.copyOf(docViewCount, cap);
+        docAuthor = Arrays.copyOf(docAuthor, cap);
+        docCategory = Arrays.copyOf(docCategory, cap);
+        docTags = Arrays.copyOf(docTags, cap);
+        docMonth = Arrays.copyOf(docMonth, cap);
+        docTitle = Arrays.copyOf(docTitle, cap);
+    }
+
+    /** Live docs passing the filters that have no facet of their own (flags, keyword, publication). */
+    private BitSet base(Filter filter) {
+        BitSet base = (BitSet) liveDocs.clone();
+        if (filter.featured()) base.and(featuredDocs);
+        if (filter.pinned()) base.and(pinnedDocs);
+        if (filter.keywordMatches() != null) {
+            BitSet docs = new BitSet();
+            for (Long id : filter.keywordMatches()) {
+                Integer doc = docByArticle.get(id);
+                if (doc != null) docs.set(doc);
+            }
+            base.and(docs);
+        }
+        if (filter.publishedAsOf() != null) {
+            long now = filter.publishedAsOf().toEpochSecond(ZoneOffset.UTC);
+            base = select(base, doc -> docPublishedAt[doc] <= now);
+        }
+        return base;
+    }
+
+    private BitSet categoryDocs(Filter filter) {
+        if (isBlank(filter.category())) return null;
+        BitSet docs = categories.docs(key(filter.category()));
+        return docs == null ? new BitSet() : docs;
+    }
+
+    /** Docs having a tag that contains one of the requested tags (same matching as ArticleSpecification.withTags). */
+    private BitSet tagDocs(Filter filter) {
+        if (filter.tags() == null) return null;
+        List<String> wanted = filter.tags().stream().filter(t -> !isBlank(t)).map(ArticleMetadataIndex::key).toList();
+        if (wanted.isEmpty()) return null;
+        BitSet docs = new BitSet();
+        tags.codes.forEach((tag, code) -> {
+            if (wanted.stream().anyMatch(tag::contains)) docs.or(tags.postings.get(code));
+        });
+        return docs;
+    }
+
+    private BitSet authorDocs(Filter filter) {
+        if (filter.authorId() == null) return null;
+        BitSet docs = byAuthor.get(filter.authorId());
+        return docs == null ? new BitSet() : docs;
+    }
+
+    private BitSet createdBetween(BitSet candidates, Filter filter) {
+        if (filter.createdFrom() == null && filter.createdTo() == null) return null;
+        long min = filter.createdFrom() != null ? filter.createdFrom().toEpochSecond(ZoneOffset.UTC) : NO_DATE + 1;
+        long max = filter.createdTo() != null ? filter.createdTo().toEpochSecond(ZoneOffset.UTC) : Long.MAX_VALUE;
+        return select(candidates, doc -> docCreatedAt[doc] != NO_DATE && docCreatedAt[doc] >= min && docCreatedAt[doc] <= max);
+    }
+
+    /** Candidates passing the predicate; large candidate sets are scanned in parallel. */
+    private BitSet select(BitSet candidates, IntPredicate predicate) {
+        IntStream docs = Arrays.stream(candidates.stream().toArray());
+        if (candidates.cardinality() >= properties.getParallelThreshold()) {
+            docs = docs.parallel();
+        }
+        BitSet selected = new BitSet();
+        for (int doc : docs.filter(predicate).toArray()) {
+            selected.set(doc);
+        }
+        return selected;
+    }
+
+    private static BitSet intersect(BitSet base, BitSet... filters) {
+        BitSet result = (BitSet) base.clone();
+        for (BitSet filter : filters) {
+            if (filter != null) result.and(filter);
+        }
+        return result;
+    }
+
+    private interface DocConsumer {
+        void accept(int doc);
+    }
+
+    private static void forEach(BitSet docs, DocConsumer consumer) {
+        for (int doc = docs.nextSetBit(0); doc >= 0; doc = docs.nextSetBit(doc + 1)) {
+            consumer.accept(doc);
+        }
+    }
+
+    private DocOrder docOrder(Order order, boolean ascending) {
+        DocOrder byValue = switch (order) {
+            case DATE -> (a, b) -> Long.compare(docCreatedAt[a], docCreatedAt[b]);
+            case POPULARITY -> (a, b) -> Long.compare(docViewCount[a], docViewCount[b]);
+            case TITLE -> (a, b) -> compareTitles(docTitle[a], docTitle[b]);
+        };
+        return (a, b) -> {
+            int c = ascending ? byValue.compare(a, b) : byValue.compare(b, a);
+            return c != 0 ? c : Long.compare(docArticleIds[a], docArticleIds[b]);
+        };
+    }
+
+    private static int compareTitles(String a, String b) {
+        if (a == null || b == null) return a == null ? (b == null ? 0 : -1) : 1;
+        return a.compareTo(b);
+    }
+
+    /** The k first docs in order, sorted; chunks of large inputs are selected in parallel, then merged. */
+    private int[] topK(int[] docs, int k, DocOrder order) {
+        if (docs.length < properties.getParallelThreshold()) {
+            return topK(docs, 0, docs.length, k, order);
+        }
+        int chunks = ForkJoinPool.getCommonPoolParallelism() * 4;
+        int chunkSize = (docs.length + chunks - 1) / chunks;
+        int[] candidates = IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> topK(docs, Math.min(docs.length, c * chunkSize), Math.min(docs.length, (c + 1) * chunkSize), k, order))
+                .flatMapToInt(Arrays::stream)
+                .toArray();
+        return topK(candidates, 0, candidates.length, k, order);
+    }
+
+    /** Bounded max-heap (worst of the k best at the root) over docs[from, to), returned sorted. */
+    private static int[] topK(int[] docs, int from, int to, int k, DocOrder order) {
+        int[] heap = new int[Math.min(k, to - from)];
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            int doc = docs[i];
+            if (n < heap.length) {
+                heap[n] = doc;
+                int child = n++;
+                while (child > 0) {
+                    int parent = (child - 1) / 2;
+                    if (order.compare(heap[child], heap[parent]) <= 0) break;
+                    swap(heap, child, parent);
+                    child = parent;
+                }
+            } else if (n > 0 && order.compare(doc, heap[0]) < 0) {
+                heap[0] = doc;
+                int parent = 0;
+                while (true) {
+                    int largest = parent;
+                    int left = 2 * parent + 1;
+                    int right = left + 1;
+                    if (left < n && order.compare(heap[left], heap[largest]) > 0) largest = left;
+                    if (right < n && order.compare(heap[right], heap[largest]) > 0) largest = right;
+                    if (largest == parent) break;
+                    swap(heap, parent, largest);
+                    parent = largest;
+                }
+            }
+        }
+        return Arrays.stream(heap, 0, n).boxed().sorted(order::compare).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    /** Labels of the codes with a non-zero count, highest counts first (ties by label), at most limit. */
+    private static Map<String, Long> byCount(Dictionary dictionary, long[] counts, int limit) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        IntStream.range(0, counts.length)
+                .filter(code -> counts[code] > 0)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingLong(code -> -counts[code]).thenComparing(dictionary.labels::get))
+                .limit(limit)
+                .forEach(code -> sorted.put(dictionary.labels.get(code), counts[code]));
+        return sorted;
+    }
+
+    private static Map<Long, Long> byCount(Map<Long, Long> counts) {
+        Map<Long, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.<Long, Long>comparingByKey()))
+                .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+        return sorted;
+    }
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
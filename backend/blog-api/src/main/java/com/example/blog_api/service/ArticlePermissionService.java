@@ -2,63 +2,108 @@ package com.example.blog_api.service;
 
 import com.example.blog_api.Article;
 import com.example.blog_api.Role;
+import com.example.blog_api.dto.ArticleResponse;
 import com.example.blog_api.security.UserDetailsImpl;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * Granular permissions: create/update/delete based on roles.
  * - ADMIN, EDITOR: can create any, update/delete any article.
  * - AUTHOR: can create; update/delete only own articles.
  * - READER: no create/update/delete.
+ * Decisions use only ids and a bitmask of role grants, from the authenticated principal and
+ * Article.authorId: no User entity is loaded, so a listing can be evaluated in one pass.
  */
 @Service
 public class ArticlePermissionService {
 
+    /** Permission bits on an article, as returned by {@link #permissions}. */
+    public static final int EDIT = 1;
+    public static final int DELETE = 2;
+
+    private static final int CREATE = 1;
+    private static final int UPDATE_OWN = 1 << 1;
+    private static final int DELETE_OWN = 1 << 2;
+    private static final int UPDATE_ANY = 1 << 3;
+    private static final int DELETE_ANY = 1 << 4;
+
+    /** Grants by Role ordinal. */
+    private static final int[] GRANTS = new int[Role.values().length];
+
+    static {
+        GRANTS[Role.ADMIN.ordinal()] = CREATE | UPDATE_OWN | DELETE_OWN | UPDATE_ANY | DELETE_ANY;
+        GRANTS[Role.EDITOR.ordinal()] = CREATE | UPDATE_OWN | DELETE_OWN | UPDATE_ANY | DELETE_ANY;
+        GRANTS[Role.AUTHOR.ordinal()] = CREATE | UPDATE_OWN | DELETE_OWN;
+        GRANTS[Role.READER.ordinal()] = 0;
+    }
+
+    /** The caller as far as permissions go: user id (null when anonymous) and role grants. */
+    public record Subject(Long userId, int grants) {
+        static final Subject ANONYMOUS = new Subject(null, 0);
+    }
+
+    public Subject subject(Authentication auth) {
+        if (auth == null || !auth.isAuthenticated() || !(auth.getPrincipal() instanceof UserDetailsImpl user)
+                || user.getRole() == null) {
+            return Subject.ANONYMOUS;
+        }
+        return new Subject(user.getId(), GRANTS[user.getRole().ordinal()]);
+    }
+
+    /** EDIT and DELETE bits the subject has on an article by this author. */
+    public int permissions(Subject subject, Long authorId) {
+        int grants = subject.grants();
+        boolean own = authorId != null && authorId.equals(subject.userId());
+        int permissions = 0;
+        if ((grants & UPDATE_ANY) != 0 || own && (grants & UPDATE_OWN) != 0) permissions |= EDIT;
+        if ((grants & DELETE_ANY) != 0 || own && (grants & DELETE_OWN) != 0) permissions |= DELETE;
+        return permissions;
+    }
+
+    public int permissions(Authentication auth, Long authorId) {
+        return permissions(subject(auth), authorId);
+    }
+
+    /**
+     * Sets canEdit/canDelete on every article of a listing: the caller is resolved once, then one
+     * pass over the author ids already in the responses. Unchanged for callers without grants
+     * (anonymous, readers), whose flags are simply absent.
+     */
+    public List<ArticleResponse> withPermissions(List<ArticleResponse> articles, Authentication auth) {
+        Subject subject = subject(auth);
+        if (subject.grants() == 0 || articles == null) return articles;
+        return articles.stream().map(a -> {
+            int permissions = permissions(subject, a.authorId());
+            return a.withPermissions((permissions & EDIT) != 0, (permissions & DELETE) != 0);
+        }).toList();
+    }
+
     public boolean canCreate(Authentication auth) {
-        if (auth == null || !auth.isAuthenticated()) return false;
-        return hasRole(auth, Role.ADMIN, Role.EDITOR, Role.AUTHOR);
+        return (subject(auth).grants() & CREATE) != 0;
     }
 
     public boolean canUpdate(Article article, Authentication auth) {
-        if (auth == null || !auth.isAuthenticated()) return false;
-        if (hasRole(auth, Role.ADMIN, Role.EDITOR)) return true;
-        if (hasRole(auth, Role.AUTHOR)) return isOwnArticle(article, auth);
-        return false;
+        return article != null && canUpdate(article.getAuthorId(), auth);
+    }
+
+    /** Same rule as {@link #canUpdate(Article, Authentication)} when only the author id is at hand. */
+    public boolean canUpdate(Long authorId, Authentication auth) {
+        return (permissions(auth, authorId) & EDIT) != 0;
     }
 
     public boolean canDelete(Article article, Authentication auth) {
-        if (auth == null || !auth.isAuthenticated()) return false;
-        if (hasRole(auth, Role.ADMIN, Role.EDITOR)) return true;
-        if (hasRole(auth, Role.AUTHOR)) return isOwnArticle(article, auth);
-        return false;
+        return article != null && (permissions(auth, article.getAuthorId()) & DELETE) != 0;
     }
 
     public Long getCurrentUserId(Authentication auth) {
-        if (auth == null || !auth.isAuthenticated() || !(auth.getPrincipal() instanceof UserDetailsImpl)) {
-            return null;
-        }
-        return ((UserDetailsImpl) auth.getPrincipal()).getId();
+        return subject(auth).userId();
     }
 
     public Authentication getCurrentAuthentication() {
         return SecurityContextHolder.getContext().getAuthentication();
     }
-
-    private boolean hasRole(Authentication auth, Role... roles) {
-        if (auth.getPrincipal() instanceof UserDetailsImpl userDetails) {
-            Role r = userDetails.getRole();
-            for (Role role : roles) {
-                if (r == role) return true;
-            }
-        }
-        return false;
-    }
-
-    private boolean isOwnArticle(Article article, Authentication auth) {
-        if (article == null || article.getAuthor() == null) return false;
-        Long currentId = getCurrentUserId(auth);
-        return currentId != null && currentId.equals(article.getAuthor().getId());
-    }
 }
@@ -0,0 +1,100 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.ArticleContent;
+import com.example.blog_api.config.RenderingProperties;
+import com.example.blog_api.dto.RenderedBody;
+import com.example.blog_api.dto.TocEntry;
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.ext.heading.anchor.IdGenerator;
+import org.commonmark.node.AbstractVisitor;
+import org.commonmark.node.Code;
+import org.commonmark.node.Heading;
+import org.commonmark.node.Link;
+import org.commonmark.node.Node;
+import org.commonmark.node.SoftLineBreak;
+import org.commonmark.node.Text;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Markdown (CommonMark + tables) to HTML. Output is safe to inline: raw HTML in the source is
+ * escaped, not passed through, and link/image URLs with unsafe schemes (javascript:, data:...)
+ * are dropped. Headings get stable anchors, listed in the table of contents.
+ */
+@Service
+public class ArticleRenderer {
+
+    private static final List<Extension> EXTENSIONS = List.of(TablesExtension.create());
+
+    private final Parser parser = Parser.builder().extensions(EXTENSIONS).build();
+    private final RenderingProperties properties;
+
+    public ArticleRenderer(RenderingProperties properties) {
+        this.properties = properties;
+    }
+
+    public RenderedBody render(String markdown) {
+        String source = markdown == null ? "" : markdown;
+        Node document = parser.parse(source);
+
+        IdGenerator ids = IdGenerator.builder().build();
+        Map<Node, String> anchors = new IdentityHashMap<>();
+        List<TocEntry> toc = new ArrayList<>();
+        document.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Heading heading) {
+                String text = plainText(heading);
+                String id = ids.generateId(text);
+                anchors.put(heading, id);
+                toc.add(new TocEntry(heading.getLevel(), id, text));
+            }
+        });
+
+        // Built per render: the anchors belong to this document (renders are cached, so this is rare)
+        HtmlRenderer renderer = HtmlRenderer.builder()
+                .extensions(EXTENSIONS)
+                .escapeHtml(true)
+                .sanitizeUrls(true)
+                .attributeProviderFactory(context -> (node, tagName, attributes) -> {
+                    String id = anchors.get(node);
+                    if (id != null) attributes.put("id", id);
+                    if (node instanceof Link) attributes.put("rel", "nofollow noopener noreferrer");
+                })
+                .build();
+        int words = ArticleContent.wordCountOf(source);
+        return new RenderedBody(renderer.render(document), List.copyOf(toc), words, readingTimeMinutes(words));
+    }
+
+    private int readingTimeMinutes(int words) {
+        if (words == 0) return 0;
+        return Math.max(1, (words + properties.getWordsPerMinute() - 1) / properties.getWordsPerMinute());
+    }
+
+    private static String plainText(Node node) {
+        StringBuilder text = new StringBuilder();
+        node.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Text t) {
+                text.append(t.getLiteral());
+            }
+
+            @Override
+            public void visit(Code code) {
+                text.append(code.getLiteral());
+            }
+
+            @Override
+            public void visit(SoftLineBreak lineBreak) {
+                text.append(' ');
+            }
+        });
+        return text.toString().strip();
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.Article;
+import com.example.blog_api.ArticleChange;
+import com.example.blog_api.ArticleChangeRepository;
+import com.example.blog_api.ArticleChangeType;
+import com.example.blog_api.ArticleRepository;
+import com.example.blog_api.AuditAction;
+import com.example.blog_api.User;
+import com.example.blog_api.UserRepository;
+import com.example.blog_api.dto.ArticleRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Article writes. Permission checks stay in the controller; each method here is one
+ * transaction covering the article write and its side records (audit outbox, change outbox,
+ * author statistics).
+ */
+@Service
+public class ArticleService {
+
+    private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+    private final ArticleChangeRepository changeRepository;
+    private final AuditService auditService;
+    private final DraftAutosaveService draftAutosaveService;
+    private final RevisionService revisionService;
+    private final ArticleContentService contentService;
+    private final AttachmentService attachmentService;
+    private final AuthorStatsService authorStatsService;
+
+    public ArticleService(ArticleRepository articleRepository, UserRepository userRepository,
+                          ArticleChangeRepository changeRepository, AuditService auditService,
+                          DraftAutosaveService draftAutosaveService, RevisionService revisionService,
+                          ArticleContentService contentService, AttachmentService attachmentService,
+                          AuthorStatsService authorStatsService) {
+        this.articleRepository = articleRepository;
+        this.userRepository = userRepository;
+        this.changeRepository = changeRepository;
+        this.auditService = auditService;
+        this.draftAutosaveService = draftAutosaveService;
+        this.revisionService = revisionService;
+        this.contentService = contentService;
+        this.attachmentService = attachmentService;
+        this.authorStatsService = authorStatsService;
+    }
+
+    @Transactional
+    public Article create(ArticleRequest request, Long authorId) {
+        User author = userRepository.findById(authorId).orElseThrow(() -> new IllegalStateException("User not found"));
+
+        Article article = new Article();
+        article.setTitle(request.getTitle());
+        article.describeContent(request.getContent());
+        article.setCategory(request.getCategory());
+        article.setTags(request.getTags());
+        article.setAuthor(author);
+        article.setCreatedAt(LocalDateTime.now());
+        article.setUpdatedAt(LocalDateTime.now());
+        article.setPublishedAt(request.getPublishedAt());
+        article.setViewCount(0L);
+        article.setFeatured(Boolean.TRUE.equals(request.getFeatured()));
+        article.setPinned(Boolean.TRUE.equals(request.getPinned()));
+
+        article = articleRepository.save(article);
+        contentService.create(article.getId(), request.getContent());
+        revisionService.recordCreated(article.getId(), article.getTitle(), request.getContent(), authorId);
+        authorStatsService.articleCreated(article.getAuthorId(), article.getPublishedAt());
+        changeRepository.save(new ArticleChange(article.getId(), article.getAuthorId(), ArticleChangeType.CREATED, LocalDateTime.now()));
+        auditService.record(AuditAction.ARTICLE_CREATED, authorId, article.getId());
+        return article;
+    }
+
+    @Transactional
+    public Article update(Article article, ArticleRequest request, Long actorId) {
+        // A version written by the caller's own autosaves is not a conflict: this save includes them
+        if (request.getVersion() != null && !request.getVersion().equals(article.getVersion())
+                && !draftAutosaveService.wrote(article.getId(), request.getVersion(), article.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Article.class, article.getId());
+        }
+        // The full save supersedes any autosaved edits still held in memory
+        draftAutosaveService.discard(article.getId());
+        String previousTitle = article.getTitle();
+        String previousContent = contentService.get(article.getId());
+        LocalDateTime previousPublishedAt = article.getPublishedAt();
+        article.setTitle(request.getTitle());
+        article.describeContent(request.getContent());
+        if (request.getCategory() != null) article.setCategory(request.getCategory());
+        if (request.getTags() != null) article.setTags(request.getTags());
+        article.setUpdatedAt(LocalDateTime.now());
+        if (request.getPublishedAt() != null) article.setPublishedAt(request.getPublishedAt());
+        if (request.getFeatured() != null) article.setFeatured(request.getFeatured());
+        if (request.getPinned() != null) article.setPinned(request.getPinned());
+        article = articleRepository.save(article);
+        if (!Objects.equals(previousContent, request.getContent())) {
+            contentService.replace(article.getId(), request.getContent());
+        }
+        revisionService.record(article.getId(), previousTitle, previousContent, article.getTitle(), request.getContent(), actorId);
+        authorStatsService.articleUpdated(article.getAuthorId(), previousPublishedAt, article.getPublishedAt());
+        changeRepository.save(new ArticleChange(article.getId(), article.getAuthorId(), ArticleChangeType.UPDATED, LocalDateTime.now()));
+        auditService.record(AuditAction.ARTICLE_UPDATED, actorId, article.getId());
+        return article;
+    }
+
+    @Transactional
+    public void delete(Article article, Long actorId) {
+        draftAutosaveService.discard(article.getId());
+        long views = articleRepository.findViewCountForUpdate(article.getId()).orElse(0L);
+        contentService.delete(article.getId());
+        articleRepository.delete(article);
+        authorStatsService.articleDeleted(article.getAuthorId(), article.getPublishedAt(), views);
+        revisionService.deleteHistory(article.getId());
+        attachmentService.deleteAll(article.getId());
+        changeRepository.save(new ArticleChange(article.getId(), article.getAuthorId(), ArticleChangeType.DELETED, LocalDateTime.now()));
+        auditService.record(AuditAction.ARTICLE_DELETED, actorId, article.getId());
+    }
+}
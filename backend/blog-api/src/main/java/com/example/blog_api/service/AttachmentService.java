@@ -0,0 +1,267 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.Attachment;
+import com.example.blog_api.AttachmentRepository;
+import com.example.blog_api.config.AttachmentProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Attachment uploads, deletions and thumbnails. Bytes go to the {@link AttachmentStore}, only
+ * metadata to the attachments table. Thumbnails are made off the request thread by a bounded
+ * pool: when its queue is full the attachment just stays PENDING and the periodic sweep
+ * resubmits it later, so a burst of uploads never piles up decoding work or memory.
+ * A stored file is shared by every attachment with the same hash; it is removed with the last one.
+ * Eager even under the fast profile, so the sweep runs before the first upload request.
+ */
+@Service
+@Lazy(false)
+public class AttachmentService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttachmentService.class);
+
+    /** Serializes "store file + insert row" against "no row left + delete file" for the same hash. */
+    private final Object[] hashLocks = new Object[64];
+
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentStore store;
+    private final AttachmentProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private ThreadPoolExecutor thumbnailPool;
+
+    public AttachmentService(AttachmentRepository attachmentRepository, AttachmentStore store,
+                             AttachmentProperties properties, TransactionTemplate transactionTemplate) {
+        this.attachmentRepository = attachmentRepository;
+        this.store = store;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        for (int i = 0; i < hashLocks.length; i++) hashLocks[i] = new Object();
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        int threads = Math.max(1, properties.getThumbnailThreads());
+        thumbnailPool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getThumbnailQueue())), r -> {
+                    Thread t = new Thread(r, "attachment-thumbnail-" + threadIndex.incrementAndGet());
+                    t.setDaemon(true);
+                    t.setPriority(Thread.MIN_PRIORITY);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        thumbnailPool.shutdownNow();
+    }
+
+    /**
+     * Stores the upload and records it for the article.
+     * @throws IllegalArgumentException if the type is not allowed or the content does not match it
+     * @throws AttachmentStore.TooLargeException past app.attachments.max-bytes
+     */
+    public Attachment upload(Long articleId, String contentType, String originalName, InputStream content,
+                             Long uploaderId) throws IOException {
+        if (contentType == null || !properties.getAllowedTypes().contains(contentType)) {
+            throw new IllegalArgumentException("Unsupported attachment type: " + contentType);
+        }
+        Attachment attachment;
+        try (AttachmentStore.Staged staged = store.stage(content, properties.getMaxBytes())) {
+            synchronized (lockFor(staged.sha256())) {
+                // Moved in under the lock: a concurrent delete of the last reference cannot remove it
+                // before the row below exists (or restores it if it just did)
+                store.commit(staged);
+                Path file = store.path(staged.sha256());
+                if (!contentType.equals(sniff(file))) {
+                    if (attachmentRepository.countBySha256(staged.sha256()) == 0) {
+                        store.delete(staged.sha256(), properties.getThumbnailWidth());
+                    }
+                    throw new IllegalArgumentException("Content does not match type " + contentType);
+                }
+                attachment = attachmentRepository.save(new Attachment(articleId, staged.sha256(), contentType,
+                        staged.size(), originalName(originalName), uploaderId, LocalDateTime.now()));
+            }
+        }
+        submitThumbnail(attachment.getSha256());
+        return attachment;
+    }
+
+    public List<Attachment> list(Long articleId) {
+        return attachmentRepository.findByArticleIdOrderByIdAsc(articleId);
+    }
+
+    @Transactional
+    public void delete(Attachment attachment) {
+        attachmentRepository.delete(attachment);
+        purgeAfterCommit(Set.of(attachment.getSha256()));
+    }
+
+    /** Removes the attachments of an article, within the caller's transaction (article deletion). */
+    @Transactional
+    public void deleteAll(Long articleId) {
+        List<Attachment> attachments = attachmentRepository.findByArticleIdOrderByIdAsc(articleId);
+        if (attachments.isEmpty()) return;
+        Set<String> hashes = new LinkedHashSet<>();
+        attachments.forEach(a -> hashes.add(a.getSha256()));
+        attachmentRepository.deleteAllInBatch(attachments);
+        purgeAfterCommit(hashes);
+    }
+
+    /** Resubmits thumbnails left PENDING by a full queue or a restart. */
+    @Scheduled(initialDelay = 10000, fixedDelayString = "${app.attachments.thumbnail-sweep-ms:60000}")
+    public void sweepPendingThumbnails() {
+        int room = thumbnailPool.getQueue().remainingCapacity();
+        if (room == 0) return;
+        for (Attachment pending : attachmentRepository.findPendingThumbnails(PageRequest.of(0, room))) {
+            if (!submitThumbnail(pending.getSha256())) break;
+        }
+    }
+
+    private void purgeAfterCommit(Set<String> hashes) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (String sha : hashes) {
+                    synchronized (lockFor(sha)) {
+                        if (attachmentRepository.countBySha256(sha) == 0) {
+                            store.delete(sha, properties.getThumbnailWidth());
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private boolean submitThumbnail(String sha) {
+        if (!inFlight.add(sha)) return true;
+        try {
+            thumbnailPool.execute(() -> {
+                try {
+                    makeThumbnail(sha);
+                } catch (Exception e) {
+                    log.warn("Thumbnail of {} failed: {}", sha, e.toString());
+                    updateImageInfo(sha, Attachment.ThumbnailState.NONE, null, null);
+                } finally {
+                    inFlight.remove(sha);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(sha);
+            return false;
+        }
+    }
+
+    /** Reads the dimensions from the header first, so oversized images are never decoded. */
+    private void makeThumbnail(String sha) throws IOException {
+        Path source = store.path(sha);
+        if (!Files.exists(source)) return;
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                updateImageInfo(sha, Attachment.ThumbnailState.NONE, null, null);
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > properties.getThumbnailMaxPixels()) {
+                    updateImageInfo(sha, Attachment.ThumbnailState.NONE, width, height);
+                    return;
+                }
+                Path target = store.thumbnailPath(sha, properties.getThumbnailWidth());
+                if (!Files.exists(target)) {
+                    store.write(target, scale(reader.read(0), properties.getThumbnailWidth()));
+                }
+                updateImageInfo(sha, Attachment.ThumbnailState.READY, width, height);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void updateImageInfo(String sha, Attachment.ThumbnailState state, Integer width, Integer height) {
+        transactionTemplate.executeWithoutResult(status ->
+                attachmentRepository.updateImageInfo(sha, state, width, height));
+    }
+
+    private static byte[] scale(BufferedImage image, int maxWidth) throws IOException {
+        int width = Math.min(maxWidth, image.getWidth());
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = thumbnail.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(thumbnail, "png", out);
+        return out.toByteArray();
+    }
+
+    /** Image type from the magic bytes, so a file is never served under a type it does not have. */
+    private static String sniff(Path file) throws IOException {
+        byte[] h = new byte[12];
+        int n;
+        try (InputStream in = Files.newInputStream(file)) {
+            n = in.readNBytes(h, 0, h.length);
+        }
+        if (n >= 8 && (h[0] & 0xFF) == 0x89 && h[1] == 'P' && h[2] == 'N' && h[3] == 'G') return "image/png";
+        if (n >= 3 && (h[0] & 0xFF) == 0xFF && (h[1] & 0xFF) == 0xD8 && (h[2] & 0xFF) == 0xFF) return "image/jpeg";
+        if (n >= 6 && h[0] == 'G' && h[1] == 'I' && h[2] == 'F' && h[3] == '8') return "image/gif";
+        if (n >= 12 && h[0] == 'R' && h[1] == 'I' && h[2] == 'F' && h[3] == 'F'
+                && h[8] == 'W' && h[9] == 'E' && h[10] == 'B' && h[11] == 'P') return "image/webp";
+        return null;
+    }
+
+    private static String originalName(String name) {
+        if (name == null) return null;
+        String base = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+        return base.length() > 255 ? base.substring(0, 255) : base;
+    }
+
+    private Object lockFor(String sha) {
+        return hashLocks[Math.floorMod(sha.hashCode(), hashLocks.length)];
+    }
+}
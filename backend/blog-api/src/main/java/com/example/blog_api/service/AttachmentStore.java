@@ -0,0 +1,139 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.config.AttachmentProperties;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Content-addressed file store for attachments: a file is stored once under its SHA-256
+ * ({@code dir/ab/cd/abcd...}), thumbnails next to it with the width as suffix. Files are written
+ * to a temp file in the store directory while hashing ({@link #stage}), then moved into place
+ * ({@link #commit}), so a reader never sees a partial file and identical uploads end up as one file.
+ */
+@Service
+public class AttachmentStore {
+
+    /** An upload written to a temp file and hashed, not in place yet; closing removes the temp file. */
+    public record Staged(Path temp, String sha256, long size) implements AutoCloseable {
+        @Override
+        public void close() throws IOException {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public static class TooLargeException extends IOException {
+        public TooLargeException(long maxBytes) {
+            super("Attachment larger than " + maxBytes + " bytes");
+        }
+    }
+
+    private final Path root;
+    private final Path tmp;
+
+    public AttachmentStore(AttachmentProperties properties) {
+        this.root = Path.of(properties.getDir()).toAbsolutePath().normalize();
+        this.tmp = root.resolve("tmp");
+        try {
+            Files.createDirectories(tmp);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create attachment store " + root, e);
+        }
+    }
+
+    /**
+     * Streams the input to a temp file of the store (never held in memory), hashing on the way;
+     * fails past maxBytes. The caller commits it once it holds the lock of the hash.
+     */
+    public Staged stage(InputStream in, long maxBytes) throws IOException {
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(tmp, "upload-", ".part");
+        boolean staged = false;
+        try {
+            long size = 0;
+            try (InputStream hashing = new DigestInputStream(in, digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[64 * 1024];
+                int n;
+                while ((n = hashing.read(buffer)) != -1) {
+                    size += n;
+                    if (size > maxBytes) throw new TooLargeException(maxBytes);
+                    out.write(buffer, 0, n);
+                }
+            }
+            staged = true;
+            return new Staged(temp, HexFormat.of().formatHex(digest.digest()), size);
+        } finally {
+            if (!staged) Files.deleteIfExists(temp);
+        }
+    }
+
+    /** Moves the staged upload to its content address, unless that file is already there. */
+    public void commit(Staged staged) throws IOException {
+        Path target = path(staged.sha256());
+        if (!Files.exists(target)) {
+            Files.createDirectories(target.getParent());
+            moveIntoPlace(staged.temp(), target);
+        }
+    }
+
+    /** Writes a derived file (thumbnail) through a temp file, like uploads. */
+    public void write(Path target, byte[] bytes) throws IOException {
+        Path temp = Files.createTempFile(tmp, "derived-", ".part");
+        try {
+            Files.write(temp, bytes);
+            Files.createDirectories(target.getParent());
+            moveIntoPlace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public Path path(String sha256) {
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    public Path thumbnailPath(String sha256, int width) {
+        return path(sha256).resolveSibling(sha256 + "-w" + width + ".png");
+    }
+
+    /** Removes the file and its thumbnails; the caller checks that no attachment references the hash anymore. */
+    public void delete(String sha256, int thumbnailWidth) {
+        try {
+            Files.deleteIfExists(path(sha256));
+            Files.deleteIfExists(thumbnailPath(sha256, thumbnailWidth));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Same content stored concurrently: the existing file is identical
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.AuditAction;
+import com.example.blog_api.AuditOutbox;
+import com.example.blog_api.AuditOutboxRepository;
+import com.example.blog_api.config.AuditProperties;
+import com.example.blog_api.dto.AuditMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process audit pipeline: producers push events into a bounded lock-free ring buffer,
+ * a single background thread drains it and writes batches through {@link AuditWriter}.
+ * Events backed by an outbox row survive drops and crashes: the periodic sweep replays
+ * outbox rows the writer never got to (at-least-once).
+ */
+@Service
+@Lazy(false)
+public class AuditPipeline {
+
+    /** An audit event in flight; outboxId is null for best-effort events. */
+    public record Entry(AuditAction action, Long actorId, Long targetId, LocalDateTime createdAt, Long outboxId) {}
+
+    private static final Logger log = LoggerFactory.getLogger(AuditPipeline.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final AuditWriter writer;
+    private final AuditOutboxRepository outboxRepository;
+    private final AuditProperties properties;
+    private final MpscRingBuffer<Entry> buffer;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final long startedAt = System.nanoTime();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditPipeline(AuditWriter writer, AuditOutboxRepository outboxRepository, AuditProperties properties) {
+        this.writer = writer;
+        this.outboxRepository = outboxRepository;
+        this.properties = properties;
+        this.buffer = new MpscRingBuffer<>(properties.getCapacity());
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::runWriter, "audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /** Hands an event to the background writer, applying the configured back-pressure policy when full. */
+    public void submit(Entry entry) {
+        if (buffer.offer(entry)) {
+            enqueued.increment();
+            return;
+        }
+        switch (properties.getPolicy()) {
+            case CALLER_RUNS -> {
+                callerRuns.increment();
+                writeBatch(List.of(entry));
+            }
+            case BLOCK -> {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getBlockTimeoutMs());
+                while (System.nanoTime() < deadline) {
+                    LockSupport.parkNanos(50_000);
+                    if (buffer.offer(entry)) {
+                        enqueued.increment();
+                        return;
+                    }
+                }
+                dropped.increment();
+            }
+            case DROP -> dropped.increment();
+        }
+    }
+
+    /** Replays outbox rows that were committed but never written (dropped, failed batch, or crash). */
+    @Scheduled(fixedDelayString = "${app.audit.sweep-interval-ms:30000}")
+    public void replayOutbox() {
+        LocalDateTime before = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(properties.getSweepAgeMs()));
+        List<AuditOutbox> rows;
+        do {
+            rows = outboxRepository.findByCreatedAtBeforeOrderByIdAsc(before, PageRequest.of(0, properties.getBatchSize()));
+            if (rows.isEmpty()) return;
+            List<Entry> batch = rows.stream()
+                    .map(r -> new Entry(r.getAction(), r.getActorId(), r.getTargetId(), r.getCreatedAt(), r.getId()))
+                    .toList();
+            if (!writeBatch(batch)) return;
+            replayed.add(batch.size());
+        } while (rows.size() == properties.getBatchSize());
+    }
+
+    public AuditMetrics metrics() {
+        double seconds = Math.max(1e-9, (System.nanoTime() - startedAt) / 1e9);
+        long w = written.sum();
+        return new AuditMetrics(enqueued.sum(), w, dropped.sum(), callerRuns.sum(), failed.sum(),
+                replayed.sum(), batches.sum(), buffer.size(), buffer.capacity(), w / seconds);
+    }
+
+    private void runWriter() {
+        int batchSize = properties.getBatchSize();
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running || buffer.size() > 0) {
+            buffer.drain(batch::add, batchSize);
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private boolean writeBatch(List<Entry> batch) {
+        try {
+            writer.write(batch);
+            written.add(batch.size());
+            batches.increment();
+            return true;
+        } catch (RuntimeException e) {
+            // Outbox-backed events stay in audit_outbox and are replayed by the sweep
+            failed.add(batch.size());
+            log.warn("Failed to write {} audit events", batch.size(), e);
+            return false;
+        }
+    }
+}
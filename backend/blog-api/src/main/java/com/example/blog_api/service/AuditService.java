@@ -0,0 +1,44 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.AuditAction;
+import com.example.blog_api.AuditOutbox;
+import com.example.blog_api.AuditOutboxRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records audit events without writing the audit trail on the request path.
+ * Inside a transaction a small outbox row is inserted with the business write, and the event
+ * is handed to the pipeline once the transaction commits. Outside a transaction (e.g. login)
+ * the event goes to the pipeline directly, best effort.
+ */
+@Service
+public class AuditService {
+
+    private final AuditOutboxRepository outboxRepository;
+    private final AuditPipeline pipeline;
+
+    public AuditService(AuditOutboxRepository outboxRepository, AuditPipeline pipeline) {
+        this.outboxRepository = outboxRepository;
+        this.pipeline = pipeline;
+    }
+
+    public void record(AuditAction action, Long actorId, Long targetId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            pipeline.submit(new AuditPipeline.Entry(action, actorId, targetId, now, null));
+            return;
+        }
+        AuditOutbox row = outboxRepository.save(new AuditOutbox(action, actorId, targetId, now));
+        AuditPipeline.Entry entry = new AuditPipeline.Entry(action, actorId, targetId, now, row.getId());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pipeline.submit(entry);
+            }
+        });
+    }
+}
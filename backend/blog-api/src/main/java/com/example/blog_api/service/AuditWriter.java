@@ -0,0 +1,47 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.AuditOutboxRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Stores a batch of audit events and clears their outbox rows in one transaction.
+ * Events go through one JDBC batch (identity ids keep Hibernate from batching the inserts),
+ * which Postgres with reWriteBatchedInserts turns into multi-row INSERTs.
+ */
+@Service
+public class AuditWriter {
+
+    private static final String INSERT = "INSERT INTO audit_events (action, actor_id, target_id, created_at, outbox_id) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditOutboxRepository auditOutboxRepository;
+
+    public AuditWriter(JdbcTemplate jdbcTemplate, AuditOutboxRepository auditOutboxRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditOutboxRepository = auditOutboxRepository;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void write(List<AuditPipeline.Entry> batch) {
+        jdbcTemplate.batchUpdate(INSERT, batch, batch.size(), (ps, e) -> {
+            ps.setString(1, e.action().name());
+            ps.setObject(2, e.actorId(), Types.BIGINT);
+            ps.setObject(3, e.targetId(), Types.BIGINT);
+            ps.setTimestamp(4, e.createdAt() != null ? Timestamp.valueOf(e.createdAt()) : null);
+            ps.setObject(5, e.outboxId(), Types.BIGINT);
+        });
+        List<Long> outboxIds = batch.stream().map(AuditPipeline.Entry::outboxId).filter(Objects::nonNull).toList();
+        if (!outboxIds.isEmpty()) {
+            auditOutboxRepository.deleteAllByIdInBatch(outboxIds);
+        }
+    }
+}
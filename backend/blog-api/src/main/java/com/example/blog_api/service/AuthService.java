@@ -1,6 +1,9 @@
 package com.example.blog_api.service;
 
-import com.example.blog_api.ArticleRepository;
+import com.example.blog_api.AuditAction;
+import com.example.blog_api.AuthorStats;
+import com.example.blog_api.RevokedToken;
+import com.example.blog_api.RevokedTokenRepository;
 import com.example.blog_api.Role;
 import com.example.blog_api.User;
 import com.example.blog_api.UserRepository;
@@ -9,33 +12,55 @@ import com.example.blog_api.dto.LoginRequest;
 import com.example.blog_api.dto.RegisterRequest;
 import com.example.blog_api.dto.UpdateProfileRequest;
 import com.example.blog_api.dto.UserProfileResponse;
+import com.example.blog_api.security.JwtProperties;
 import com.example.blog_api.security.JwtUtils;
+import com.example.blog_api.security.TokenRevocationList;
 import com.example.blog_api.security.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @Service
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final ArticleRepository articleRepository;
+    private final AuthorStatsService authorStatsService;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtils jwtUtils;
+    private final JwtProperties jwtProperties;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationList revocationList;
     private final AuthenticationManager authenticationManager;
+    private final AuditService auditService;
+    private final CacheCoherenceService cacheCoherence;
 
-    public AuthService(UserRepository userRepository, ArticleRepository articleRepository,
-                       PasswordEncoder passwordEncoder, JwtUtils jwtUtils,
-                       AuthenticationManager authenticationManager) {
+    public AuthService(UserRepository userRepository, AuthorStatsService authorStatsService,
+                       PasswordEncoder passwordEncoder, JwtUtils jwtUtils, JwtProperties jwtProperties,
+                       RevokedTokenRepository revokedTokenRepository, TokenRevocationList revocationList,
+                       AuthenticationManager authenticationManager, AuditService auditService,
+                       CacheCoherenceService cacheCoherence) {
         this.userRepository = userRepository;
-        this.articleRepository = articleRepository;
+        this.authorStatsService = authorStatsService;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtils = jwtUtils;
+        this.jwtProperties = jwtProperties;
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.revocationList = revocationList;
         this.authenticationManager = authenticationManager;
+        this.auditService = auditService;
+        this.cacheCoherence = cacheCoherence;
     }
 
     @Transactional
@@ -54,8 +79,8 @@ public class AuthService {
                 role
         );
         user = userRepository.save(user);
-        String token = jwtUtils.generateToken(user);
-        return new AuthResponse(token, user.getId(), user.getUsername(), user.getEmail(), user.getRole());
+        auditService.record(AuditAction.USER_REGISTERED, user.getId(), user.getId());
+        return issueTokens(user);
     }
 
     public AuthResponse login(LoginRequest request) {
@@ -64,25 +89,47 @@ public class AuthService {
         SecurityContextHolder.getContext().setAuthentication(auth);
         UserDetailsImpl userDetails = (UserDetailsImpl) auth.getPrincipal();
         User user = userRepository.findByUsername(userDetails.getUsername()).orElseThrow();
-        String token = jwtUtils.generateToken(user);
-        return new AuthResponse(token, user.getId(), user.getUsername(), user.getEmail(), user.getRole());
+        auditService.record(AuditAction.USER_LOGGED_IN, user.getId(), user.getId());
+        return issueTokens(user);
+    }
+
+    /**
+     * New access and refresh tokens for a refresh token, which is revoked as it is used (rotation):
+     * a copy of it works at most once, whichever node receives it first. Role and username are
+     * read again, so the new access token reflects changes made since login.
+     */
+    public AuthResponse refresh(String refreshToken) {
+        Claims claims = jwtUtils.parseRefreshToken(refreshToken);
+        Long userId = claims != null ? JwtUtils.userId(claims) : null;
+        if (userId == null || revocationList.isRevoked(claims.getId()) || !revoke(claims)) {
+            throw new BadCredentialsException("Jeton de rafraîchissement invalide ou expiré.");
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BadCredentialsException("Jeton de rafraîchissement invalide ou expiré."));
+        return issueTokens(user);
+    }
+
+    /** Revokes whichever of the two tokens is still valid; an expired one needs no revocation. */
+    public void logout(String accessToken, String refreshToken) {
+        Claims access = accessToken != null ? jwtUtils.parseAccessToken(accessToken) : null;
+        if (access != null && access.getId() != null && !revocationList.isRevoked(access.getId())) {
+            revoke(access);
+        }
+        Claims refresh = refreshToken != null ? jwtUtils.parseRefreshToken(refreshToken) : null;
+        if (refresh != null && !revocationList.isRevoked(refresh.getId())) {
+            revoke(refresh);
+        }
     }
 
     public UserProfileResponse getProfile(Long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("Utilisateur introuvable"));
-        long articleCount = articleRepository.countByAuthorId(user.getId());
-        return new UserProfileResponse(
-                user.getId(),
-                user.getUsername(),
-                user.getEmail(),
-                user.getRole(),
-                articleCount
-        );
+        return toProfile(user);
     }
 
     @Transactional
     public UserProfileResponse updateProfile(Long userId, UpdateProfileRequest request) {
         User user = userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("Utilisateur introuvable"));
+        String previousUsername = user.getUsername();
 
         if (request.getUsername() != null && !request.getUsername().isBlank()) {
             if (userRepository.existsByUsername(request.getUsername()) && !request.getUsername().equals(user.getUsername())) {
@@ -107,13 +154,54 @@ public class AuthService {
         }
 
         user = userRepository.save(user);
-        long articleCount = articleRepository.countByAuthorId(user.getId());
+        User saved = user;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // Version as flushed by this commit
+                cacheCoherence.userChanged(saved.getId(), previousUsername, saved.getUsername(),
+                        saved.getVersion() != null ? saved.getVersion() : 0);
+            }
+        });
+        return toProfile(user);
+    }
+
+    private AuthResponse issueTokens(User user) {
+        return new AuthResponse(jwtUtils.generateToken(user), jwtUtils.generateRefreshToken(user),
+                jwtProperties.getExpirationMs() / 1000, user.getId(), user.getUsername(), user.getEmail(), user.getRole());
+    }
+
+    /**
+     * Records the revocation (committed by the repository call itself), then applies it here and
+     * on the other nodes. The unique jti makes this the arbiter between concurrent uses.
+     * @return false when the token was already revoked
+     */
+    private boolean revoke(Claims claims) {
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
+        try {
+            revokedTokenRepository.saveAndFlush(
+                    new RevokedToken(claims.getId(), JwtUtils.userId(claims), expiresAt, LocalDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+        revocationList.add(claims.getId(), expiresAt);
+        cacheCoherence.tokenRevoked(claims.getId(), expiresAt);
+        return true;
+    }
+
+    private UserProfileResponse toProfile(User user) {
+        AuthorStats stats = authorStatsService.get(user.getId());
         return new UserProfileResponse(
                 user.getId(),
                 user.getUsername(),
                 user.getEmail(),
                 user.getRole(),
-                articleCount
+                stats.getArticleCount(),
+                stats.getPublishedCount(),
+                stats.getDraftCount(),
+                stats.getScheduledCount(),
+                stats.getTotalViews(),
+                stats.getLastPublishedAt()
         );
     }
 }
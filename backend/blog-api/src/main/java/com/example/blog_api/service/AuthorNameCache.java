@@ -0,0 +1,78 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.UserRepository;
+import com.example.blog_api.dto.AuthorName;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Usernames of article authors for list responses. A page resolves all its authors at once: cached
+ * names are served from memory and the misses are loaded with a single IN query, so a page costs at
+ * most one query whatever its size. Usernames only change through a profile update, which
+ * refreshes the entry after commit. The cache is small (authors, not articles) and is simply
+ * cleared if it ever exceeds MAX_ENTRIES.
+ */
+@Service
+public class AuthorNameCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final UserRepository userRepository;
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+
+    public AuthorNameCache(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /** Username by user id for the given ids (null ids ignored; unknown ids absent from the result). */
+    public Map<Long, String> usernames(Collection<Long> userIds) {
+        Map<Long, String> result = new HashMap<>();
+        List<Long> missing = userIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .filter(id -> {
+                    String name = names.get(id);
+                    if (name != null) result.put(id, name);
+                    return name == null;
+                })
+                .toList();
+        if (missing.isEmpty()) return result;
+        if (names.size() + missing.size() > MAX_ENTRIES) {
+            names.clear();
+        }
+        for (AuthorName author : userRepository.findNamesByIdIn(missing)) {
+            names.put(author.id(), author.username());
+            result.put(author.id(), author.username());
+        }
+        return result;
+    }
+
+    /** The cached subset of the given ids (no query); for callers loading the misses themselves. */
+    public Map<Long, String> cachedUsernames(Collection<Long> userIds) {
+        Map<Long, String> result = new HashMap<>();
+        for (Long id : userIds) {
+            String name = id == null ? null : names.get(id);
+            if (name != null) result.put(id, name);
+        }
+        return result;
+    }
+
+    public void update(Long userId, String username) {
+        names.put(userId, username);
+    }
+
+    /** A profile changed on another node: the next page reloads the name. */
+    public void evict(Long userId) {
+        names.remove(userId);
+    }
+
+    public void clear() {
+        names.clear();
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.AuthorStats;
+import com.example.blog_api.AuthorStatsRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Maintains the author_stats summary table with per-write deltas, like view flushes do with
+ * their view deltas (see {@link TrendingService}). {@link ArticleService} applies them inside the article
+ * write transaction, so each write is counted exactly once. Articles that go live on their own
+ * (scheduled publication) are moved from scheduled to published when next read or written: only
+ * the ones published since {@link AuthorStats#getCountedAt()} are counted, on the (author_id,
+ * publishedAt) index. Reads are otherwise a primary-key lookup.
+ * The full per-author aggregate is only a repair path: for authors with no row yet (articles
+ * written before the table existed, or inserted outside ArticleService) or rows from before countedAt.
+ */
+@Service
+public class AuthorStatsService {
+
+    private final AuthorStatsRepository repository;
+    /** Read-path updates commit on their own, so a lost insert race surfaces here and not in the caller's commit. */
+    private final TransactionTemplate backfillTemplate;
+
+    public AuthorStatsService(AuthorStatsRepository repository, TransactionTemplate transactionTemplate) {
+        this.repository = repository;
+        this.backfillTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.backfillTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public AuthorStats get(Long authorId) {
+        LocalDateTime now = LocalDateTime.now();
+        AuthorStats stats = repository.findById(authorId).orElse(null);
+        if (stats != null && stats.getCountedAt() != null && !wentLive(stats, now)) {
+            return stats;
+        }
+        try {
+            return backfillTemplate.execute(status -> locked(authorId));
+        } catch (DataIntegrityViolationException e) {
+            // Another thread created the row first; its values are just as fresh
+            return repository.findById(authorId).orElseThrow();
+        }
+    }
+
+    /** A new article, already saved. Called in its write transaction. */
+    public void articleCreated(Long authorId, LocalDateTime publishedAt) {
+        apply(authorId, null, new Side(publishedAt), 0);
+    }
+
+    /** An article whose publication date may have changed, already saved. Called in its write transaction. */
+    public void articleUpdated(Long authorId, LocalDateTime previousPublishedAt, LocalDateTime publishedAt) {
+        if (Objects.equals(previousPublishedAt, publishedAt)) return;
+        apply(authorId, new Side(previousPublishedAt), new Side(publishedAt), 0);
+    }
+
+    /** A deleted article and the views it had. Called in its write transaction, after the delete. */
+    public void articleDeleted(Long authorId, LocalDateTime publishedAt, long views) {
+        apply(authorId, new Side(publishedAt), null, views);
+    }
+
+    /** One side of a write: the article's publication date, or the article is absent (null Side). */
+    private record Side(LocalDateTime publishedAt) {
+
+        boolean published(LocalDateTime at) {
+            return publishedAt != null && !publishedAt.isAfter(at);
+        }
+
+        boolean scheduled(LocalDateTime at) {
+            return publishedAt != null && publishedAt.isAfter(at);
+        }
+    }
+
+    private void apply(Long authorId, Side before, Side after, long viewsRemoved) {
+        if (authorId == null) return;
+        // Writes the article row first: same lock order as view flushes (article, then author_stats)
+        repository.flush();
+        AuthorStats stats = repository.findForUpdate(authorId).orElse(null);
+        LocalDateTime now = LocalDateTime.now();
+        if (stats == null || stats.getCountedAt() == null) {
+            // Repair: the aggregate already reflects this write
+            recompute(authorId, stats, now);
+            return;
+        }
+        // The counts describe the articles as of countedAt: apply the write there, then roll forward
+        LocalDateTime at = stats.getCountedAt();
+        count(stats, before, -1, at);
+        count(stats, after, 1, at);
+        stats.setTotalViews(stats.getTotalViews() - viewsRemoved);
+        if (after != null && after.published(at)) {
+            stats.setLastPublishedAt(later(stats.getLastPublishedAt(), after.publishedAt()));
+        }
+        if (before != null && before.published(at) && before.publishedAt().equals(stats.getLastPublishedAt())) {
+            stats.setLastPublishedAt(repository.findLastPublishedAt(authorId, at));
+        }
+        if (after != null && after.scheduled(at)) {
+            stats.setNextScheduledAt(earlier(stats.getNextScheduledAt(), after.publishedAt()));
+        }
+        if (before != null && before.scheduled(at) && before.publishedAt().equals(stats.getNextScheduledAt())) {
+            stats.setNextScheduledAt(repository.findNextScheduledAt(authorId, at));
+        }
+        rollForward(stats, now);
+        repository.save(stats);
+    }
+
+    private AuthorStats locked(Long authorId) {
+        AuthorStats stats = repository.findForUpdate(authorId).orElse(null);
+        LocalDateTime now = LocalDateTime.now();
+        if (stats == null || stats.getCountedAt() == null) {
+            return recompute(authorId, stats, now);
+        }
+        rollForward(stats, now);
+        return repository.save(stats);
+    }
+
+    /** Moves the articles published in (countedAt, now] from scheduled to published. */
+    private void rollForward(AuthorStats stats, LocalDateTime now) {
+        if (wentLive(stats, now)) {
+            Object[] live = repository.countPublishedBetween(stats.getAuthorId(), stats.getCountedAt(), now).get(0);
+            long n = asLong(live[0]);
+            stats.setScheduledCount(stats.getScheduledCount() - n);
+            stats.setPublishedCount(stats.getPublishedCount() + n);
+            stats.setLastPublishedAt(later(stats.getLastPublishedAt(), (LocalDateTime) live[1]));
+            stats.setNextScheduledAt(repository.findNextScheduledAt(stats.getAuthorId(), now));
+        }
+        stats.setCountedAt(now);
+    }
+
+    private static boolean wentLive(AuthorStats stats, LocalDateTime now) {
+        return stats.getNextScheduledAt() != null && !stats.getNextScheduledAt().isAfter(now);
+    }
+
+    private static void count(AuthorStats stats, Side side, int sign, LocalDateTime at) {
+        if (side == null) return;
+        stats.setArticleCount(stats.getArticleCount() + sign);
+        if (side.publishedAt() == null) {
+            stats.setDraftCount(stats.getDraftCount() + sign);
+        } else if (side.published(at)) {
+            stats.setPublishedCount(stats.getPublishedCount() + sign);
+        } else {
+            stats.setScheduledCount(stats.getScheduledCount() + sign);
+        }
+    }
+
+    private AuthorStats recompute(Long authorId, AuthorStats existing, LocalDateTime now) {
+        AuthorStats stats = existing != null ? existing : new AuthorStats(authorId);
+        Object[] row = repository.aggregateForAuthor(authorId, now).get(0);
+        stats.setArticleCount(asLong(row[0]));
+        stats.setDraftCount(asLong(row[1]));
+        stats.setPublishedCount(asLong(row[2]));
+        stats.setScheduledCount(asLong(row[3]));
+        stats.setTotalViews(asLong(row[4]));
+        stats.setLastPublishedAt((LocalDateTime) row[5]);
+        stats.setNextScheduledAt((LocalDateTime) row[6]);
+        stats.setCountedAt(now);
+        return repository.save(stats);
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a == null || (b != null && b.isAfter(a)) ? b : a;
+    }
+
+    private static LocalDateTime earlier(LocalDateTime a, LocalDateTime b) {
+        return a == null || (b != null && b.isBefore(a)) ? b : a;
+    }
+
+    private static long asLong(Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.ArticleChangeType;
+import com.example.blog_api.config.CacheCoherenceProperties;
+import com.example.blog_api.dto.ArticleChangeEvent;
+import com.example.blog_api.security.TokenRevocationList;
+import com.example.blog_api.security.UserDetailsServiceImpl;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the in-process caches of several blog-api nodes coherent. Committed changes are broadcast
+ * as short text messages over a pluggable {@link CacheInvalidationTransport} (Postgres
+ * LISTEN/NOTIFY or UDP), set by app.cache-coherence.transport.
+ * - Article changes: the node that consumes an outbox batch also sends it to its peers. Each peer
+ *   hands it to its node-local {@link ArticleChangeListener}s (caches, indexes, SSE feed). Events
+ *   are versioned by their outbox id, so a duplicate or late event for an article is dropped.
+ * - User changes: after a profile update, the cached user details (versioned by User.version)
+ *   and the author name are invalidated on every node.
+ * - Token revocations: added to every node's {@link TokenRevocationList} at once, instead of at
+ *   its next sync from the table.
+ * Messages carry the sender id and a sequence number: <type>|<origin>|<seq>|<payload>. Each sender
+ * also sends heartbeats with its current sequence. A gap means messages were lost (queue full,
+ * UDP loss, listener reconnect), and the receiver then flushes everything local (full resync).
+ */
+@Service
+@Lazy(false)
+public class CacheCoherenceService {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheCoherenceService.class);
+    /** Keeps article messages well under NOTIFY's 8000-byte payload limit. */
+    private static final int EVENTS_PER_MESSAGE = 100;
+    private static final int MAX_TRACKED_ARTICLES = 100_000;
+
+    private final CacheCoherenceProperties properties;
+    private final DataSourceProperties dataSourceProperties;
+    private final List<ArticleChangeListener> localListeners;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final AuthorNameCache authorNameCache;
+    private final TokenRevocationList revocationList;
+
+    private final String origin = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sequence = new AtomicLong();
+    /** Last sequence received per sending node. */
+    private final Map<String, Long> lastSequence = new ConcurrentHashMap<>();
+    /** Latest outbox id applied per article id. */
+    private final VersionedCache<Long, Boolean> appliedChanges = new VersionedCache<>(MAX_TRACKED_ARTICLES);
+
+    private CacheInvalidationTransport transport;
+    private ThreadPoolExecutor publisher;
+
+    public CacheCoherenceService(CacheCoherenceProperties properties, DataSourceProperties dataSourceProperties,
+                                 List<ArticleChangeListener> listeners, UserDetailsServiceImpl userDetailsService,
+                                 AuthorNameCache authorNameCache, TokenRevocationList revocationList) {
+        this.properties = properties;
+        this.dataSourceProperties = dataSourceProperties;
+        this.localListeners = listeners.stream().filter(ArticleChangeListener::isNodeLocal).toList();
+        this.userDetailsService = userDetailsService;
+        this.authorNameCache = authorNameCache;
+        this.revocationList = revocationList;
+    }
+
+    @PostConstruct
+    void start() {
+        transport = switch (properties.getTransport()) {
+            case NONE -> null;
+            case POSTGRES -> {
+                String url = dataSourceProperties.determineUrl();
+                if (url == null || !url.startsWith("jdbc:postgresql:")) {
+                    throw new IllegalStateException("app.cache-coherence.transport=postgres needs a PostgreSQL datasource");
+                }
+                yield new PostgresNotifyTransport(url, dataSourceProperties.determineUsername(),
+                        dataSourceProperties.determinePassword(), properties.getChannel(), properties.getReconnectDelayMs());
+            }
+            case UDP -> new UdpCacheTransport(address(properties.getUdpBind()),
+                    properties.getUdpPeers().stream().map(CacheCoherenceService::address).toList());
+        };
+        if (transport == null) return;
+        publisher = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getPublishQueue()), r -> {
+                    Thread t = new Thread(r, "cache-coherence-publisher");
+                    t.setDaemon(true);
+                    return t;
+                },
+                // Dropped: skipping a sequence number makes peers resync instead of staying stale
+                (r, executor) -> sequence.incrementAndGet());
+        transport.start(this::receive, () -> resync("transport reconnected"));
+        log.info("Cache coherence over {} as node {}", properties.getTransport(), origin);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (transport == null) return;
+        publisher.shutdown();
+        try {
+            publisher.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        transport.stop();
+    }
+
+    /** Outbox batch just consumed (and committed) by this node's relay. */
+    public void articlesChanged(List<ArticleChangeEvent> changes) {
+        for (ArticleChangeEvent change : changes) {
+            appliedChanges.invalidate(change.articleId(), change.changeId());
+        }
+        if (transport == null) return;
+        for (int from = 0; from < changes.size(); from += EVENTS_PER_MESSAGE) {
+            StringBuilder payload = new StringBuilder();
+            for (ArticleChangeEvent c : changes.subList(from, Math.min(changes.size(), from + EVENTS_PER_MESSAGE))) {
+                if (!payload.isEmpty()) payload.append(';');
+                payload.append(c.changeId()).append(',').append(c.articleId()).append(',')
+                        .append(c.authorId() == null ? "" : c.authorId()).append(',')
+                        .append(c.type().name().charAt(0)).append(',').append(c.createdAt());
+            }
+            publish("a", payload.toString());
+        }
+    }
+
+    /** After commit of a profile update on this node; previousUsername is the key of the cached details. */
+    public void userChanged(Long userId, String previousUsername, String username, long version) {
+        userDetailsService.invalidate(previousUsername, version);
+        authorNameCache.update(userId, username);
+        // Username last: it may contain the separators
+        publish("u", userId + "," + version + "," + previousUsername);
+    }
+
+    /** After commit of a token revocation on this node (already added to the local list). */
+    public void tokenRevoked(String jti, LocalDateTime expiresAt) {
+        publish("r", jti + "," + expiresAt);
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache-coherence.heartbeat-ms:5000}")
+    public void heartbeat() {
+        if (transport == null) return;
+        publisher.execute(() -> send("h|" + origin + "|" + sequence.get()));
+    }
+
+    private void publish(String type, String payload) {
+        if (transport == null) return;
+        publisher.execute(() -> send(type + "|" + origin + "|" + sequence.incrementAndGet() + "|" + payload));
+    }
+
+    private void send(String message) {
+        try {
+            transport.publish(message);
+        } catch (Exception e) {
+            // Lost: peers see the sequence gap on the next message or heartbeat
+            log.warn("Cache invalidation not sent: {}", e.getMessage());
+        }
+    }
+
+    private void receive(String message) {
+        try {
+            String[] parts = message.split("\\|", 4);
+            if (parts.length < 3 || origin.equals(parts[1])) return;
+            String from = parts[1];
+            long seq = Long.parseLong(parts[2]);
+            Long last = lastSequence.get(from);
+            if ("h".equals(parts[0])) {
+                if (last != null && seq > last) resync("missed messages from " + from);
+                if (last == null || seq > last) lastSequence.put(from, seq);
+                return;
+            }
+            if (last != null) {
+                if (seq <= last) return; // late: covered by the resync of the gap it left
+                if (seq > last + 1) resync("missed messages from " + from);
+            }
+            lastSequence.put(from, seq);
+            if (parts.length < 4) return;
+            switch (parts[0]) {
+                case "a" -> applyArticleChanges(parts[3]);
+                case "u" -> applyUserChange(parts[3]);
+                case "r" -> {
+                    String[] f = parts[3].split(",", 2);
+                    revocationList.add(f[0], LocalDateTime.parse(f[1]));
+                }
+                default -> log.debug("Unknown cache message type {}", parts[0]);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Bad cache coherence message ignored: {}", e.toString());
+        }
+    }
+
+    private void applyArticleChanges(String payload) {
+        List<ArticleChangeEvent> changes = new ArrayList<>();
+        for (String event : payload.split(";")) {
+            String[] f = event.split(",", 5);
+            long changeId = Long.parseLong(f[0]);
+            long articleId = Long.parseLong(f[1]);
+            if (!appliedChanges.invalidate(articleId, changeId)) continue;
+            changes.add(new ArticleChangeEvent(changeId, articleId, f[2].isEmpty() ? null : Long.valueOf(f[2]),
+                    changeType(f[3].charAt(0)), LocalDateTime.parse(f[4])));
+        }
+        if (changes.isEmpty()) return;
+        for (ArticleChangeListener listener : localListeners) {
+            try {
+                listener.onArticleChanges(changes);
+            } catch (RuntimeException e) {
+                log.warn("{} failed on relayed changes, resyncing it", listener.getClass().getSimpleName(), e);
+                listener.onChangesMissed();
+            }
+        }
+    }
+
+    private void applyUserChange(String payload) {
+        String[] f = payload.split(",", 3);
+        Long userId = Long.valueOf(f[0]);
+        userDetailsService.invalidate(f[2], Long.parseLong(f[1]));
+        authorNameCache.evict(userId);
+    }
+
+    private void resync(String reason) {
+        log.info("Cache coherence resync ({}): flushing local caches", reason);
+        userDetailsService.clearCache();
+        authorNameCache.clear();
+        appliedChanges.clear();
+        for (ArticleChangeListener listener : localListeners) {
+            try {
+                listener.onChangesMissed();
+            } catch (RuntimeException e) {
+                log.warn("{} resync failed", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private static ArticleChangeType changeType(char code) {
+        for (ArticleChangeType type : ArticleChangeType.values()) {
+            if (type.name().charAt(0) == code) return type;
+        }
+        throw new IllegalArgumentException("Unknown change type " + code);
+    }
+
+    private static InetSocketAddress address(String hostPort) {
+        int colon = hostPort.lastIndexOf(':');
+        return new InetSocketAddress(hostPort.substring(0, colon).trim(), Integer.parseInt(hostPort.substring(colon + 1).trim()));
+    }
+}
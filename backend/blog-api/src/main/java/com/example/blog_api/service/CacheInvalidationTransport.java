@@ -0,0 +1,20 @@
+package com.example.blog_api.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries invalidation messages between blog-api nodes for {@link CacheCoherenceService}.
+ * Messages are short strings; delivery is best effort. The coherence layer detects loss through
+ * sequence numbers and heartbeats. The transport signals the losses it knows about itself
+ * (a reconnect, for instance) through onResync.
+ */
+public interface CacheInvalidationTransport {
+
+    /** Starts delivering peer messages (the caller drops its own). */
+    void start(Consumer<String> onMessage, Runnable onResync);
+
+    /** Sends to all peers; called from a single publisher thread. */
+    void publish(String message) throws Exception;
+
+    void stop();
+}
@@ -0,0 +1,118 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.config.CompressionProperties;
+import com.example.blog_api.dto.ArticleChangeEvent;
+import com.example.blog_api.dto.ArticleResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzipped JSON of article detail responses, kept per article id, version (updatedAt) and view
+ * count so hot articles are compressed once instead of on every request. The view count is part
+ * of the body; it only moves when TrendingService flushes views, so a hot article is compressed
+ * again at most once per flush.
+ * LRU-bounded by app.compression.detail-cache-max-entries. Entries are version-checked on read,
+ * so eviction through the change outbox only reclaims memory.
+ */
+@Service
+public class CompressedArticleCache implements ArticleChangeListener {
+
+    private record Entry(LocalDateTime version, Long viewCount, byte[] gzip) {
+
+        boolean matches(LocalDateTime version, Long viewCount) {
+            return Objects.equals(this.version, version) && Objects.equals(this.viewCount, viewCount);
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final CompressionProperties properties;
+    private final Map<Long, Entry> entries;
+
+    public CompressedArticleCache(ObjectMapper objectMapper, CompressionProperties properties) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        int maxEntries = properties.getDetailCacheMaxEntries();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /** Cached gzipped JSON for this article version and view count, or null; lets the caller skip loading the body. */
+    public byte[] cached(Long articleId, LocalDateTime version, Long viewCount) {
+        if (!properties.isDetailCacheEnabled()) {
+            return null;
+        }
+        synchronized (entries) {
+            Entry cached = entries.get(articleId);
+            return cached != null && cached.matches(version, viewCount) ? cached.gzip() : null;
+        }
+    }
+
+    /** Gzipped JSON for the article, or null when disabled or the body is below the compression threshold. */
+    public byte[] gzippedJson(ArticleResponse article) {
+        if (!properties.isDetailCacheEnabled()) {
+            return null;
+        }
+        synchronized (entries) {
+            Entry cached = entries.get(article.id());
+            if (cached != null && cached.matches(article.updatedAt(), article.viewCount())) {
+                return cached.gzip();
+            }
+        }
+        byte[] json = toJson(article);
+        if (json.length < properties.getMinSize()) {
+            return null;
+        }
+        byte[] gzip = gzip(json);
+        synchronized (entries) {
+            entries.put(article.id(), new Entry(article.updatedAt(), article.viewCount(), gzip));
+        }
+        return gzip;
+    }
+
+    @Override
+    public boolean isNodeLocal() {
+        return true;
+    }
+
+    @Override
+    public void onArticleChanges(List<ArticleChangeEvent> changes) {
+        synchronized (entries) {
+            for (ArticleChangeEvent change : changes) {
+                entries.remove(change.articleId());
+            }
+        }
+    }
+
+    private byte[] toJson(ArticleResponse article) {
+        try {
+            return objectMapper.writeValueAsBytes(article);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize article " + article.id(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 3 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.ArticleContentRepository;
+import com.example.blog_api.ArticleSearchText;
+import com.example.blog_api.ArticleSearchTextRepository;
+import com.example.blog_api.ContentCompression;
+import com.example.blog_api.config.ContentStorageProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Background migration of existing article bodies (article_content) to compressed storage, in id order and small
+ * batches (one short transaction each). Each compressed body gets its searchable copy in the same
+ * transaction. Rows edited meanwhile are skipped by the version check; their write already went
+ * through {@link ContentCompression}. Stops once a full pass finds nothing.
+ */
+@Service
+@Lazy(false)
+public class ContentCompressionMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentCompressionMigrator.class);
+
+    private final ArticleContentRepository contentRepository;
+    private final ArticleSearchTextRepository searchTextRepository;
+    private final ContentCompression contentCompression;
+    private final ContentStorageProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private volatile boolean done;
+
+    public ContentCompressionMigrator(ArticleContentRepository contentRepository,
+                                      ArticleSearchTextRepository searchTextRepository, ContentCompression contentCompression,
+                                      ContentStorageProperties properties, TransactionTemplate transactionTemplate) {
+        this.contentRepository = contentRepository;
+        this.searchTextRepository = searchTextRepository;
+        this.contentCompression = contentCompression;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(initialDelayString = "${app.content-storage.migration-interval-ms:60000}",
+               fixedDelayString = "${app.content-storage.migration-interval-ms:60000}")
+    public void migrate() {
+        if (!properties.isCompression() || done) return;
+        long afterId = 0;
+        long migrated = 0;
+        while (true) {
+            List<Object[]> rows = contentRepository.findTextContentAfter(afterId, properties.getMinSize(),
+                    PageRequest.of(0, properties.getMigrationBatchSize()));
+            if (rows.isEmpty()) break;
+            Long count = transactionTemplate.execute(status -> {
+                long n = 0;
+                for (Object[] row : rows) {
+                    String text = (String) row[2];
+                    byte[] data = contentCompression.compressIfEligible(text);
+                    if (data != null && contentRepository.storeCompressedContent((Long) row[0], (Long) row[1], data) == 1) {
+                        searchTextRepository.save(new ArticleSearchText((Long) row[0], text));
+                        n++;
+                    }
+                }
+                return n;
+            });
+            migrated += count == null ? 0 : count;
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        if (migrated > 0) {
+            log.info("Compressed {} article bodies", migrated);
+        } else {
+            done = true;
+        }
+    }
+}
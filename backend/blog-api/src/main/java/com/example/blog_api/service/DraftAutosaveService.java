@@ -0,0 +1,340 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.Article;
+import com.example.blog_api.ArticleChange;
+import com.example.blog_api.ArticleChangeRepository;
+import com.example.blog_api.ArticleChangeType;
+import com.example.blog_api.ArticleContent;
+import com.example.blog_api.ArticleRepository;
+import com.example.blog_api.AuditAction;
+import com.example.blog_api.config.DraftProperties;
+import com.example.blog_api.dto.DraftPatchRequest;
+import com.example.blog_api.dto.DraftResponse;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Draft autosave. Patches (title and/or content edits against a known version) are applied to an
+ * in-memory copy of the draft; the copy is written once the author pauses, or at the latest after
+ * app.drafts.max-delay-ms, with an UPDATE of only the columns that changed, guarded by the version
+ * (plus an UPDATE of article_content when the body changed).
+ * The article version (JPA @Version) only moves when a draft is written, by one per write like
+ * any other update. Patches are numbered by a separate sequence: a patch is accepted when its base
+ * is this draft, i.e. its baseVersion is one this draft wrote (or read) and its baseSequence is
+ * the last accepted patch, or when it starts from the saved state of a clean draft. A version
+ * written by another node or a PUT is never one of this draft's, so edits made against another
+ * text are refused. A PUT carrying a version this draft wrote is the same editor saving in full
+ * (see {@link #wrote}); it supersedes the draft.
+ * A conflicting write (PUT or another node) wins: the in-memory copy is dropped and the next patch
+ * gets a 409. A draft whose write keeps failing (app.drafts.max-flush-attempts sweeps in a row) is
+ * dropped too, and the next patch of that article fails with {@link DraftLostException} so the
+ * client knows its edits were not saved.
+ */
+@Service
+@Lazy(false)
+public class DraftAutosaveService {
+
+    private static final Logger log = LoggerFactory.getLogger(DraftAutosaveService.class);
+
+    /** The previous edits of this article could not be written and were dropped. */
+    public static class DraftLostException extends RuntimeException {
+        public DraftLostException(long articleId, long version) {
+            super("Draft of article " + articleId + " could not be saved; edits made after version " + version +
+                    " were lost, reload the article");
+        }
+    }
+
+    private static final class Draft {
+        final long articleId;
+        final Long authorId;
+        /** Version in the database when the draft was loaded; later ones up to savedVersion are its own writes. */
+        final long loadedVersion;
+        long savedVersion;
+        /** Accepted patches; echoed by the client as baseSequence. */
+        long sequence;
+        /** Title and content as last written, the base of the next revision. */
+        String savedTitle;
+        String savedContent;
+        String title;
+        String content;
+        boolean titleDirty;
+        boolean contentDirty;
+        long firstDirtyAt;
+        long lastTouchedAt;
+        Long actorId;
+        boolean discarded;
+        /** Failed writes in a row. */
+        int failedFlushes;
+
+        Draft(Article article, String content) {
+            this.articleId = article.getId();
+            this.authorId = article.getAuthorId();
+            this.loadedVersion = article.getVersion() == null ? 0 : article.getVersion();
+            this.savedVersion = loadedVersion;
+            this.title = article.getTitle();
+            this.content = content == null ? "" : content;
+            this.savedTitle = title;
+            this.savedContent = this.content;
+            this.lastTouchedAt = System.currentTimeMillis();
+        }
+
+        boolean dirty() {
+            return titleDirty || contentDirty;
+        }
+    }
+
+    private final ArticleRepository articleRepository;
+    private final ArticleChangeRepository changeRepository;
+    private final ArticlePermissionService permissionService;
+    private final AuditService auditService;
+    private final RevisionService revisionService;
+    private final ArticleContentService contentService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final DraftProperties properties;
+    private final Map<Long, Draft> drafts = new ConcurrentHashMap<>();
+    /** Article id -> version of a draft dropped after failed writes, until its next patch reports it. */
+    private final Map<Long, Long> lostDrafts = new ConcurrentHashMap<>();
+
+    public DraftAutosaveService(ArticleRepository articleRepository, ArticleChangeRepository changeRepository,
+                                ArticlePermissionService permissionService, AuditService auditService,
+                                RevisionService revisionService, ArticleContentService contentService,
+                                EntityManager entityManager, TransactionTemplate transactionTemplate,
+                                DraftProperties properties) {
+        this.articleRepository = articleRepository;
+        this.changeRepository = changeRepository;
+        this.permissionService = permissionService;
+        this.auditService = auditService;
+        this.revisionService = revisionService;
+        this.contentService = contentService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * Applies the patch to the draft.
+     * @throws NoSuchElementException if the article does not exist
+     * @throws AccessDeniedException if the caller cannot edit it
+     * @throws IllegalStateException if the article is already published (use PUT)
+     * @throws IllegalArgumentException if an edit is out of range
+     * @throws ObjectOptimisticLockingFailureException if the patch is not based on this draft
+     * @throws DraftLostException if the previous edits could not be saved
+     */
+    public DraftResponse patch(long articleId, DraftPatchRequest request, Authentication auth) {
+        Draft draft = drafts.get(articleId);
+        if (draft == null) {
+            // Permission before loading: a reader must not pull bodies into the map (and evict drafts)
+            Article article = articleRepository.findById(articleId).orElseThrow();
+            if (!permissionService.canUpdate(article.getAuthorId(), auth)) {
+                throw new AccessDeniedException("Cannot update this article");
+            }
+            Long lost = lostDrafts.remove(articleId);
+            if (lost != null) {
+                throw new DraftLostException(articleId, lost);
+            }
+            draft = load(article);
+        } else if (!permissionService.canUpdate(draft.authorId, auth)) {
+            throw new AccessDeniedException("Cannot update this article");
+        }
+        boolean writeThrough;
+        long sequence;
+        long baseSequence = request.baseSequence() == null ? 0 : request.baseSequence();
+        synchronized (draft) {
+            if (draft.discarded) {
+                throw new ObjectOptimisticLockingFailureException(Article.class, articleId);
+            }
+            if (request.baseVersion() == draft.savedVersion && !draft.dirty()) {
+                // The client holds the saved text, which is the draft: continue from its numbering
+                draft.sequence = baseSequence;
+            } else if (baseSequence != draft.sequence || !ownVersion(draft, request.baseVersion())) {
+                throw new ObjectOptimisticLockingFailureException(Article.class, articleId);
+            }
+            String content = draft.content;
+            if (request.edits() != null) {
+                for (DraftPatchRequest.TextEdit edit : request.edits()) {
+                    if (edit.start() < 0 || edit.end() < edit.start() || edit.end() > content.length()) {
+                        throw new IllegalArgumentException("Edit out of range: [" + edit.start() + ", " + edit.end() + ")");
+                    }
+                    content = content.substring(0, edit.start()) + edit.text() + content.substring(edit.end());
+                }
+            }
+            boolean titleChanged = request.title() != null && !request.title().equals(draft.title);
+            boolean contentChanged = !content.equals(draft.content);
+            if (titleChanged || contentChanged) {
+                long now = System.currentTimeMillis();
+                if (!draft.dirty()) draft.firstDirtyAt = now;
+                if (titleChanged) {
+                    draft.title = request.title();
+                    draft.titleDirty = true;
+                }
+                if (contentChanged) {
+                    draft.content = content;
+                    draft.contentDirty = true;
+                }
+                draft.sequence++;
+                draft.actorId = permissionService.getCurrentUserId(auth);
+            }
+            draft.lastTouchedAt = System.currentTimeMillis();
+            sequence = draft.sequence;
+            writeThrough = draft.dirty() && drafts.size() > properties.getMaxEntries();
+        }
+        if (writeThrough) {
+            flush(draft);
+        }
+        synchronized (draft) {
+            return new DraftResponse(articleId, draft.savedVersion, sequence, draft.dirty());
+        }
+    }
+
+    /**
+     * Whether this article's draft wrote the given version and nothing else wrote the article since,
+     * i.e. a client holding that version only missed its own autosaves. Used by a full save (PUT)
+     * before it supersedes the draft.
+     */
+    public boolean wrote(long articleId, long version, long currentVersion) {
+        Draft draft = drafts.get(articleId);
+        if (draft == null) return false;
+        synchronized (draft) {
+            return !draft.discarded && draft.savedVersion == currentVersion && ownVersion(draft, version);
+        }
+    }
+
+    /**
+     * Writes the pending draft of this article, if any, so a following read by someone who can
+     * edit it sees it. Others cannot see the draft anyway: for them this is a map lookup, no write.
+     */
+    public void flushPending(long articleId, Authentication auth) {
+        Draft draft = drafts.get(articleId);
+        if (draft != null && permissionService.canUpdate(draft.authorId, auth)) {
+            flush(draft);
+        }
+    }
+
+    /** Forgets the in-memory draft; called when the article is rewritten (PUT) or deleted. */
+    public void discard(long articleId) {
+        lostDrafts.remove(articleId);
+        Draft draft = drafts.remove(articleId);
+        if (draft != null) {
+            synchronized (draft) {
+                draft.discarded = true;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.drafts.flush-interval-ms:1000}")
+    public void flushDue() {
+        long now = System.currentTimeMillis();
+        for (Draft draft : drafts.values()) {
+            boolean due;
+            synchronized (draft) {
+                due = draft.dirty() && (now - draft.lastTouchedAt >= properties.getQuietMs()
+                        || now - draft.firstDirtyAt >= properties.getMaxDelayMs());
+            }
+            if (due) {
+                flush(draft);
+            } else if (now - draft.lastTouchedAt >= properties.getIdleEvictMs()) {
+                drafts.remove(draft.articleId, draft);
+            }
+        }
+    }
+
+    @PreDestroy
+    void flushAll() {
+        drafts.values().forEach(this::flush);
+    }
+
+    /** Versions the draft read or wrote: no other writer can have produced them while it lives. */
+    private static boolean ownVersion(Draft draft, long version) {
+        return version >= draft.loadedVersion && version <= draft.savedVersion;
+    }
+
+    private Draft load(Article article) {
+        long articleId = article.getId();
+        LocalDateTime publishedAt = article.getPublishedAt();
+        if (publishedAt != null && !publishedAt.isAfter(LocalDateTime.now())) {
+            throw new IllegalStateException("Article already published");
+        }
+        Draft loaded = new Draft(article, contentService.get(articleId));
+        Draft existing = drafts.putIfAbsent(articleId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private void flush(Draft draft) {
+        synchronized (draft) {
+            if (!draft.dirty() || draft.discarded) return;
+            try {
+                Integer updated = transactionTemplate.execute(status -> {
+                    int rows = buildUpdate(draft).executeUpdate();
+                    if (rows == 1) {
+                        if (draft.contentDirty) {
+                            contentService.replace(draft.articleId, draft.content);
+                        }
+                        revisionService.record(draft.articleId, draft.savedTitle, draft.savedContent,
+                                draft.title, draft.content, draft.actorId);
+                        changeRepository.save(new ArticleChange(draft.articleId, draft.authorId,
+                                ArticleChangeType.UPDATED, LocalDateTime.now()));
+                        auditService.record(AuditAction.ARTICLE_UPDATED, draft.actorId, draft.articleId);
+                    }
+                    return rows;
+                });
+                if (updated != null && updated == 1) {
+                    draft.savedVersion++;
+                    draft.savedTitle = draft.title;
+                    draft.savedContent = draft.content;
+                    draft.titleDirty = false;
+                    draft.contentDirty = false;
+                    draft.failedFlushes = 0;
+                } else {
+                    log.info("Draft of article {} lost to a concurrent write, discarding", draft.articleId);
+                    drafts.remove(draft.articleId, draft);
+                    draft.discarded = true;
+                }
+            } catch (RuntimeException e) {
+                if (++draft.failedFlushes < properties.getMaxFlushAttempts()) {
+                    // Kept dirty: retried on the next sweep
+                    log.warn("Failed to save draft of article {} (attempt {})", draft.articleId, draft.failedFlushes, e);
+                    return;
+                }
+                log.error("Failed to save draft of article {} {} times, discarding it", draft.articleId,
+                        draft.failedFlushes, e);
+                drafts.remove(draft.articleId, draft);
+                draft.discarded = true;
+                lostDrafts.put(draft.articleId, draft.savedVersion);
+            }
+        }
+    }
+
+    private Query buildUpdate(Draft draft) {
+        StringBuilder jpql = new StringBuilder("UPDATE Article a SET a.updatedAt = :now, a.version = :version");
+        if (draft.titleDirty) jpql.append(", a.title = :title");
+        if (draft.contentDirty) jpql.append(", a.excerpt = :excerpt, a.wordCount = :wordCount");
+        jpql.append(" WHERE a.id = :id AND a.version = :savedVersion");
+        Query query = entityManager.createQuery(jpql.toString())
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("version", draft.savedVersion + 1)
+                .setParameter("id", draft.articleId)
+                .setParameter("savedVersion", draft.savedVersion);
+        if (draft.titleDirty) query.setParameter("title", draft.title);
+        if (draft.contentDirty) {
+            query.setParameter("excerpt", ArticleContent.excerptOf(draft.content));
+            query.setParameter("wordCount", ArticleContent.wordCountOf(draft.content));
+        }
+        return query;
+    }
+}
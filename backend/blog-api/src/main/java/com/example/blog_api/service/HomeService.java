@@ -0,0 +1,148 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.Article;
+import com.example.blog_api.ArticleRepository;
+import com.example.blog_api.ArticleSpecification;
+import com.example.blog_api.config.HomeProperties;
+import com.example.blog_api.dto.ArticleResponse;
+import com.example.blog_api.dto.FacetCounts;
+import com.example.blog_api.dto.HomeResponse;
+import com.example.blog_api.dto.PageResponse;
+import com.example.blog_api.dto.UserProfileResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Homepage sections loaded in parallel on a dedicated pool, so GET /home takes as long as its
+ * slowest branch instead of the sum. Each branch has its own timeout (app.home.branch-timeout-ms);
+ * a branch that fails or times out is reported missing and the others are still returned.
+ * A timed-out branch keeps its pool thread until its query ends; the pool size bounds how many
+ * connections homepage loads can hold at once, and its queue is bounded (app.home.queue) so that under
+ * overload a branch is rejected and reported missing rather than waiting behind queued work.
+ */
+@Service
+public class HomeService {
+
+    private static final Logger log = LoggerFactory.getLogger(HomeService.class);
+
+    private final ArticleRepository articleRepository;
+    private final AuthorNameCache authorNameCache;
+    private final AuthService authService;
+    private final ArticleMetadataIndex metadataIndex;
+    private final HomeProperties properties;
+    private ExecutorService executor;
+
+    public HomeService(ArticleRepository articleRepository, AuthorNameCache authorNameCache,
+                       AuthService authService, ArticleMetadataIndex metadataIndex, HomeProperties properties) {
+        this.articleRepository = articleRepository;
+        this.authorNameCache = authorNameCache;
+        this.authService = authService;
+        this.metadataIndex = metadataIndex;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        int threads = properties.getThreads();
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueue())), r -> {
+                    Thread t = new Thread(r, "home-loader-" + threadIndex.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /** Homepage for this user (null = anonymous: no user section). */
+    public HomeResponse load(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        Specification<Article> published = ArticleSpecification.publishedOnly(now);
+        int sectionSize = properties.getSectionSize();
+
+        CompletableFuture<List<ArticleResponse>> featured = branch("featured", () -> listed(articles(
+                published.and(ArticleSpecification.featuredOnly(true)), sectionSize)).content());
+        CompletableFuture<List<ArticleResponse>> pinned = branch("pinned", () -> listed(articles(
+                published.and(ArticleSpecification.pinnedOnly(true)), sectionSize)).content());
+        CompletableFuture<PageResponse<ArticleResponse>> latest = branch("latest", () -> {
+            PageResponse<ArticleResponse> page = listed(articles(published, properties.getLatestSize()));
+            // Same facets as GET /articles?facets=true with default filters, so the list can be filtered right away
+            FacetCounts counts = metadataIndex.count(new ArticleMetadataIndex.Filter(null, null, null, null, null,
+                    now, false, false, null));
+            return counts != null ? page.withFacets(counts) : page;
+        });
+        CompletableFuture<List<String>> categories = branch("categories", articleRepository::findDistinctCategories);
+        CompletableFuture<UserProfileResponse> user = userId == null
+                ? CompletableFuture.completedFuture(null)
+                : branch("user", () -> authService.getProfile(userId));
+
+        CompletableFuture.allOf(featured, pinned, latest, categories, user).join();
+        List<String> missing = new ArrayList<>();
+        return new HomeResponse(
+                result("featured", featured, missing),
+                result("pinned", pinned, missing),
+                result("latest", latest, missing),
+                result("categories", categories, missing),
+                userId == null ? null : result("user", user, missing),
+                missing);
+    }
+
+    /**
+     * The branch on the pool; completes with null instead of failing, exceeding the timeout or being
+     * rejected by a full pool.
+     */
+    private <T> CompletableFuture<T> branch(String name, Supplier<T> work) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(work, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Home section {} left out: pool saturated", name);
+            return CompletableFuture.completedFuture(null);
+        }
+        return future
+                .orTimeout(properties.getBranchTimeoutMs(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("Home section {} left out: {}", name, e.toString());
+                    return null;
+                });
+    }
+
+    private static <T> T result(String name, CompletableFuture<T> future, List<String> missing) {
+        T value = future.join();
+        if (value == null) missing.add(name);
+        return value;
+    }
+
+    private Page<Article> articles(Specification<Article> spec, int size) {
+        return articleRepository.findAll(spec, PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt")));
+    }
+
+    private PageResponse<ArticleResponse> listed(Page<Article> page) {
+        Map<Long, String> authorNames = authorNameCache.usernames(page.map(Article::getAuthorId).getContent());
+        return PageResponse.of(page, a -> ArticleResponse.listed(a, authorNames.get(a.getAuthorId())));
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.ArticleChangeType;
+import com.example.blog_api.ArticleRepository;
+import com.example.blog_api.dto.ArticleChangeEvent;
+import com.example.blog_api.dto.ArticleNotification;
+import com.example.blog_api.dto.ArticleSummary;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Turns committed article changes and scheduled publications coming due into live-feed notifications.
+ * Only publicly visible articles are announced (drafts and future posts stay silent until due).
+ */
+@Service
+@Lazy(false)
+public class LiveFeedPublisher implements ArticleChangeListener {
+
+    /** How far before the change a publication date may lie and still be announced as new. */
+    private static final Duration PUBLISH_GRACE = Duration.ofMinutes(10);
+
+    private final ArticleRepository articleRepository;
+    private final LiveFeedService liveFeedService;
+    /** Last announced publication per article, so the change relay and the due scan never both announce. */
+    private final Map<Long, LocalDateTime> announced = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, LocalDateTime> eldest) {
+            return size() > 4096;
+        }
+    };
+    private volatile LocalDateTime lastDueScan = LocalDateTime.now();
+
+    public LiveFeedPublisher(ArticleRepository articleRepository, LiveFeedService liveFeedService) {
+        this.articleRepository = articleRepository;
+        this.liveFeedService = liveFeedService;
+    }
+
+    @Override
+    public boolean isNodeLocal() {
+        return true;
+    }
+
+    @Override
+    public void onArticleChanges(List<ArticleChangeEvent> changes) {
+        if (liveFeedService.subscriberCount() == 0) return;
+        List<Long> ids = changes.stream()
+                .filter(c -> c.type() != ArticleChangeType.DELETED)
+                .map(ArticleChangeEvent::articleId)
+                .distinct()
+                .toList();
+        Map<Long, ArticleSummary> articles = ids.isEmpty() ? Map.of()
+                : articleRepository.findSummariesByIdIn(ids).stream()
+                        .collect(Collectors.toMap(ArticleSummary::id, Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
+        for (ArticleChangeEvent change : changes) {
+            if (change.type() == ArticleChangeType.DELETED) {
+                liveFeedService.publish(new ArticleNotification(ArticleNotification.DELETED, change.articleId(), null, null, null));
+                continue;
+            }
+            ArticleSummary article = articles.get(change.articleId());
+            if (article == null || !article.isPublished(now)) continue;
+            if (change.type() == ArticleChangeType.CREATED || isNewlyPublished(article, change)) {
+                announcePublished(article);
+            } else {
+                liveFeedService.publish(notification(ArticleNotification.UPDATED, article));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.live.due-scan-ms:5000}")
+    public void announceDuePublications() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = lastDueScan;
+        lastDueScan = now;
+        if (liveFeedService.subscriberCount() == 0) return;
+        for (ArticleSummary article : articleRepository.findScheduledDue(from, now)) {
+            announcePublished(article);
+        }
+    }
+
+    /**
+     * An update that makes a draft public (or moves its publication date) is a publication: its
+     * publishedAt has not been announced yet. Only recent dates qualify, so that editing an old article
+     * after a restart (or after its entry left the LRU) is not re-announced as new.
+     */
+    private boolean isNewlyPublished(ArticleSummary article, ArticleChangeEvent change) {
+        if (article.publishedAt().isBefore(change.createdAt().minus(PUBLISH_GRACE))) return false;
+        synchronized (announced) {
+            return !Objects.equals(announced.get(article.id()), article.publishedAt());
+        }
+    }
+
+    private void announcePublished(ArticleSummary article) {
+        synchronized (announced) {
+            if (Objects.equals(announced.get(article.id()), article.publishedAt())) return;
+            announced.put(article.id(), article.publishedAt());
+        }
+        liveFeedService.publish(notification(ArticleNotification.PUBLISHED, article));
+    }
+
+    private static ArticleNotification notification(String type, ArticleSummary article) {
+        return new ArticleNotification(type, article.id(), article.title(), article.category(), article.publishedAt());
+    }
+}
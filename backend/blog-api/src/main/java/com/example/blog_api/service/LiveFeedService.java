@@ -0,0 +1,195 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.config.LiveFeedProperties;
+import com.example.blog_api.dto.ArticleNotification;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Server-Sent Events fan-out for article notifications.
+ * Subscribers are async servlet requests, so an idle subscriber holds no thread: only an emitter
+ * and a small ring buffer. A single dispatcher thread serializes each notification once and copies
+ * it into every subscriber buffer; a small writer pool flushes non-empty buffers. A subscriber whose
+ * buffer overflows (slow consumer) or whose socket fails is evicted; EventSource reconnects on its own.
+ * <p>
+ * Limit: {@code SseEmitter.send} is a blocking write, so a client that stops reading while its TCP
+ * window is full pins a writer thread until Tomcat's write timeout ({@code server.tomcat.connection-timeout})
+ * fails the socket. As many stalled clients as {@code app.live.writer-threads} stop delivery to every
+ * other subscriber for that long; their buffers overflow and they are evicted (and reconnect). Size the
+ * pool and the connection timeout accordingly.
+ */
+@Service
+@Lazy(false)
+public class LiveFeedService {
+
+    /** Pre-encoded SSE frame shared by all subscribers; name == null means heartbeat comment. */
+    private record Frame(String name, String id, String data) {}
+
+    private static final Frame HEARTBEAT = new Frame(null, null, null);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final MpscRingBuffer<Frame> buffer;
+        /** Guarantees a single flushing writer at a time (the buffer has a single consumer). */
+        final AtomicBoolean flushing = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.buffer = new MpscRingBuffer<>(bufferSize);
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final LiveFeedProperties properties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final MpscRingBuffer<Frame> inbound = new MpscRingBuffer<>(1024);
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean running;
+    private Thread dispatcher;
+    private ExecutorService writers;
+
+    public LiveFeedService(ObjectMapper objectMapper, LiveFeedProperties properties) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        writers = Executors.newFixedThreadPool(properties.getWriterThreads(), r -> {
+            Thread t = new Thread(r, "live-feed-writer-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "live-feed-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        writers.shutdownNow();
+        for (Subscriber s : subscribers) {
+            s.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    /** New subscriber, or null when the subscriber limit is reached. */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            return null;
+        }
+        return subscribe(new SseEmitter(properties.getTimeoutMs()));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, properties.getBufferSize());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public void publish(ArticleNotification notification) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(notification);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize notification", e);
+        }
+        if (!inbound.offer(new Frame(notification.type(), Long.toString(sequence.incrementAndGet()), data))) {
+            dropped.increment();
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    public long evictedCount() {
+        return evicted.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${app.live.heartbeat-ms:25000}")
+    public void heartbeat() {
+        // Detects dead connections and keeps proxies from closing idle streams
+        inbound.offer(HEARTBEAT);
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            if (inbound.drain(this::fanOut, 64) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private void fanOut(Frame frame) {
+        for (Subscriber s : subscribers) {
+            if (s.buffer.offer(frame)) {
+                scheduleFlush(s);
+            } else {
+                evict(s);
+            }
+        }
+    }
+
+    private void scheduleFlush(Subscriber s) {
+        if (s.flushing.compareAndSet(false, true)) {
+            writers.execute(() -> flush(s));
+        }
+    }
+
+    private void flush(Subscriber s) {
+        boolean[] failed = { false };
+        s.buffer.drain(frame -> {
+            if (failed[0]) return;
+            try {
+                s.emitter.send(frame.name() == null
+                        ? SseEmitter.event().comment("ping")
+                        : SseEmitter.event().id(frame.id()).name(frame.name()).data(frame.data()));
+            } catch (IOException | IllegalStateException e) {
+                failed[0] = true;
+            }
+        }, Integer.MAX_VALUE);
+        s.flushing.set(false);
+        if (failed[0]) {
+            evict(s);
+        } else if (s.buffer.size() > 0) {
+            scheduleFlush(s); // frames added while we were flushing
+        }
+    }
+
+    private void evict(Subscriber s) {
+        if (subscribers.remove(s)) {
+            evicted.increment();
+            s.emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.blog_api.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer.
+ * Each slot carries a sequence number telling producers and the consumer whose turn it is
+ * (Vyukov's bounded queue); producers claim slots with a CAS on the tail, the consumer
+ * advances the head without contention.
+ */
+public class MpscRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    /** Only written by the consumer thread. */
+    private volatile long head;
+
+    public MpscRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /** Adds the element, or returns false immediately when the buffer is full. */
+    public boolean offer(E element) {
+        while (true) {
+            long pos = tail.get();
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            }
+            // else another producer claimed this slot: reload tail and retry
+        }
+    }
+
+    /** Consumer only: hands up to max elements to the sink, returns how many were drained. */
+    public int drain(Consumer<? super E> sink, int max) {
+        int drained = 0;
+        long pos = head;
+        while (drained < max) {
+            int index = (int) (pos & mask);
+            if (sequences.get(index) != pos + 1) {
+                break; // empty, or the producer has not finished publishing this slot
+            }
+            E element = slots.get(index);
+            slots.lazySet(index, null);
+            sequences.set(index, pos + mask + 1);
+            pos++;
+            drained++;
+            sink.accept(element);
+        }
+        head = pos;
+        return drained;
+    }
+
+    /** Approximate number of buffered elements. */
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.blog_api.service;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Consumer;
+
+/**
+ * Invalidations over Postgres LISTEN/NOTIFY on the application database: nothing else to deploy.
+ * Listening and publishing use two dedicated connections outside the Hikari pool, since a
+ * listening session has to stay open. NOTIFY is not queued for a session that is not listening,
+ * so every reconnect of the listener is a resync.
+ */
+final class PostgresNotifyTransport implements CacheInvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresNotifyTransport.class);
+    private static final int POLL_TIMEOUT_MS = 1000;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String channel;
+    private final long reconnectDelayMs;
+
+    private volatile boolean running;
+    private Thread listener;
+    private Connection publisher;
+
+    PostgresNotifyTransport(String url, String username, String password, String channel, long reconnectDelayMs) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid notification channel: " + channel);
+        }
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.channel = channel;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    @Override
+    public void start(Consumer<String> onMessage, Runnable onResync) {
+        running = true;
+        listener = new Thread(() -> listen(onMessage, onResync), "cache-coherence-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    private void listen(Consumer<String> onMessage, Runnable onResync) {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password);
+                 Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + channel);
+                if (connectedBefore) {
+                    log.info("Cache coherence listener reconnected, flushing local caches");
+                    onResync.run();
+                }
+                connectedBefore = true;
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null) continue;
+                    for (PGNotification notification : notifications) {
+                        onMessage.accept(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) return;
+                log.warn("Cache coherence listener disconnected: {}", e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void publish(String message) throws SQLException {
+        try {
+            if (publisher == null || publisher.isClosed()) {
+                publisher = DriverManager.getConnection(url, username, password);
+            }
+            try (PreparedStatement statement = publisher.prepareStatement("SELECT pg_notify(?, ?)")) {
+                statement.setString(1, channel);
+                statement.setString(2, message);
+                statement.execute();
+            }
+        } catch (SQLException e) {
+            closePublisher();
+            throw e;
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) listener.interrupt();
+        closePublisher();
+    }
+
+    private void closePublisher() {
+        try {
+            if (publisher != null) publisher.close();
+        } catch (SQLException ignored) {
+            // closing anyway
+        }
+        publisher = null;
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.ArticleSpecification;
+import com.example.blog_api.ContentCompression;
+import com.example.blog_api.config.ReactiveReadProperties;
+import com.example.blog_api.dto.ArticleResponse;
+import com.example.blog_api.dto.AuthorName;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Article reads over R2DBC, for the non-blocking anonymous endpoints. Filters mirror
+ * {@link ArticleSpecification} one for one, in SQL on the same tables.
+ * The connection pool is private to this class rather than a ConnectionFactory bean: Spring
+ * Boot would otherwise back off the JDBC DataSource used by JPA and every write.
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.reactive-reads", name = "enabled", havingValue = "true")
+public class ReactiveArticleReader {
+
+    /** Filters of GET /articles; null fields do not filter. */
+    public record Query(String keyword, Long authorId, String category, List<String> tags,
+                        LocalDateTime createdFrom, LocalDateTime createdTo, LocalDateTime publishedAsOf,
+                        boolean featured, boolean pinned) {}
+
+    public record ArticlePage(List<ArticleResponse> content, long total) {}
+
+    /** Stored body: text, or deflated bytes (see ContentCompression). */
+    public record Body(String content, byte[] compressed) {
+        public String text() {
+            return content != null || compressed == null ? content : ContentCompression.decompress(compressed);
+        }
+    }
+
+    private static final String COLUMNS = "a.id, a.title, a.excerpt, a.word_count, a.created_at, a.updated_at, " +
+            "a.published_at, a.view_count, a.author_id, a.category, a.tags, a.featured, a.pinned, a.version";
+
+    private final ConnectionPool pool;
+    private final DatabaseClient client;
+
+    public ReactiveArticleReader(ReactiveReadProperties properties) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate()
+                .option(ConnectionFactoryOptions.USER, properties.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.getPassword())
+                .build();
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .maxSize(properties.getPoolMaxSize())
+                .build());
+        this.client = DatabaseClient.create(pool);
+    }
+
+    @PreDestroy
+    void close() {
+        pool.dispose();
+    }
+
+    /** One page sorted by the given column of articles (created_at, view_count or title), with the match count. */
+    public Mono<ArticlePage> page(Query query, String sortColumn, boolean ascending, int page, int size) {
+        Map<String, Object> binds = new LinkedHashMap<>();
+        String where = where(query, binds);
+        String order = " ORDER BY a." + sortColumn + (ascending ? " ASC" : " DESC");
+        Mono<List<ArticleResponse>> rows = bind(client.sql("SELECT " + COLUMNS + " FROM articles a" + where + order +
+                " LIMIT :limit OFFSET :offset"), binds)
+                .bind("limit", size)
+                .bind("offset", (long) page * size)
+                .map(ReactiveArticleReader::toResponse)
+                .all()
+                .collectList();
+        Mono<Long> total = bind(client.sql("SELECT COUNT(*) FROM articles a" + where), binds)
+                .map(row -> row.get(0, Long.class))
+                .one();
+        return Mono.zip(rows, total, ArticlePage::new);
+    }
+
+    /** The articles with these ids, in the same order (missing ones skipped). */
+    public Mono<List<ArticleResponse>> findAllById(List<Long> ids) {
+        if (ids.isEmpty()) return Mono.just(List.of());
+        return client.sql("SELECT " + COLUMNS + " FROM articles a WHERE a.id IN (:ids)")
+                .bind("ids", ids)
+                .map(ReactiveArticleReader::toResponse)
+                .all()
+                .collectMap(ArticleResponse::id)
+                .map(byId -> ids.stream().map(byId::get).filter(a -> a != null).toList());
+    }
+
+    public Mono<ArticleResponse> findById(long id) {
+        return client.sql("SELECT " + COLUMNS + " FROM articles a WHERE a.id = :id")
+                .bind("id", id)
+                .map(ReactiveArticleReader::toResponse)
+                .one();
+    }
+
+    /** Stored body of the article; empty when it has no article_content row (not migrated yet). */
+    public Mono<Body> body(long articleId) {
+        return client.sql("SELECT content, content_compressed FROM article_content WHERE article_id = :id")
+                .bind("id", articleId)
+                .map(row -> new Body(row.get("content", String.class), row.get("content_compressed", byte[].class)))
+                .one();
+    }
+
+    /** Ids of the articles matching the keyword (same predicate as ArticleSpecification.withKeyword). */
+    public Mono<List<Long>> keywordMatches(String keyword) {
+        Map<String, Object> binds = new LinkedHashMap<>();
+        String where = where(new Query(keyword, null, null, null, null, null, null, false, false), binds);
+        return bind(client.sql("SELECT a.id FROM articles a" + where), binds)
+                .map(row -> row.get(0, Long.class))
+                .all()
+                .collectList();
+    }
+
+    public Mono<List<String>> categories() {
+        return client.sql("SELECT DISTINCT category FROM articles WHERE category IS NOT NULL AND category <> '' ORDER BY category")
+                .map(row -> row.get(0, String.class))
+                .all()
+                .collectList();
+    }
+
+    public Mono<List<AuthorName>> authorNames(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return Mono.just(List.of());
+        return client.sql("SELECT id, username FROM users WHERE id IN (:ids)")
+                .bind("ids", userIds)
+                .map(row -> new AuthorName(row.get("id", Long.class), row.get("username", String.class)))
+                .all()
+                .collectList();
+    }
+
+    private static String where(Query q, Map<String, Object> binds) {
+        List<String> clauses = new ArrayList<>();
+        if (q.keyword() != null && !q.keyword().isBlank()) {
+            binds.put("keyword", "%" + q.keyword().toLowerCase().trim() + "%");
+            clauses.add("(LOWER(a.title) LIKE :keyword OR EXISTS (SELECT 1 FROM article_content c " +
+                    "WHERE c.article_id = a.id AND LOWER(c.content) LIKE :keyword) " +
+                    "OR EXISTS (SELECT 1 FROM article_search_text s WHERE s.article_id = a.id AND LOWER(s.content) LIKE :keyword))");
+        }
+        if (q.authorId() != null) {
+            binds.put("authorId", q.authorId());
+            clauses.add("a.author_id = :authorId");
+        }
+        if (q.category() != null && !q.category().isBlank()) {
+            binds.put("category", q.category().toLowerCase().trim());
+            clauses.add("LOWER(a.category) = :category");
+        }
+        if (q.tags() != null) {
+            List<String> tagClauses = new ArrayList<>();
+            for (String tag : q.tags()) {
+                if (tag != null && !tag.isBlank()) {
+                    String name = "tag" + tagClauses.size();
+                    binds.put(name, "%" + tag.toLowerCase().trim() + "%");
+                    tagClauses.add("LOWER(a.tags) LIKE :" + name);
+                }
+            }
+            if (!tagClauses.isEmpty()) clauses.add("(" + String.join(" OR ", tagClauses) + ")");
+        }
+        if (q.createdFrom() != null) {
+            binds.put("createdFrom", q.createdFrom());
+            clauses.add("a.created_at >= :createdFrom");
+        }
+        if (q.createdTo() != null) {
+            binds.put("createdTo", q.createdTo());
+            clauses.add("a.created_at <= :createdTo");
+        }
+        if (q.publishedAsOf() != null) {
+            binds.put("now", q.publishedAsOf());
+            clauses.add("a.published_at IS NOT NULL AND a.published_at <= :now");
+        }
+        if (q.featured()) clauses.add("a.featured = TRUE");
+        if (q.pinned()) clauses.add("a.pinned = TRUE");
+        return clauses.isEmpty() ? "" : " WHERE " + String.join(" AND ", clauses);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, Map<String, Object> binds) {
+        for (Map.Entry<String, Object> e : binds.entrySet()) {
+            spec = spec.bind(e.getKey(), e.getValue());
+        }
+        return spec;
+    }
+
+    private static ArticleResponse toResponse(Readable row) {
+        return new ArticleResponse(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                null,
+                row.get("excerpt", String.class),
+                row.get("word_count", Integer.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("published_at", LocalDateTime.class),
+                row.get("view_count", Long.class),
+                row.get("author_id", Long.class),
+                null,
+                row.get("category", String.class),
+                row.get("tags", String.class),
+                Optional.ofNullable(row.get("featured", Boolean.class)).orElse(false),
+                Optional.ofNullable(row.get("pinned", Boolean.class)).orElse(false),
+                row.get("version", Long.class),
+                null,
+                null);
+    }
+}
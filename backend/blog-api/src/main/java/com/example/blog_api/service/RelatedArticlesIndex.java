@@ -0,0 +1,391 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.Article;
+import com.example.blog_api.ArticleChangeType;
+import com.example.blog_api.ArticleRepository;
+import com.example.blog_api.dto.ArticleChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory similarity index for related articles.
+ * Each article is a sparse unit vector of TF-IDF weights over title and content words plus
+ * "tag:" and "cat:" feature terms; neighbours are ranked by cosine similarity using inverted
+ * posting lists. Storage is primitive arrays (int doc/term ids, float weights), vectors keep
+ * only the strongest {@value #MAX_DOC_TERMS} terms, and very common terms are skipped at query
+ * time, which keeps lookups sub-millisecond on large corpora.
+ * Built in the background at startup, then maintained from the article change outbox.
+ */
+@Service
+@Lazy(false)
+public class RelatedArticlesIndex implements ArticleChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RelatedArticlesIndex.class);
+
+    private static final int MAX_DOC_TERMS = 32;
+    private static final int MAX_QUERY_TERMS = 16;
+    /** Terms present in more than this share of documents carry little signal and long postings. */
+    private static final float MAX_DF_RATIO = 0.05f;
+    private static final float TITLE_BOOST = 2f;
+    private static final float TAG_BOOST = 3f;
+    private static final float CATEGORY_BOOST = 1.5f;
+    private static final long DRAFT = Long.MAX_VALUE;
+    private static final Set<String> STOPWORDS = Set.of(
+            "les", "des", "une", "est", "pour", "par", "dans", "sur", "avec", "qui", "que", "pas", "plus",
+            "aux", "ces", "son", "ses", "sont", "mais", "ont", "cette", "comme", "tout", "nous", "vous",
+            "the", "and", "for", "are", "with", "that", "this", "from", "was", "have", "not", "but");
+
+    private final ArticleRepository articleRepository;
+    private final ArticleContentService contentService;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Term dictionary and posting lists (term id -> doc ids / weights)
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private int[][] postingDocs = new int[1024][];
+    private float[][] postingWeights = new float[1024][];
+    private int[] postingSizes = new int[1024];
+    private int termCount;
+
+    // Documents (doc id -> article id, publication time, sparse vector)
+    private long[] docArticleIds = new long[1024];
+    private long[] docPublishedAt = new long[1024];
+    private int[][] docTerms = new int[1024][];
+    private float[][] docWeights = new float[1024][];
+    private int docCount;
+    private final BitSet deletedDocs = new BitSet();
+    private final Map<Long, Integer> docByArticle = new HashMap<>();
+
+    private final ThreadLocal<float[]> scratchScores = ThreadLocal.withInitial(() -> new float[0]);
+
+    public RelatedArticlesIndex(ArticleRepository articleRepository, ArticleContentService contentService) {
+        this.articleRepository = articleRepository;
+        this.contentService = contentService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        Thread builder = new Thread(this::buildFromDatabase, "related-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    @Override
+    public boolean isNodeLocal() {
+        return true;
+    }
+
+    /** Reindexes everything in the background, dropping the articles that are gone. */
+    @Override
+    public void onChangesMissed() {
+        buildInBackground();
+    }
+
+    @Override
+    public void onArticleChanges(List<ArticleChangeEvent> changes) {
+        List<Long> ids = changes.stream()
+                .filter(c -> c.type() != ArticleChangeType.DELETED)
+                .map(ArticleChangeEvent::articleId)
+                .distinct()
+                .toList();
+        Map<Long, Article> articles = new HashMap<>();
+        for (Article a : articleRepository.findAllById(ids)) {
+            articles.put(a.getId(), a);
+        }
+        Map<Long, String> bodies = contentService.getAll(articles.keySet());
+        for (ArticleChangeEvent change : changes) {
+            Article article = articles.get(change.articleId());
+            if (change.type() == ArticleChangeType.DELETED || article == null) {
+                remove(change.articleId());
+            } else {
+                index(article, bodies.get(article.getId()));
+            }
+        }
+    }
+
+    /** Ids of the k most similar public articles, best first; empty when the article is not indexed. */
+    public long[] related(long articleId, int k) {
+        lock.readLock().lock();
+        try {
+            Integer doc = docByArticle.get(articleId);
+            if (doc == null || k <= 0) return new long[0];
+            return topK(doc, k, LocalDateTime.now().toEpochSecond(ZoneOffset.UTC));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void index(Article article, String content) {
+        Map<String, Float> features = features(article, content);
+        lock.writeLock().lock();
+        try {
+            removeLocked(article.getId());
+            addLocked(article.getId(), publishedAt(article), features);
+            if (deletedDocs.cardinality() > 1000 && deletedDocs.cardinality() > docByArticle.size() / 4) {
+                compactLocked();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private synchronized void buildFromDatabase() {
+        long start = System.nanoTime();
+        int page = 0;
+        Set<Long> seen = new HashSet<>();
+        long maxId = Long.MIN_VALUE;
+        Page<Article> batch;
+        do {
+            batch = articleRepository.findAll(PageRequest.of(page++, 500, Sort.by("id")));
+            Map<Long, String> bodies = contentService.getAll(batch.map(Article::getId).toList());
+            for (Article article : batch) {
+                index(article, bodies.get(article.getId()));
+                seen.add(article.getId());
+                maxId = Math.max(maxId, article.getId());
+            }
+        } while (batch.hasNext());
+        pruneMissing(seen, seen.isEmpty() ? Long.MAX_VALUE : maxId);
+        log.info("Related-articles index built: {} articles, {} terms in {} ms",
+                docByArticle.size(), termCount, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private long[] topK(int doc, int k, long nowEpoch) {
+        int[] terms = docTerms[doc];
+        float[] weights = docWeights[doc];
+        int maxDf = Math.max(50, (int) (docByArticle.size() * MAX_DF_RATIO));
+
+        float[] scratch = scratchScores.get();
+        if (scratch.length < docCount) {
+            scratch = new float[docCount + docCount / 2];
+            scratchScores.set(scratch);
+        }
+        final float[] scores = scratch;
+        int[] touched = new int[64];
+        int touchedCount = 0;
+
+        // Doc vectors are sorted by weight, so the first terms are the strongest
+        int used = 0;
+        for (int i = 0; i < terms.length && used < MAX_QUERY_TERMS; i++) {
+            int term = terms[i];
+            int size = postingSizes[term];
+            if (size > maxDf) continue;
+            used++;
+            float qw = weights[i];
+            int[] pDocs = postingDocs[term];
+            float[] pWeights = postingWeights[term];
+            for (int p = 0; p < size; p++) {
+                int d = pDocs[p];
+                if (scores[d] == 0f) {
+                    if (touchedCount == touched.length) touched = Arrays.copyOf(touched, touchedCount * 2);
+                    touched[touchedCount++] = d;
+                }
+                scores[d] += qw * pWeights[p];
+            }
+        }
+
+        // Min-heap of the best k candidates
+        PriorityQueue<Integer> heap = new PriorityQueue<>(k + 1, (a, b) -> Float.compare(scores[a], scores[b]));
+        for (int i = 0; i < touchedCount; i++) {
+            int d = touched[i];
+            if (d == doc || deletedDocs.get(d) || docPublishedAt[d] > nowEpoch) continue;
+            if (heap.size() < k) {
+                heap.add(d);
+            } else if (scores[d] > scores[heap.peek()]) {
+                heap.poll();
+                heap.add(d);
+            }
+        }
+        long[] result = new long[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = docArticleIds[heap.poll()];
+        }
+        for (int i = 0; i < touchedCount; i++) {
+            scores[touched[i]] = 0f;
+        }
+        return result;
+    }
+
+    /** Drops indexed articles not found by a rebuild; ids above maxId were created during the scan. */
+    private void pruneMissing(Set<Long> seen, long maxId) {
+        lock.writeLock().lock();
+        try {
+            List<Long> gone = docByArticle.keySet().stream().filter(id -> id <= maxId && !seen.contains(id)).toList();
+            gone.forEach(this::removeLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addLocked(long articleId, long publishedAt, Map<String, Float> features) {
+        int n = docByArticle.size() + 1;
+        int size = features.size();
+        int[] terms = new int[size];
+        float[] weights = new float[size];
+        int i = 0;
+        double norm = 0;
+        for (Map.Entry<String, Float> f : features.entrySet()) {
+            int term = termId(f.getKey());
+            double idf = Math.log((n + 1.0) / (postingSizes[term] + 1.0)) + 1.0;
+            terms[i] = term;
+            weights[i] = (float) (f.getValue() * idf);
+            norm += weights[i] * weights[i];
+            i++;
+        }
+        // Keep the strongest terms, sorted by decreasing weight
+        Integer[] order = new Integer[size];
+        for (int j = 0; j < size; j++) order[j] = j;
+        Arrays.sort(order, (a, b) -> Float.compare(weights[b], weights[a]));
+        int kept = Math.min(size, MAX_DOC_TERMS);
+        int[] keptTerms = new int[kept];
+        float[] keptWeights = new float[kept];
+        float invNorm = norm > 0 ? (float) (1.0 / Math.sqrt(norm)) : 0f;
+        for (int j = 0; j < kept; j++) {
+            keptTerms[j] = terms[order[j]];
+            keptWeights[j] = weights[order[j]] * invNorm;
+        }
+
+        int doc = docCount++;
+        ensureDocCapacity(docCount);
+        docArticleIds[doc] = articleId;
+        docPublishedAt[doc] = publishedAt;
+        docTerms[doc] = keptTerms;
+        docWeights[doc] = keptWeights;
+        docByArticle.put(articleId, doc);
+        for (int j = 0; j < kept; j++) {
+            addPosting(keptTerms[j], doc, keptWeights[j]);
+        }
+    }
+
+    private void removeLocked(long articleId) {
+        Integer doc = docByArticle.remove(articleId);
+        if (doc != null) {
+            deletedDocs.set(doc);
+        }
+    }
+
+    /** Rebuilds doc ids and posting lists without tombstoned documents. */
+    private void compactLocked() {
+        long[] oldIds = docArticleIds;
+        long[] oldPublished = docPublishedAt;
+        int[][] oldTerms = docTerms;
+        float[][] oldWeights = docWeights;
+        int oldCount = docCount;
+
+        docArticleIds = new long[Math.max(1024, docByArticle.size() * 2)];
+        docPublishedAt = new long[docArticleIds.length];
+        docTerms = new int[docArticleIds.length][];
+        docWeights = new float[docArticleIds.length][];
+        docCount = 0;
+        Arrays.fill(postingSizes, 0);
+        docByArticle.clear();
+        for (int old = 0; old < oldCount; old++) {
+            if (deletedDocs.get(old)) continue;
+            int doc = docCount++;
+            docArticleIds[doc] = oldIds[old];
+            docPublishedAt[doc] = oldPublished[old];
+            docTerms[doc] = oldTerms[old];
+            docWeights[doc] = oldWeights[old];
+            docByArticle.put(oldIds[old], doc);
+            for (int j = 0; j < oldTerms[old].length; j++) {
+                addPosting(oldTerms[old][j], doc, oldWeights[old][j]);
+            }
+        }
+        deletedDocs.clear();
+        scratchScores.remove();
+    }
+
+    private int termId(String term) {
+        Integer id = termIds.get(term);
+        if (id != null) return id;
+        int newId = termCount++;
+        if (newId == postingDocs.length) {
+            int cap = newId * 2;
+            postingDocs = Arrays.copyOf(postingDocs, cap);
+            postingWeights = Arrays.copyOf(postingWeights, cap);
+            postingSizes = Arrays.copyOf(postingSizes, cap);
+        }
+        postingDocs[newId] = new int[4];
+        postingWeights[newId] = new float[4];
+        termIds.put(term, newId);
+        return newId;
+    }
+
+    private void addPosting(int term, int doc, float weight) {
+        int size = postingSizes[term];
+        if (size == postingDocs[term].length) {
+            postingDocs[term] = Arrays.copyOf(postingDocs[term], size * 2);
+            postingWeights[term] = Arrays.copyOf(postingWeights[term], size * 2);
+        }
+        postingDocs[term][size] = doc;
+        postingWeights[term][size] = weight;
+        postingSizes[term] = size + 1;
+    }
+
+    private void ensureDocCapacity(int capacity) {
+        if (capacity <= docArticleIds.length) return;
+        int cap = Math.max(capacity, docArticleIds.length * 2);
+        docArticleIds = Arrays.copyOf(docArticleIds, cap);
+        docPublishedAt = Arrays.copyOf(docPublishedAt, cap);
+        docTerms = Arrays.copyOf(docTerms, cap);
+        docWeights = Arrays.copyOf(docWeights, cap);
+    }
+
+    private static long publishedAt(Article article) {
+        return article.getPublishedAt() != null ? article.getPublishedAt().toEpochSecond(ZoneOffset.UTC) : DRAFT;
+    }
+
+    /** Log-scaled term frequencies with field boosts. */
+    static Map<String, Float> features(Article article, String content) {
+        Map<String, Float> tf = new HashMap<>();
+        addWords(tf, article.getTitle(), TITLE_BOOST);
+        addWords(tf, content, 1f);
+        if (article.getTags() != null) {
+            for (String tag : article.getTags().split(",")) {
+                String t = tag.trim().toLowerCase(Locale.ROOT);
+                if (!t.isEmpty()) tf.merge("tag:" + t, TAG_BOOST, Float::sum);
+            }
+        }
+        if (article.getCategory() != null && !article.getCategory().isBlank()) {
+            tf.merge("cat:" + article.getCategory().trim().toLowerCase(Locale.ROOT), CATEGORY_BOOST, Float::sum);
+        }
+        tf.replaceAll((term, raw) -> (float) (1 + Math.log(raw)));
+        return tf;
+    }
+
+    private static void addWords(Map<String, Float> tf, String text, float boost) {
+        if (text == null) return;
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.length() >= 3 && !STOPWORDS.contains(word)) {
+                tf.merge(word, boost, Float::sum);
+            }
+        }
+    }
+}
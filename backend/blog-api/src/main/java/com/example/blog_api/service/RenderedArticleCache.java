@@ -0,0 +1,217 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.config.RenderingProperties;
+import com.example.blog_api.dto.ArticleChangeEvent;
+import com.example.blog_api.dto.RenderedBody;
+import com.example.blog_api.dto.TocEntry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Rendered article bodies, keyed by article id and version (updatedAt), so a body is rendered
+ * once per version however many readers ask at the same time (concurrent misses wait for the
+ * first render). LRU within app.rendering.cache-max-bytes; evicted entries are written to
+ * app.rendering.spill-dir when set (bounded by spill-max-bytes) and read back before re-rendering.
+ * Spill files only live for the process: the directory is emptied at startup.
+ */
+@Service
+public class RenderedArticleCache implements ArticleChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RenderedArticleCache.class);
+    private static final int SPILL_MAGIC = 0x52484d31; // "RHM1"
+
+    private record Key(long articleId, LocalDateTime version) {}
+
+    private record Entry(LocalDateTime version, RenderedBody body, long size) {}
+
+    private final ArticleRenderer renderer;
+    private final RenderingProperties properties;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Key, CompletableFuture<RenderedBody>> rendering = new ConcurrentHashMap<>();
+    private final AtomicLong spillBytes = new AtomicLong();
+    private long memoryBytes;
+
+    public RenderedArticleCache(ArticleRenderer renderer, RenderingProperties properties) {
+        this.renderer = renderer;
+        this.properties = properties;
+    }
+
+    /** Rendered body of this article version; content is only called when neither memory nor spill has it. */
+    public RenderedBody get(long articleId, LocalDateTime version, Supplier<String> content) {
+        synchronized (entries) {
+            Entry cached = entries.get(articleId);
+            if (cached != null && Objects.equals(cached.version(), version)) {
+                return cached.body();
+            }
+        }
+        Key key = new Key(articleId, version);
+        CompletableFuture<RenderedBody> mine = new CompletableFuture<>();
+        CompletableFuture<RenderedBody> running = rendering.putIfAbsent(key, mine);
+        if (running != null) {
+            return running.join();
+        }
+        try {
+            RenderedBody body = readSpill(articleId, version);
+            if (body == null) {
+                body = renderer.render(content.get());
+            }
+            put(articleId, version, body);
+            mine.complete(body);
+            return body;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            rendering.remove(key, mine);
+        }
+    }
+
+    @Override
+    public boolean isNodeLocal() {
+        return true;
+    }
+
+    @Override
+    public void onArticleChanges(List<ArticleChangeEvent> changes) {
+        synchronized (entries) {
+            for (ArticleChangeEvent change : changes) {
+                Entry removed = entries.remove(change.articleId());
+                if (removed != null) memoryBytes -= removed.size();
+            }
+        }
+        for (ArticleChangeEvent change : changes) {
+            deleteSpill(change.articleId());
+        }
+    }
+
+    @PostConstruct
+    void clearSpillDir() {
+        Path dir = spillDir();
+        if (dir == null || !Files.isDirectory(dir)) return;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.rendered")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            log.warn("Cannot clear render spill directory {}", dir, e);
+        }
+    }
+
+    private void put(long articleId, LocalDateTime version, RenderedBody body) {
+        List<Map.Entry<Long, Entry>> evicted = new ArrayList<>();
+        synchronized (entries) {
+            Entry entry = new Entry(version, body, body.sizeInBytes());
+            Entry previous = entries.put(articleId, entry);
+            if (previous != null) memoryBytes -= previous.size();
+            memoryBytes += entry.size();
+            var it = entries.entrySet().iterator();
+            while (memoryBytes > properties.getCacheMaxBytes() && entries.size() > 1 && it.hasNext()) {
+                Map.Entry<Long, Entry> eldest = it.next();
+                it.remove();
+                memoryBytes -= eldest.getValue().size();
+                evicted.add(eldest);
+            }
+        }
+        // Disk writes outside the lock
+        for (Map.Entry<Long, Entry> e : evicted) {
+            writeSpill(e.getKey(), e.getValue());
+        }
+    }
+
+    private RenderedBody readSpill(long articleId, LocalDateTime version) {
+        Path file = spillFile(articleId);
+        if (file == null || !Files.exists(file)) return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SPILL_MAGIC || !in.readUTF().equals(String.valueOf(version))) return null;
+            int wordCount = in.readInt();
+            int readingTime = in.readInt();
+            int tocSize = in.readInt();
+            List<TocEntry> toc = new ArrayList<>(tocSize);
+            for (int i = 0; i < tocSize; i++) {
+                toc.add(new TocEntry(in.readInt(), in.readUTF(), in.readUTF()));
+            }
+            byte[] html = new byte[in.readInt()];
+            in.readFully(html);
+            return new RenderedBody(new String(html, StandardCharsets.UTF_8), List.copyOf(toc), wordCount, readingTime);
+        } catch (IOException e) {
+            log.warn("Cannot read render spill {}", file, e);
+            return null;
+        }
+    }
+
+    private void writeSpill(long articleId, Entry entry) {
+        Path file = spillFile(articleId);
+        if (file == null) return;
+        byte[] html = entry.body().html().getBytes(StandardCharsets.UTF_8);
+        if (spillBytes.get() + html.length > properties.getSpillMaxBytes()) return;
+        try {
+            Files.createDirectories(file.getParent());
+            deleteSpill(articleId);
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(SPILL_MAGIC);
+                out.writeUTF(String.valueOf(entry.version()));
+                out.writeInt(entry.body().wordCount());
+                out.writeInt(entry.body().readingTimeMinutes());
+                out.writeInt(entry.body().toc().size());
+                for (TocEntry toc : entry.body().toc()) {
+                    out.writeInt(toc.level());
+                    out.writeUTF(toc.id());
+                    out.writeUTF(toc.text());
+                }
+                out.writeInt(html.length);
+                out.write(html);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            spillBytes.addAndGet(Files.size(file));
+        } catch (IOException e) {
+            log.warn("Cannot write render spill {}", file, e);
+        }
+    }
+
+    private void deleteSpill(long articleId) {
+        Path file = spillFile(articleId);
+        if (file == null) return;
+        try {
+            if (Files.exists(file)) {
+                long size = Files.size(file);
+                if (Files.deleteIfExists(file)) spillBytes.addAndGet(-size);
+            }
+        } catch (IOException e) {
+            log.warn("Cannot delete render spill {}", file, e);
+        }
+    }
+
+    private Path spillFile(long articleId) {
+        Path dir = spillDir();
+        return dir == null ? null : dir.resolve(articleId + ".rendered");
+    }
+
+    private Path spillDir() {
+        String dir = properties.getSpillDir();
+        return dir == null || dir.isBlank() ? null : Path.of(dir);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.ArticleRepository;
+import com.example.blog_api.ArticleRevision;
+import com.example.blog_api.ArticleRevisionRepository;
+import com.example.blog_api.config.RevisionProperties;
+import com.example.blog_api.dto.ArticleRevisionInfo;
+import com.example.blog_api.dto.ArticleRevisionResponse;
+import com.example.blog_api.dto.DiffChunk;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Article revision history. Each write appends a revision holding a deflated delta against the
+ * previous one ({@link TextDelta}); a full snapshot is stored every app.revisions.snapshot-every
+ * revisions, or when the delta would not be smaller. Rebuilding a revision therefore reads one
+ * snapshot and at most snapshot-every deltas.
+ * Called inside the article write transaction, with the content before and after the write.
+ * Revision numbers are taken under a lock on the article row: concurrent writers of one article
+ * number their revisions one after the other instead of colliding on (articleId, revision).
+ */
+@Service
+public class RevisionService {
+
+    private final ArticleRevisionRepository repository;
+    private final ArticleRepository articleRepository;
+    private final RevisionProperties properties;
+
+    public RevisionService(ArticleRevisionRepository repository, ArticleRepository articleRepository,
+                           RevisionProperties properties) {
+        this.repository = repository;
+        this.articleRepository = articleRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Appends a revision for a write from (previousTitle, previousContent) to (title, content).
+     * Articles without history (created before revisions existed) first get their previous state as a snapshot.
+     */
+    @Transactional
+    public void record(Long articleId, String previousTitle, String previousContent,
+                       String title, String content, Long actorId) {
+        String before = previousContent == null ? "" : previousContent;
+        String after = content == null ? "" : content;
+        if (Objects.equals(previousTitle, title) && before.equals(after)) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        articleRepository.findIdForUpdate(articleId);
+        Integer latest = repository.findLatestRevision(articleId);
+        if (latest == null) {
+            repository.save(new ArticleRevision(articleId, 1, true, previousTitle, TextDelta.compress(before),
+                    before.length(), null, now));
+            latest = 1;
+        }
+        int revision = latest + 1;
+        Integer lastSnapshot = repository.findSnapshotAtOrBefore(articleId, latest);
+        byte[] data = TextDelta.compress(after);
+        boolean snapshot = true;
+        if (lastSnapshot != null && revision - lastSnapshot < properties.getSnapshotEvery()) {
+            byte[] delta = TextDelta.encode(before, after);
+            if (delta.length < data.length) {
+                data = delta;
+                snapshot = false;
+            }
+        }
+        repository.save(new ArticleRevision(articleId, revision, snapshot, title, data, after.length(), actorId, now));
+    }
+
+    /** First revision of a new article. */
+    @Transactional
+    public void recordCreated(Long articleId, String title, String content, Long actorId) {
+        String text = content == null ? "" : content;
+        repository.save(new ArticleRevision(articleId, 1, true, title, TextDelta.compress(text), text.length(),
+                actorId, LocalDateTime.now()));
+    }
+
+    @Transactional
+    public void deleteHistory(Long articleId) {
+        repository.deleteByArticleId(articleId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArticleRevisionInfo> list(Long articleId) {
+        return repository.findInfoByArticleId(articleId);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ArticleRevisionResponse> get(Long articleId, int revision) {
+        Integer snapshot = repository.findSnapshotAtOrBefore(articleId, revision);
+        if (snapshot == null) return Optional.empty();
+        List<ArticleRevision> chain =
+                repository.findByArticleIdAndRevisionBetweenOrderByRevisionAsc(articleId, snapshot, revision);
+        if (chain.isEmpty() || chain.get(chain.size() - 1).getRevision() != revision) return Optional.empty();
+        String content = TextDelta.decompress(chain.get(0).getData());
+        for (int i = 1; i < chain.size(); i++) {
+            ArticleRevision r = chain.get(i);
+            content = r.isSnapshot() ? TextDelta.decompress(r.getData()) : TextDelta.apply(content, r.getData());
+        }
+        ArticleRevision target = chain.get(chain.size() - 1);
+        return Optional.of(new ArticleRevisionResponse(articleId, revision, target.getTitle(), content,
+                target.getActorId(), target.getCreatedAt()));
+    }
+
+    /** Line diff between two revisions, or empty if either does not exist. */
+    @Transactional(readOnly = true)
+    public Optional<List<DiffChunk>> diff(Long articleId, int from, int to) {
+        Optional<ArticleRevisionResponse> a = get(articleId, from);
+        Optional<ArticleRevisionResponse> b = get(articleId, to);
+        if (a.isEmpty() || b.isEmpty()) return Optional.empty();
+        return Optional.of(TextDelta.diff(a.get().content(), b.get().content()));
+    }
+}
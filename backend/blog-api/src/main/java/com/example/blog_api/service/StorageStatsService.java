@@ -0,0 +1,55 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.dto.ContentStorageStats;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/** Disk and buffer cache figures for article bodies (article_content), to compare text and compressed storage. */
+@Service
+public class StorageStatsService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StorageStatsService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public ContentStorageStats contentStats() {
+        Map<String, Object> sizes = jdbcTemplate.queryForMap(
+                "SELECT COUNT(*) AS articles, " +
+                "SUM(CASE WHEN content_compressed IS NOT NULL THEN 1 ELSE 0 END) AS compressed_rows, " +
+                "COALESCE(SUM(OCTET_LENGTH(content)), 0) AS text_bytes, " +
+                "COALESCE(SUM(OCTET_LENGTH(content_compressed)), 0) AS compressed_bytes " +
+                "FROM article_content");
+        Long tableBytes = null;
+        Long searchTextBytes = null;
+        Double heapHit = null;
+        Double toastHit = null;
+        try {
+            tableBytes = jdbcTemplate.queryForObject("SELECT pg_total_relation_size('article_content')", Long.class);
+            searchTextBytes = jdbcTemplate.queryForObject("SELECT pg_total_relation_size('article_search_text')", Long.class);
+            Map<String, Object> io = jdbcTemplate.queryForMap(
+                    "SELECT heap_blks_hit, heap_blks_read, toast_blks_hit, toast_blks_read " +
+                    "FROM pg_statio_user_tables WHERE relname = 'article_content'");
+            heapHit = ratio(io.get("heap_blks_hit"), io.get("heap_blks_read"));
+            toastHit = ratio(io.get("toast_blks_hit"), io.get("toast_blks_read"));
+        } catch (DataAccessException e) {
+            // Not PostgreSQL (H2 in dev): only the row-level figures are available
+        }
+        return new ContentStorageStats(asLong(sizes.get("articles")), asLong(sizes.get("compressed_rows")),
+                asLong(sizes.get("text_bytes")), asLong(sizes.get("compressed_bytes")), tableBytes, searchTextBytes, heapHit, toastHit);
+    }
+
+    private static Double ratio(Object hit, Object read) {
+        long h = asLong(hit);
+        long total = h + asLong(read);
+        return total == 0 ? null : (double) h / total;
+    }
+
+    private static long asLong(Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.dto.DiffChunk;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Line-based text deltas. A line diff (Myers, after trimming the common head and tail) becomes a
+ * list of operations on the base text: COPY a character range of the base, or INSERT new text.
+ * Encoded and deflated, a delta is proportional to the edited lines, not to the document.
+ */
+public final class TextDelta {
+
+    private static final byte OP_COPY = 1;
+    private static final byte OP_INSERT = 2;
+    /** Beyond this many differing lines the middle section is treated as one replacement (bounds memory). */
+    private static final int MAX_EDIT_DISTANCE = 2000;
+
+    private enum Op { EQUAL, INSERT, DELETE }
+
+    private record Edit(Op op, int line) {}
+
+    private TextDelta() {}
+
+    /** Deflated delta turning base into target. */
+    public static byte[] encode(String base, String target) {
+        List<String> baseLines = lines(base);
+        List<String> targetLines = lines(target);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            int[] baseOffsets = offsets(baseLines);
+            int copyStart = -1;
+            int copyEnd = -1;
+            StringBuilder insert = new StringBuilder();
+            for (Edit e : diffLines(baseLines, targetLines)) {
+                if (e.op() == Op.EQUAL) {
+                    if (insert.length() > 0) {
+                        writeInsert(out, insert);
+                    }
+                    int start = baseOffsets[e.line()];
+                    int end = baseOffsets[e.line() + 1];
+                    if (copyEnd == start) {
+                        copyEnd = end;
+                    } else {
+                        writeCopy(out, copyStart, copyEnd);
+                        copyStart = start;
+                        copyEnd = end;
+                    }
+                } else if (e.op() == Op.INSERT) {
+                    writeCopy(out, copyStart, copyEnd);
+                    copyStart = copyEnd = -1;
+                    insert.append(targetLines.get(e.line()));
+                }
+            }
+            writeCopy(out, copyStart, copyEnd);
+            if (insert.length() > 0) {
+                writeInsert(out, insert);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /** Applies a delta produced by {@link #encode} to the same base. */
+    public static String apply(String base, byte[] delta) {
+        StringBuilder result = new StringBuilder(base.length());
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(delta)))) {
+            int op;
+            while ((op = in.read()) != -1) {
+                if (op == OP_COPY) {
+                    int start = readVarInt(in);
+                    result.append(base, start, start + readVarInt(in));
+                } else if (op == OP_INSERT) {
+                    byte[] text = new byte[readVarInt(in)];
+                    in.readFully(text);
+                    result.append(new String(text, StandardCharsets.UTF_8));
+                } else {
+                    throw new IllegalStateException("Corrupt delta, op " + op);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result.toString();
+    }
+
+    public static byte[] compress(String text) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static String decompress(byte[] data) {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(data))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Line diff for display, consecutive lines of the same kind merged. */
+    public static List<DiffChunk> diff(String from, String to) {
+        List<String> a = lines(from);
+        List<String> b = lines(to);
+        List<DiffChunk> chunks = new ArrayList<>();
+        Op current = null;
+        StringBuilder text = new StringBuilder();
+        for (Edit e : diffLines(a, b)) {
+            if (e.op() != current && current != null) {
+                chunks.add(new DiffChunk(current.name().toLowerCase(), text.toString()));
+                text.setLength(0);
+            }
+            current = e.op();
+            text.append(e.op() == Op.INSERT ? b.get(e.line()) : a.get(e.line()));
+        }
+        if (current != null) {
+            chunks.add(new DiffChunk(current.name().toLowerCase(), text.toString()));
+        }
+        return chunks;
+    }
+
+    /** Edit script in order; EQUAL and DELETE refer to lines of a, INSERT to lines of b. */
+    private static List<Edit> diffLines(List<String> a, List<String> b) {
+        Map<String, Integer> ids = new HashMap<>();
+        int[] x = a.stream().mapToInt(l -> ids.computeIfAbsent(l, k -> ids.size())).toArray();
+        int[] y = b.stream().mapToInt(l -> ids.computeIfAbsent(l, k -> ids.size())).toArray();
+        int head = 0;
+        while (head < x.length && head < y.length && x[head] == y[head]) head++;
+        int tail = 0;
+        while (tail < x.length - head && tail < y.length - head
+                && x[x.length - 1 - tail] == y[y.length - 1 - tail]) tail++;
+
+        List<Edit> script = new ArrayList<>(x.length + y.length);
+        for (int i = 0; i < head; i++) script.add(new Edit(Op.EQUAL, i));
+        int[] midA = Arrays.copyOfRange(x, head, x.length - tail);
+        int[] midB = Arrays.copyOfRange(y, head, y.length - tail);
+        List<Edit> middle = myers(midA, midB);
+        if (middle == null) {
+            middle = new ArrayList<>();
+            for (int i = 0; i < midA.length; i++) middle.add(new Edit(Op.DELETE, i));
+            for (int i = 0; i < midB.length; i++) middle.add(new Edit(Op.INSERT, i));
+        }
+        for (Edit e : middle) {
+            script.add(new Edit(e.op(), e.line() + head));
+        }
+        for (int i = x.length - tail; i < x.length; i++) script.add(new Edit(Op.EQUAL, i));
+        return script;
+    }
+
+    /**
+     * Shortest edit script (Myers' greedy algorithm), or null past MAX_EDIT_DISTANCE.
+     * Only the diagonals reachable at each step are kept, so memory is O(D^2).
+     */
+    private static List<Edit> myers(int[] a, int[] b) {
+        int n = a.length;
+        int m = b.length;
+        int max = Math.min(n + m, MAX_EDIT_DISTANCE);
+        int offset = max + 1;
+        int[] v = new int[2 * max + 3];
+        List<int[]> trace = new ArrayList<>();
+        for (int d = 0; d <= max; d++) {
+            // Snapshot of diagonals -d-1..d+1 before step d, indexed k + d + 1
+            trace.add(Arrays.copyOfRange(v, offset - d - 1, offset + d + 2));
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]))
+                        ? v[offset + k + 1]
+                        : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[x] == b[y]) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    return backtrack(trace, n, m);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<Edit> backtrack(List<int[]> trace, int n, int m) {
+        List<Edit> reversed = new ArrayList<>();
+        int x = n;
+        int y = m;
+        for (int d = trace.size() - 1; d >= 0; d--) {
+            int[] v = trace.get(d);
+            int k = x - y;
+            int prevK = (k == -d || (k != d && v[k - 1 + d + 1] < v[k + 1 + d + 1])) ? k + 1 : k - 1;
+            int prevX = d == 0 ? 0 : v[prevK + d + 1];
+            int prevY = d == 0 ? 0 : prevX - prevK;
+            while (x > prevX && y > prevY) {
+                reversed.add(new Edit(Op.EQUAL, --x));
+                y--;
+            }
+            if (d > 0) {
+                if (x == prevX) {
+                    reversed.add(new Edit(Op.INSERT, --y));
+                } else {
+                    reversed.add(new Edit(Op.DELETE, --x));
+                }
+            }
+        }
+        List<Edit> script = new ArrayList<>(reversed.size());
+        for (int i = reversed.size() - 1; i >= 0; i--) script.add(reversed.get(i));
+        return script;
+    }
+
+    /** Lines including their terminator, so concatenating them gives back the text. */
+    private static List<String> lines(String text) {
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lines.add(text.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < text.length()) lines.add(text.substring(start));
+        return lines;
+    }
+
+    private static int[] offsets(List<String> lines) {
+        int[] offsets = new int[lines.size() + 1];
+        for (int i = 0; i < lines.size(); i++) offsets[i + 1] = offsets[i] + lines.get(i).length();
+        return offsets;
+    }
+
+    private static void writeCopy(DataOutputStream out, int start, int end) throws IOException {
+        if (start < 0 || end <= start) return;
+        out.writeByte(OP_COPY);
+        writeVarInt(out, start);
+        writeVarInt(out, end - start);
+    }
+
+    private static void writeInsert(DataOutputStream out, StringBuilder text) throws IOException {
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        out.writeByte(OP_INSERT);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+        text.setLength(0);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+    }
+}
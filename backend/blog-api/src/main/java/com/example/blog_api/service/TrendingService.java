@@ -0,0 +1,317 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.ArticleRepository;
+import com.example.blog_api.AuthorStatsRepository;
+import com.example.blog_api.config.TrendingProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Trending articles from in-memory view counters.
+ * Each viewed article has ring buffers of per-minute (last hour) and per-hour (last week) buckets;
+ * a window's score is the sum of its buckets with exponential decay by bucket age.
+ * Rankings are rebuilt every few seconds into immutable top-K arrays, so reads never scan. The rebuild
+ * is periodic rather than a heap kept up to date on each view: decay and buckets leaving a window
+ * change every article's score as time passes, not only the viewed one's, so an incremental heap would
+ * still have to rescore everything. Each rebuild reads each live counter once (one lock, all three
+ * windows: 60 + 24 + 168 buckets) off the request path; recordView stays two map updates.
+ * Views are also accumulated and flushed to articles.viewCount (and author_stats) in batches, and counters are
+ * snapshotted to disk so rankings survive restarts.
+ */
+@Service
+@Lazy(false)
+public class TrendingService {
+
+    public enum Window {
+        HOUR("1h"),
+        DAY("24h"),
+        WEEK("7d");
+
+        private final String param;
+
+        Window(String param) {
+            this.param = param;
+        }
+
+        /** Window for a request parameter (1h, 24h, 7d), or null if unknown. */
+        public static Window fromParam(String param) {
+            for (Window w : values()) {
+                if (w.param.equalsIgnoreCase(param)) return w;
+            }
+            return null;
+        }
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingService.class);
+    private static final int SNAPSHOT_MAGIC = 0x54524e31; // "TRN1"
+    private static final int MINUTES = 60;
+    private static final int HOURS = 168;
+    // Decay weights by bucket age; half-lives: 15 min (1h), 6 h (24h), 1 day (7d)
+    private static final double[] HOUR_WEIGHTS = decayWeights(MINUTES, 15);
+    private static final double[] DAY_WEIGHTS = decayWeights(24, 6);
+    private static final double[] WEEK_WEIGHTS = decayWeights(HOURS, 24);
+
+    /** Ring buffers of view counts; each slot remembers which minute/hour it currently holds. */
+    static final class ViewCounter {
+        final int[] minuteEpochs = new int[MINUTES];
+        final int[] minuteCounts = new int[MINUTES];
+        final int[] hourEpochs = new int[HOURS];
+        final int[] hourCounts = new int[HOURS];
+
+        synchronized void record(int minute) {
+            int ms = minute % MINUTES;
+            if (minuteEpochs[ms] != minute) {
+                minuteEpochs[ms] = minute;
+                minuteCounts[ms] = 0;
+            }
+            minuteCounts[ms]++;
+            int hour = minute / 60;
+            int hs = hour % HOURS;
+            if (hourEpochs[hs] != hour) {
+                hourEpochs[hs] = hour;
+                hourCounts[hs] = 0;
+            }
+            hourCounts[hs]++;
+        }
+
+        /** Scores of every window into scores (by ordinal); false if no view is left in the last week. */
+        synchronized boolean score(int nowMinute, double[] scores) {
+            scores[Window.WEEK.ordinal()] = decayedSum(hourEpochs, hourCounts, nowMinute / 60, WEEK_WEIGHTS);
+            if (scores[Window.WEEK.ordinal()] == 0) return false;
+            scores[Window.DAY.ordinal()] = decayedSum(hourEpochs, hourCounts, nowMinute / 60, DAY_WEIGHTS);
+            scores[Window.HOUR.ordinal()] = decayedSum(minuteEpochs, minuteCounts, nowMinute, HOUR_WEIGHTS);
+            return true;
+        }
+
+        private static double decayedSum(int[] epochs, int[] counts, int now, double[] weights) {
+            double sum = 0;
+            for (int age = 0; age < weights.length; age++) {
+                int bucket = now - age;
+                int slot = bucket % epochs.length;
+                if (epochs[slot] == bucket) {
+                    sum += counts[slot] * weights[age];
+                }
+            }
+            return sum;
+        }
+    }
+
+    private final ArticleRepository articleRepository;
+    private final AuthorStatsRepository authorStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TrendingProperties properties;
+    private final ArticleMetadataIndex metadataIndex;
+    private final Map<Long, ViewCounter> counters = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private volatile Map<Window, long[]> rankings = new EnumMap<>(Window.class);
+
+    public TrendingService(ArticleRepository articleRepository, AuthorStatsRepository authorStatsRepository,
+                           TransactionTemplate transactionTemplate, TrendingProperties properties,
+                           ArticleMetadataIndex metadataIndex) {
+        this.articleRepository = articleRepository;
+        this.authorStatsRepository = authorStatsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.metadataIndex = metadataIndex;
+    }
+
+    public void recordView(long articleId) {
+        recordView(articleId, currentMinute());
+    }
+
+    void recordView(long articleId, int minute) {
+        counters.computeIfAbsent(articleId, id -> new ViewCounter()).record(minute);
+        pendingViews.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+    }
+
+    /** Article ids ranked by decayed views in the window, best first (at most limit). */
+    public long[] trending(Window window, int limit) {
+        long[] ranked = rankings.getOrDefault(window, new long[0]);
+        return ranked.length <= limit ? ranked : Arrays.copyOf(ranked, limit);
+    }
+
+    @Scheduled(fixedDelayString = "${app.trending.refresh-interval-ms:10000}")
+    public void refreshRankings() {
+        refreshRankings(currentMinute());
+    }
+
+    /** One pass over the counters: drops those a week old, offers the others to each window's top-K heap. */
+    void refreshRankings(int now) {
+        int k = properties.getTopK();
+        Map<Window, PriorityQueue<Scored>> heaps = new EnumMap<>(Window.class);
+        for (Window window : Window.values()) {
+            heaps.put(window, new PriorityQueue<>(k + 1, Comparator.comparingDouble(Scored::score)));
+        }
+        double[] scores = new double[Window.values().length];
+        for (Iterator<Map.Entry<Long, ViewCounter>> it = counters.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, ViewCounter> e = it.next();
+            if (!e.getValue().score(now, scores)) {
+                it.remove();
+                continue;
+            }
+            for (Window window : Window.values()) {
+                offer(heaps.get(window), e.getKey(), scores[window.ordinal()], k);
+            }
+        }
+        pendingViews.entrySet().removeIf(e -> !counters.containsKey(e.getKey()) && e.getValue().sum() == 0);
+        Map<Window, long[]> next = new EnumMap<>(Window.class);
+        heaps.forEach((window, heap) -> next.put(window, ranked(heap)));
+        rankings = next;
+    }
+
+    /**
+     * Adds the views recorded since the last flush to articles.viewCount and the authors' totals,
+     * then to the metadata index once committed. The deltas are taken before the transaction and
+     * put back if it fails, so a rollback delays views to the next flush instead of losing them.
+     */
+    @Scheduled(fixedDelayString = "${app.trending.flush-interval-ms:10000}")
+    public void flushViewCounts() {
+        Map<Long, Long> flushed = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> e : pendingViews.entrySet()) {
+            long delta = e.getValue().sumThenReset();
+            if (delta > 0) {
+                flushed.put(e.getKey(), delta);
+            }
+        }
+        if (flushed.isEmpty()) return;
+        try {
+            transactionTemplate.executeWithoutResult(status -> flushed.forEach((articleId, delta) -> {
+                articleRepository.incrementViewCount(articleId, delta);
+                authorStatsRepository.addViews(articleId, delta);
+            }));
+        } catch (RuntimeException e) {
+            flushed.forEach((articleId, delta) ->
+                    pendingViews.computeIfAbsent(articleId, id -> new LongAdder()).add(delta));
+            log.warn("View count flush failed, {} articles kept for the next flush", flushed.size(), e);
+            return;
+        }
+        metadataIndex.addViews(flushed);
+    }
+
+    @PostConstruct
+    void loadSnapshot() {
+        Path file = snapshotPath();
+        if (file == null || !Files.exists(file)) return;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) return;
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                long id = in.readLong();
+                ViewCounter c = new ViewCounter();
+                readInts(in, c.minuteEpochs);
+                readInts(in, c.minuteCounts);
+                readInts(in, c.hourEpochs);
+                readInts(in, c.hourCounts);
+                counters.put(id, c);
+            }
+            refreshRankings();
+        } catch (IOException e) {
+            log.warn("Cannot read trending snapshot {}", file, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushViewCounts();
+        saveSnapshot();
+    }
+
+    @Scheduled(fixedDelayString = "${app.trending.snapshot-interval-ms:300000}")
+    public void saveSnapshot() {
+        Path file = snapshotPath();
+        if (file == null) return;
+        try {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                Map<Long, ViewCounter> copy = Map.copyOf(counters);
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(copy.size());
+                for (Map.Entry<Long, ViewCounter> e : copy.entrySet()) {
+                    ViewCounter c = e.getValue();
+                    out.writeLong(e.getKey());
+                    synchronized (c) {
+                        writeInts(out, c.minuteEpochs);
+                        writeInts(out, c.minuteCounts);
+                        writeInts(out, c.hourEpochs);
+                        writeInts(out, c.hourCounts);
+                    }
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Cannot write trending snapshot {}", file, e);
+        }
+    }
+
+    private record Scored(long id, double score) {}
+
+    /** Keeps the k best scores in a min-heap: the weakest is evicted when a better one arrives. */
+    private static void offer(PriorityQueue<Scored> heap, long id, double score, int k) {
+        if (score <= 0 || k <= 0) return;
+        if (heap.size() < k) {
+            heap.add(new Scored(id, score));
+        } else if (score > heap.peek().score()) {
+            heap.poll();
+            heap.add(new Scored(id, score));
+        }
+    }
+
+    private static long[] ranked(PriorityQueue<Scored> heap) {
+        long[] ids = new long[heap.size()];
+        for (int i = ids.length - 1; i >= 0; i--) {
+            ids[i] = heap.poll().id();
+        }
+        return ids;
+    }
+
+    private Path snapshotPath() {
+        String file = properties.getSnapshotFile();
+        return file == null || file.isBlank() ? null : Path.of(file);
+    }
+
+    private static int currentMinute() {
+        return (int) TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+    }
+
+    private static double[] decayWeights(int buckets, double halfLife) {
+        double[] weights = new double[buckets];
+        for (int age = 0; age < buckets; age++) {
+            weights[age] = Math.pow(0.5, age / halfLife);
+        }
+        return weights;
+    }
+
+    private static void readInts(DataInputStream in, int[] target) throws IOException {
+        for (int i = 0; i < target.length; i++) target[i] = in.readInt();
+    }
+
+    private static void writeInts(DataOutputStream out, int[] source) throws IOException {
+        for (int value : source) out.writeInt(value);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.blog_api.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Invalidations as UDP datagrams to a fixed list of peers. Meant for several instances on one
+ * machine (loopback, one port each) and for small static clusters. There is no connection, so loss
+ * is only detected by the coherence layer (sequence gaps, heartbeats).
+ */
+final class UdpCacheTransport implements CacheInvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(UdpCacheTransport.class);
+    /** Messages are kept far below this by CacheCoherenceService (and by NOTIFY's 8000-byte limit). */
+    private static final int MAX_DATAGRAM = 65_507;
+
+    private final InetSocketAddress bind;
+    private final List<InetSocketAddress> peers;
+
+    private volatile boolean running;
+    private DatagramSocket socket;
+    private Thread listener;
+
+    UdpCacheTransport(InetSocketAddress bind, List<InetSocketAddress> peers) {
+        this.bind = bind;
+        this.peers = peers;
+    }
+
+    @Override
+    public void start(Consumer<String> onMessage, Runnable onResync) {
+        try {
+            socket = new DatagramSocket(bind);
+        } catch (SocketException e) {
+            throw new IllegalStateException("Cannot bind cache coherence socket " + bind, e);
+        }
+        running = true;
+        listener = new Thread(() -> {
+            byte[] buffer = new byte[MAX_DATAGRAM];
+            while (running) {
+                DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+                try {
+                    socket.receive(packet);
+                    onMessage.accept(new String(packet.getData(), packet.getOffset(), packet.getLength(), StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    if (running) log.warn("Cache coherence receive failed: {}", e.getMessage());
+                }
+            }
+        }, "cache-coherence-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void publish(String message) throws IOException {
+        byte[] data = message.getBytes(StandardCharsets.UTF_8);
+        for (InetSocketAddress peer : peers) {
+            socket.send(new DatagramPacket(data, data.length, peer));
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (socket != null) socket.close();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.blog_api.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process cache whose entries carry the version of the data they hold (an entity @Version, an
+ * outbox id...). An invalidation at version v removes entries older than v and leaves a tombstone
+ * at v, so a late or duplicate invalidation is ignored, and so is a value loaded before the change
+ * that arrives after its invalidation. Cleared when it exceeds its maximum size, like the other
+ * small caches here.
+ */
+public final class VersionedCache<K, V> {
+
+    /** value == null: tombstone left by an invalidation. */
+    private record Entry<V>(V value, long version) {}
+
+    private final int maxEntries;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    public VersionedCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry == null ? null : entry.value();
+    }
+
+    /**
+     * Caches the value unless the key already holds the same or a newer version, or an invalidation
+     * at a newer version. A value at the version of a tombstone replaces it: it was read after the
+     * change that left the tombstone.
+     */
+    public void put(K key, V value, long version) {
+        if (entries.size() >= maxEntries) {
+            entries.clear();
+        }
+        entries.merge(key, new Entry<>(value, version), (current, loaded) -> {
+            boolean keep = current.value() == null
+                    ? current.version() > loaded.version()
+                    : current.version() >= loaded.version();
+            return keep ? current : loaded;
+        });
+    }
+
+    /** @return false when the key is already at this version or newer (out-of-order or duplicate message) */
+    public boolean invalidate(K key, long version) {
+        if (entries.size() >= maxEntries) {
+            entries.clear();
+        }
+        boolean[] applied = new boolean[1];
+        entries.compute(key, (k, current) -> {
+            if (current != null && current.version() >= version) return current;
+            applied[0] = true;
+            return new Entry<>(null, version);
+        });
+        return applied[0];
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.blog_api.bench;
+
+import com.example.blog_api.Article;
+import com.example.blog_api.dto.ArticleResponse;
+import com.example.blog_api.dto.PageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization cost of one page of articles: entity + PageImpl (before) vs record DTO + compact envelope (after).
+ * The size of each page in bytes is printed at setup.
+ * Run: ./mvnw test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ *      java -cp target/test-classes:target/classes:$(cat target/cp.txt) org.openjdk.jmh.Main ArticleSerialization
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArticleSerializationBenchmark {
+
+    @Param({"20", "200"})
+    int pageSize;
+
+    private ObjectMapper plainMapper;
+    private ObjectMapper blackbirdMapper;
+    private Page<Article> entityPage;
+
+    @Setup
+    public void setup() {
+        plainMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        blackbirdMapper = plainMapper.copy().registerModule(new BlackbirdModule());
+
+        String content = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(80);
+        LocalDateTime now = LocalDateTime.now();
+        List<Article> articles = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Article a = new Article("Article " + i, content);
+            a.setId((long) i);
+            a.setCreatedAt(now.minusDays(i));
+            a.setUpdatedAt(now.minusDays(i));
+            a.setPublishedAt(now.minusDays(i));
+            a.setViewCount((long) i * 10);
+            a.setCategory("Tech");
+            a.setTags("java,spring,boot");
+            articles.add(a);
+        }
+        entityPage = new PageImpl<>(articles, PageRequest.of(0, pageSize, Sort.by("createdAt")), 10_000);
+        try {
+            System.out.printf("%n%d articles: entity page %d bytes, DTO page %d bytes%n", pageSize,
+                    entityPage().length, dtoPage().length);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public byte[] entityPage() throws Exception {
+        return plainMapper.writeValueAsBytes(entityPage);
+    }
+
+    @Benchmark
+    public byte[] dtoPage() throws Exception {
+        return plainMapper.writeValueAsBytes(PageResponse.of(entityPage, ArticleResponse::from));
+    }
+
+    @Benchmark
+    public byte[] dtoPageBlackbird() throws Exception {
+        return blackbirdMapper.writeValueAsBytes(PageResponse.of(entityPage, ArticleResponse::from));
+    }
+}
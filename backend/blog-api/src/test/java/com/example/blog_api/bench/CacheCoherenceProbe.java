@@ -0,0 +1,114 @@
+package com.example.blog_api.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Checks cache coherence between two running blog-api nodes sharing a database (see README):
+ * creates, recategorizes and deletes an article on node A, and measures how long node B takes to
+ * reflect each change in its list results. Node B must serve lists from its in-memory index
+ * (app.query-engine.enabled=true); otherwise it reads SQL and is trivially up to date.
+ * Prints one CSV line per step; a step that never converges within -Dtimeout counts as a failure.
+ *
+ * Run (after test-compile):
+ *   java -Dtoken=... -cp target/test-classes com.example.blog_api.bench.CacheCoherenceProbe http://localhost:8083 http://localhost:8084
+ * System properties: rounds (default 20), timeout in ms (default 10000), token (JWT of an AUTHOR/EDITOR/ADMIN).
+ */
+public final class CacheCoherenceProbe {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Pattern TOTAL = Pattern.compile("\"totalElements\"\\s*:\\s*(\\d+)");
+
+    private CacheCoherenceProbe() {}
+
+    public static void main(String[] args) throws Exception {
+        String token = System.getProperty("token");
+        if (args.length != 2 || token == null) {
+            System.err.println("usage: -Dtoken=<jwt> CacheCoherenceProbe <node-a-url> <node-b-url>");
+            System.exit(2);
+        }
+        String a = args[0].replaceAll("/+$", "");
+        String b = args[1].replaceAll("/+$", "");
+        int rounds = Integer.getInteger("rounds", 20);
+        long timeout = Long.getLong("timeout", 10_000);
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+        long[][] lags = new long[3][rounds];
+        int failures = 0;
+        for (int r = 0; r < rounds; r++) {
+            String first = "probe-" + System.nanoTime();
+            String second = first + "-moved";
+            long start = System.nanoTime();
+            HttpResponse<String> created = client.send(write(a + "/articles", "POST", token, body(first)),
+                    HttpResponse.BodyHandlers.ofString());
+            Matcher m = ID.matcher(created.body());
+            if (created.statusCode() >= 400 || !m.find()) {
+                System.err.println("create failed: " + created.statusCode() + " " + created.body());
+                System.exit(1);
+            }
+            long id = Long.parseLong(m.group(1));
+            lags[0][r] = waitForTotal(client, b, first, 1, start, timeout);
+
+            start = System.nanoTime();
+            client.send(write(a + "/articles/" + id, "PUT", token, body(second)), HttpResponse.BodyHandlers.ofString());
+            lags[1][r] = waitForTotal(client, b, second, 1, start, timeout);
+
+            start = System.nanoTime();
+            client.send(write(a + "/articles/" + id, "DELETE", token, null), HttpResponse.BodyHandlers.ofString());
+            lags[2][r] = waitForTotal(client, b, second, 0, start, timeout);
+            for (long[] step : lags) {
+                if (step[r] < 0) failures++;
+            }
+        }
+
+        System.out.println("step,rounds,failures,p50_ms,p90_ms,max_ms");
+        String[] names = {"create", "update", "delete"};
+        for (int s = 0; s < 3; s++) {
+            long[] ok = Arrays.stream(lags[s]).filter(l -> l >= 0).sorted().toArray();
+            System.out.printf("%s,%d,%d,%.1f,%.1f,%.1f%n", names[s], rounds, rounds - ok.length,
+                    percentile(ok, 50), percentile(ok, 90), percentile(ok, 100));
+        }
+        if (failures > 0) System.exit(1);
+    }
+
+    private static String body(String category) {
+        return "{\"title\":\"coherence probe\",\"content\":\"probe\",\"category\":\"" + category +
+                "\",\"publishedAt\":\"2020-01-01T00:00:00\"}";
+    }
+
+    private static HttpRequest write(String url, String method, String token, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).header("Authorization", "Bearer " + token);
+        if (json == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    /** Nanos from start until node B lists `expected` articles in the category, or -1 on timeout. */
+    private static long waitForTotal(HttpClient client, String base, String category, long expected, long start,
+                                     long timeoutMs) throws Exception {
+        HttpRequest list = HttpRequest.newBuilder(URI.create(base + "/articles?size=1&category=" + category)).GET().build();
+        while (System.nanoTime() - start < timeoutMs * 1_000_000) {
+            Matcher m = TOTAL.matcher(client.send(list, HttpResponse.BodyHandlers.ofString()).body());
+            if (m.find() && Long.parseLong(m.group(1)) == expected) {
+                return System.nanoTime() - start;
+            }
+            Thread.sleep(5);
+        }
+        return -1;
+    }
+
+    private static double percentile(long[] sorted, int p) {
+        if (sorted.length == 0) return 0;
+        int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))] / 1_000_000.0;
+    }
+}
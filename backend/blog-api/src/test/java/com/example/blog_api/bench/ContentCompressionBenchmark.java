@@ -0,0 +1,65 @@
+package com.example.blog_api.bench;
+
+import com.example.blog_api.ContentCompression;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read/write cost of compressed article bodies: decoding a TEXT value (UTF-8 bytes to String, what
+ * the driver does) vs inflating the compressed column, and the deflate cost paid on writes.
+ * The compression ratio per size and level is printed at setup.
+ * Run: java -cp target/test-classes:target/classes:$(cat target/cp.txt) org.openjdk.jmh.Main ContentCompression
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentCompressionBenchmark {
+
+    @Param({"2000", "20000", "200000"})
+    int chars;
+
+    @Param({"1", "6"})
+    int level;
+
+    private String text;
+    private byte[] utf8;
+    private byte[] compressed;
+
+    @Setup
+    public void setup() {
+        // Prose-like text: words drawn from a small vocabulary, so the ratio resembles real articles
+        String[] words = ("the of and to in is that for it as with was on be by this are from or have an " +
+                "spring article server database query index cache latency request response java thread").split(" ");
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(chars + 16);
+        while (sb.length() < chars) {
+            sb.append(words[random.nextInt(words.length)]).append(random.nextInt(12) == 0 ? ".\n" : " ");
+        }
+        text = sb.substring(0, chars);
+        utf8 = text.getBytes(StandardCharsets.UTF_8);
+        compressed = ContentCompression.compress(text, level);
+        System.out.printf("%n%d chars, level %d: %d bytes -> %d bytes (%.1f%%)%n",
+                chars, level, utf8.length, compressed.length, 100.0 * compressed.length / utf8.length);
+    }
+
+    @Benchmark
+    public String readText() {
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String readCompressed() {
+        return ContentCompression.decompress(compressed);
+    }
+
+    @Benchmark
+    public byte[] writeCompressed() {
+        return ContentCompression.compress(text, level);
+    }
+}
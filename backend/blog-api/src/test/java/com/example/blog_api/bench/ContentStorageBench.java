@@ -0,0 +1,181 @@
+package com.example.blog_api.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Article body storage, text vs compressed (app.content-storage.compression), against a running
+ * blog-api on PostgreSQL: seeds a corpus larger than shared_buffers, then reads random article
+ * details (each reads article_content, no Accept-Encoding so no response cache) and runs keyword
+ * searches one at a time (each scans every body). Prints one CSV line per path, each followed by
+ * GET /admin/storage (footprint, and cache hit ratios since the last pg_stat_reset).
+ *
+ * Run (see README), once per storage mode on an empty database:
+ *   java -Dphase=seed -Dtoken=... -cp target/test-classes com.example.blog_api.bench.ContentStorageBench http://localhost:8083
+ *   java -Dphase=read -Dlabel=text -Dtoken=... -cp target/test-classes com.example.blog_api.bench.ContentStorageBench http://localhost:8083
+ * System properties: articles (default 5000), chars (body length, default 12000), requests (default 5000),
+ * searches (default 50), concurrency (default 16), label (default run), token (JWT of an ADMIN).
+ */
+public final class ContentStorageBench {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Pattern TOTAL = Pattern.compile("\"totalElements\"\\s*:\\s*(\\d+)");
+
+    private ContentStorageBench() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            System.err.println("usage: ContentStorageBench <base-url>");
+            System.exit(2);
+        }
+        String base = args[0].replaceAll("/+$", "");
+        String phase = System.getProperty("phase", "read");
+        int articles = Integer.getInteger("articles", 5000);
+        int chars = Integer.getInteger("chars", 12000);
+        int requests = Integer.getInteger("requests", 5000);
+        int searches = Integer.getInteger("searches", 50);
+        int concurrency = Integer.getInteger("concurrency", 16);
+        String label = System.getProperty("label", "run");
+        String token = System.getProperty("token");
+        if (token == null) {
+            System.err.println("-Dtoken (ADMIN) is required");
+            System.exit(2);
+        }
+        // HTTP/1.1: Tomcat refuses request bodies over 4 KB on an h2c upgrade (413)
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5)).build();
+
+        if (phase.equals("seed")) {
+            String[] vocabulary = vocabulary(new Random(1));
+            IntFunction<HttpRequest> create = i -> HttpRequest.newBuilder(URI.create(base + "/articles"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"storage " + i + "\",\"content\":\"" +
+                            body(vocabulary, new Random(i), chars, i) + "\",\"publishedAt\":\"2026-01-01T00:00:00\"}"))
+                    .build();
+            long[] latencies = run(client, create, articles, concurrency);
+            System.out.println("label,path,requests,errors,p50_ms,p90_ms,p99_ms,max_ms");
+            report(label, "seed", latencies);
+            return;
+        }
+
+        long[] ids = ids(client, base, token);
+        if (ids.length == 0) {
+            System.err.println("no articles at " + base + "/articles, seed first");
+            System.exit(1);
+        }
+        Random random = new Random(7);
+        long[] order = new long[requests];
+        for (int i = 0; i < requests; i++) order[i] = ids[random.nextInt(ids.length)];
+        IntFunction<HttpRequest> detail = i -> get(base + "/articles/" + order[i], null);
+        // Marker words planted in the bodies (see body): each matches about 1 article in 100
+        IntFunction<HttpRequest> search = i -> get(base + "/articles?size=20&keyword=marker" + (i % 100) + "x", null);
+
+        System.out.println("label,path,requests,errors,p50_ms,p90_ms,p99_ms,max_ms");
+        report(label, "detail", run(client, detail, requests, concurrency));
+        System.out.println("# " + client.send(get(base + "/admin/storage", token), HttpResponse.BodyHandlers.ofString()).body());
+        report(label, "search", run(client, search, searches, 1));
+        HttpResponse<String> matches = client.send(get(base + "/articles?size=1&keyword=marker7x", null),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher total = TOTAL.matcher(matches.body());
+        System.out.println("# keyword marker7x matches " + (total.find() ? total.group(1) : "?") + " articles");
+        System.out.println("# " + client.send(get(base + "/admin/storage", token), HttpResponse.BodyHandlers.ofString()).body());
+    }
+
+    /** Prose-like text over a Zipf-distributed vocabulary, with a marker word near the end. */
+    private static String body(String[] vocabulary, Random random, int chars, int i) {
+        StringBuilder sb = new StringBuilder(chars + 32);
+        while (sb.length() < chars) {
+            int rank = (int) Math.min(vocabulary.length - 1, Math.floor(Math.pow(vocabulary.length, random.nextDouble())) - 1);
+            sb.append(vocabulary[rank]).append(random.nextInt(14) == 0 ? ". " : " ");
+        }
+        sb.setLength(chars);
+        return sb.append(" marker").append(i % 100).append('x').toString();
+    }
+
+    private static String[] vocabulary(Random random) {
+        String[] words = new String[4000];
+        for (int i = 0; i < words.length; i++) {
+            char[] w = new char[2 + random.nextInt(9)];
+            for (int k = 0; k < w.length; k++) w[k] = (char) ('a' + random.nextInt(26));
+            words[i] = new String(w);
+        }
+        return words;
+    }
+
+    private static HttpRequest get(String url, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).GET();
+        if (token != null) builder.header("Authorization", "Bearer " + token);
+        return builder.build();
+    }
+
+    /** Every article id, page by page. */
+    private static long[] ids(HttpClient client, String base, String token) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            HttpResponse<String> response = client.send(get(base + "/articles?size=100&page=" + page, token),
+                    HttpResponse.BodyHandlers.ofString());
+            int before = ids.size();
+            Matcher m = ID.matcher(response.body());
+            while (m.find()) ids.add(Long.parseLong(m.group(1)));
+            if (ids.size() - before < 100) break;
+        }
+        return ids.stream().distinct().mapToLong(Long::longValue).toArray();
+    }
+
+    /** Sends requests 0..count-1; latencies in nanoseconds, negative for errors. */
+    private static long[] run(HttpClient client, IntFunction<HttpRequest> requests, int count, int concurrency) throws Exception {
+        long[] latencies = new long[count];
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int w = 0; w < concurrency; w++) {
+                workers.add(pool.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < count) {
+                        long t = System.nanoTime();
+                        boolean ok;
+                        try {
+                            ok = client.send(requests.apply(i), HttpResponse.BodyHandlers.ofString()).statusCode() < 400;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        latencies[i] = ok ? System.nanoTime() - t : -1;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : workers) f.get();
+        } finally {
+            pool.shutdown();
+        }
+        return latencies;
+    }
+
+    private static void report(String label, String path, long[] latencies) {
+        long[] ok = Arrays.stream(latencies).filter(l -> l >= 0).sorted().toArray();
+        System.out.printf("%s,%s,%d,%d,%.2f,%.2f,%.2f,%.2f%n", label, path, latencies.length, latencies.length - ok.length,
+                percentile(ok, 50), percentile(ok, 90), percentile(ok, 99), percentile(ok, 100));
+    }
+
+    private static double percentile(long[] sorted, int p) {
+        if (sorted.length == 0) return 0;
+        int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.blog_api.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Load generator for the data-access paths of a running blog-api (no Spring context), to compare
+ * the prod profile with and without the JDBC tuning (see README): list pages, article details and
+ * bulk writes (creates then deletes, each also writing the outbox, revision and audit rows).
+ * Prints one CSV line per path, prefixed with -Dlabel so runs can be concatenated.
+ *
+ * Run (after test-compile, see README):
+ *   java -Dlabel=tuned -Dtoken=... -cp target/test-classes com.example.blog_api.bench.DataAccessLoadBench http://localhost:8083
+ * System properties: requests (default 2000), writes (default 500), concurrency (default 16),
+ * warmup (default 200), label (default run), token (JWT of an AUTHOR/EDITOR/ADMIN; no writes without it).
+ */
+public final class DataAccessLoadBench {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private record Result(long[] latenciesNanos, int errors, long elapsedNanos) {}
+
+    private DataAccessLoadBench() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            System.err.println("usage: DataAccessLoadBench <base-url>");
+            System.exit(2);
+        }
+        String base = args[0].replaceAll("/+$", "");
+        int requests = Integer.getInteger("requests", 2000);
+        int writes = Integer.getInteger("writes", 500);
+        int concurrency = Integer.getInteger("concurrency", 16);
+        int warmup = Integer.getInteger("warmup", 200);
+        String label = System.getProperty("label", "run");
+        String token = System.getProperty("token");
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        long[] ids = articleIds(client, base);
+        if (ids.length == 0) {
+            System.err.println("no articles at " + base + "/articles");
+            System.exit(1);
+        }
+
+        IntFunction<HttpRequest> list = i -> get(base + "/articles?size=50&page=" + (i % 5) + "&sort=" + (i % 2 == 0 ? "date" : "popularity"));
+        IntFunction<HttpRequest> detail = i -> get(base + "/articles/" + ids[i % ids.length]);
+
+        System.out.println("label,path,requests,errors,throughput_rps,p50_ms,p90_ms,p99_ms,max_ms");
+        run(client, list, warmup, concurrency, null);
+        report(label, "list", run(client, list, requests, concurrency, null));
+        run(client, detail, warmup, concurrency, null);
+        report(label, "detail", run(client, detail, requests, concurrency, null));
+
+        if (token == null) {
+            System.err.println("no -Dtoken: write paths skipped");
+            return;
+        }
+        ConcurrentLinkedQueue<Long> created = new ConcurrentLinkedQueue<>();
+        IntFunction<HttpRequest> create = i -> HttpRequest.newBuilder(URI.create(base + "/articles"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"bench " + i + "\",\"content\":\"" +
+                        "Lorem ipsum dolor sit amet. ".repeat(40) + "\",\"category\":\"bench\",\"tags\":\"bench,load\"}"))
+                .build();
+        report(label, "create", run(client, create, writes, concurrency, created));
+        Long[] toDelete = created.toArray(new Long[0]);
+        IntFunction<HttpRequest> delete = i -> HttpRequest.newBuilder(URI.create(base + "/articles/" + toDelete[i]))
+                .header("Authorization", "Bearer " + token)
+                .DELETE()
+                .build();
+        report(label, "delete", run(client, delete, toDelete.length, concurrency, null));
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().build();
+    }
+
+    /** Ids of the first published articles, used round-robin by the detail path. */
+    private static long[] articleIds(HttpClient client, String base) throws Exception {
+        HttpResponse<String> response = client.send(get(base + "/articles?size=100"), HttpResponse.BodyHandlers.ofString());
+        List<Long> ids = new ArrayList<>();
+        Matcher m = ID.matcher(response.body());
+        while (m.find()) {
+            ids.add(Long.parseLong(m.group(1)));
+        }
+        return ids.stream().distinct().mapToLong(Long::longValue).toArray();
+    }
+
+    /** Sends requests 0..count-1; with createdIds, collects the id of each created resource. */
+    private static Result run(HttpClient client, IntFunction<HttpRequest> requests, int count, int concurrency,
+                              ConcurrentLinkedQueue<Long> createdIds) throws Exception {
+        long[] latencies = new long[count];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int w = 0; w < concurrency; w++) {
+                workers.add(pool.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < count) {
+                        long t = System.nanoTime();
+                        try {
+                            HttpResponse<String> response = client.send(requests.apply(i), HttpResponse.BodyHandlers.ofString());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            } else if (createdIds != null) {
+                                Matcher m = ID.matcher(response.body());
+                                if (m.find()) createdIds.add(Long.parseLong(m.group(1)));
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - t;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : workers) f.get();
+        } finally {
+            pool.shutdown();
+        }
+        return new Result(latencies, errors.get(), System.nanoTime() - start);
+    }
+
+    private static void report(String label, String path, Result r) {
+        long[] l = r.latenciesNanos();
+        Arrays.sort(l);
+        double seconds = r.elapsedNanos() / 1e9;
+        System.out.printf("%s,%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f%n",
+                label, path, l.length, r.errors(), seconds == 0 ? 0 : l.length / seconds,
+                percentile(l, 50), percentile(l, 90), percentile(l, 99), percentile(l, 100));
+    }
+
+    private static double percentile(long[] sorted, int p) {
+        if (sorted.length == 0) return 0;
+        int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))] / 1_000_000.0;
+    }
+}
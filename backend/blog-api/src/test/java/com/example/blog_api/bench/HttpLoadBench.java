@@ -0,0 +1,111 @@
+package com.example.blog_api.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Small HTTP load generator against a running blog-api (no Spring context).
+ * Reports bytes on the wire per response and latency percentiles for each scenario:
+ * HTTP/1.1 vs HTTP/2 (h2c), with and without gzip.
+ *
+ * Run (after test-compile, see README):
+ *   java -cp target/test-classes com.example.blog_api.bench.HttpLoadBench http://localhost:8083/articles/1 ...
+ * System properties: requests (default 2000), concurrency (default 16), warmup (default 200).
+ */
+public final class HttpLoadBench {
+
+    private record Scenario(String name, HttpClient.Version version, boolean gzip) {}
+
+    private record Result(long[] latenciesNanos, long bytes, int errors) {}
+
+    private HttpLoadBench() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("usage: HttpLoadBench <url> [url...]");
+            System.exit(2);
+        }
+        int requests = Integer.getInteger("requests", 2000);
+        int concurrency = Integer.getInteger("concurrency", 16);
+        int warmup = Integer.getInteger("warmup", 200);
+
+        List<Scenario> scenarios = List.of(
+                new Scenario("http1", HttpClient.Version.HTTP_1_1, false),
+                new Scenario("http1+gzip", HttpClient.Version.HTTP_1_1, true),
+                new Scenario("h2c", HttpClient.Version.HTTP_2, false),
+                new Scenario("h2c+gzip", HttpClient.Version.HTTP_2, true));
+
+        System.out.println("url,scenario,requests,errors,avg_bytes,p50_ms,p90_ms,p99_ms,max_ms");
+        for (String url : args) {
+            for (Scenario scenario : scenarios) {
+                run(url, scenario, warmup, concurrency);
+                Result r = run(url, scenario, requests, concurrency);
+                long[] l = r.latenciesNanos();
+                Arrays.sort(l);
+                System.out.printf("%s,%s,%d,%d,%d,%.2f,%.2f,%.2f,%.2f%n",
+                        url, scenario.name(), l.length, r.errors(), l.length == 0 ? 0 : r.bytes() / l.length,
+                        percentile(l, 50), percentile(l, 90), percentile(l, 99), percentile(l, 100));
+            }
+        }
+    }
+
+    private static Result run(String url, Scenario scenario, int requests, int concurrency) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(scenario.version())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).GET();
+        if (scenario.gzip()) {
+            builder.header("Accept-Encoding", "gzip");
+        }
+        HttpRequest request = builder.build();
+
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicLong bytes = new AtomicLong();
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int w = 0; w < concurrency; w++) {
+                workers.add(pool.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < requests) {
+                        long start = System.nanoTime();
+                        try {
+                            // Body is read raw: its length is what went over the wire
+                            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                            if (response.statusCode() >= 400) errors.incrementAndGet();
+                            bytes.addAndGet(response.body().length);
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - start;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : workers) f.get();
+        } finally {
+            pool.shutdown();
+        }
+        return new Result(latencies, bytes.get(), errors.get());
+    }
+
+    private static double percentile(long[] sorted, int p) {
+        if (sorted.length == 0) return 0;
+        int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.blog_api.security;
+
+import com.example.blog_api.config.AdmissionProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlFilterTest {
+
+    private static MockHttpServletResponse get(AdmissionControlFilter filter, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles/1");
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    void exhaustedIpBucketGets429WithRetryAfterInWholeSeconds() throws Exception {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setIpCapacity(2);
+        properties.setIpRefillPerSecond(0.25);
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties);
+
+        assertThat(get(filter, "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(get(filter, "10.0.0.1").getStatus()).isEqualTo(200);
+        MockHttpServletResponse rejected = get(filter, "10.0.0.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        // One token every 4 s, rounded up
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("4");
+        assertThat(rejected.getContentAsString()).isEqualTo("Too many requests, retry later");
+        assertThat(get(filter, "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.blog_api.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static List<String> ids(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID().toString()).toList();
+    }
+
+    @Test
+    void noFalseNegatives() {
+        BloomFilter filter = new BloomFilter(50_000, 0.01);
+        List<String> added = ids(50_000);
+        added.forEach(filter::put);
+
+        assertThat(added).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void noFalseNegativesWhenOverfilled() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+        List<String> added = ids(10_000);
+        added.forEach(filter::put);
+
+        assertThat(added).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void noFalseNegativesUnderConcurrentPuts() throws InterruptedException {
+        BloomFilter filter = new BloomFilter(40_000, 0.01);
+        List<List<String>> batches = IntStream.range(0, 4).mapToObj(i -> ids(10_000)).toList();
+        List<Thread> threads = new ArrayList<>();
+        for (List<String> batch : batches) {
+            Thread t = new Thread(() -> batch.forEach(filter::put));
+            t.start();
+            threads.add(t);
+        }
+        for (Thread t : threads) t.join();
+
+        batches.forEach(batch -> assertThat(batch).allMatch(filter::mightContain));
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheTargetAtCapacity() {
+        BloomFilter filter = new BloomFilter(20_000, 0.01);
+        ids(20_000).forEach(filter::put);
+
+        long falsePositives = ids(100_000).stream().filter(filter::mightContain).count();
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+
+        assertThat(ids(1000)).noneMatch(filter::mightContain);
+        assertThat(filter.mightContain("")).isFalse();
+    }
+}
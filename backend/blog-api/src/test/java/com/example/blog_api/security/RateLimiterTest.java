@@ -0,0 +1,79 @@
+package com.example.blog_api.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void burstUpToCapacityThenWaitOneInterval() {
+        RateLimiter<String> limiter = new RateLimiter<>(3, 1, 10);
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("a")).isZero();
+        }
+        long wait = limiter.tryAcquire("a");
+        assertThat(wait).isPositive().isLessThanOrEqualTo(SECOND);
+    }
+
+    @Test
+    void bucketRefillsAfterTheAnnouncedWait() throws InterruptedException {
+        RateLimiter<String> limiter = new RateLimiter<>(2, 50, 10);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+        long wait = limiter.tryAcquire("a");
+        assertThat(wait).isPositive();
+
+        TimeUnit.NANOSECONDS.sleep(wait + TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire("a")).isZero();
+        // One token refilled, not the whole bucket
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    void rejectedAttemptsDoNotConsumeTokens() throws InterruptedException {
+        RateLimiter<String> limiter = new RateLimiter<>(1, 50, 10);
+        limiter.tryAcquire("a");
+        long first = limiter.tryAcquire("a");
+        long second = limiter.tryAcquire("a");
+        assertThat(second).isLessThanOrEqualTo(first);
+
+        TimeUnit.NANOSECONDS.sleep(first + TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire("a")).isZero();
+    }
+
+    @Test
+    void keysHaveSeparateBuckets() {
+        RateLimiter<String> limiter = new RateLimiter<>(1, 1, 10);
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+        assertThat(limiter.tryAcquire("b")).isZero();
+    }
+
+    @Test
+    void keysBeyondMaxBucketsShareTheOverflowBucket() {
+        RateLimiter<String> limiter = new RateLimiter<>(1, 1, 1);
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("b")).isZero();
+        assertThat(limiter.tryAcquire("c")).isPositive();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void onlyRefilledBucketsAreEvicted() throws InterruptedException {
+        RateLimiter<String> limiter = new RateLimiter<>(2, 50, 10);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+        limiter.evictIdle();
+        assertThat(limiter.size()).isEqualTo(1);
+
+        TimeUnit.MILLISECONDS.sleep(60);
+        limiter.evictIdle();
+        assertThat(limiter.size()).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.ArticleChange;
+import com.example.blog_api.ArticleChangeRepository;
+import com.example.blog_api.ArticleChangeType;
+import com.example.blog_api.JobLockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ArticleChangeRelayTest {
+
+    @Autowired
+    private ArticleChangeRelay relay;
+    @Autowired
+    private ArticleChangeRepository changeRepository;
+    @Autowired
+    private JobLockRepository jobLockRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private ArticleChange change;
+
+    @AfterEach
+    void cleanUp() {
+        if (change != null) changeRepository.deleteById(change.getId());
+    }
+
+    @Test
+    void nodeHoldingTheRelayLockIsTheOnlyOneDispatching() {
+        relay.relay(); // creates the lock row
+        transactionTemplate.executeWithoutResult(status -> {
+            // This transaction plays the node currently relaying
+            assertThat(jobLockRepository.tryLock("article-change-relay")).isPresent();
+            change = changeRepository.saveAndFlush(new ArticleChange(-1L, null, ArticleChangeType.DELETED, LocalDateTime.now()));
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(jobLockRepository.tryLock("article-change-relay")).isPresent();
+            // Another node polls meanwhile: it skips its turn instead of taking later rows
+            CompletableFuture.runAsync(relay::relay).join();
+            assertThat(changeRepository.existsById(change.getId())).isTrue();
+        });
+
+        relay.relay();
+
+        assertThat(changeRepository.existsById(change.getId())).isFalse();
+        change = null;
+    }
+}
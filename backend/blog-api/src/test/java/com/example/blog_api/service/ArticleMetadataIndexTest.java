@@ -0,0 +1,169 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.Article;
+import com.example.blog_api.ArticleRepository;
+import com.example.blog_api.ArticleSpecification;
+import com.example.blog_api.Role;
+import com.example.blog_api.User;
+import com.example.blog_api.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The index must answer GET /articles exactly like the SQL path: same matches for every filter
+ * combination, same order for every sort (ties by id, as the index breaks them).
+ */
+@SpringBootTest
+class ArticleMetadataIndexTest {
+
+    private static final String[] CATEGORIES = { "Tech", "TECH", "Science", "Voyage", null };
+    private static final String[] TAGS = { "java,spring", "Java,react", "spring-boot,photo", "photo", "", null };
+    private static final String[] TITLES = { "alpha", "Alpha", "beta", "Été", "zeta", "beta" };
+
+    @Autowired
+    private ArticleMetadataIndex index;
+    @Autowired
+    private ArticleChangeRelay relay;
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Article> articles = new ArrayList<>();
+    private LocalDateTime now;
+
+    @BeforeEach
+    void indexRandomArticles() throws InterruptedException {
+        for (int deadline = 0; !index.isReady() && deadline < 300; deadline++) {
+            Thread.sleep(100);
+        }
+        assertThat(index.isReady()).isTrue();
+        // Apply what other tests left in the outbox (deleted articles would still be indexed)
+        relay.relay();
+
+        for (int i = 0; i < 2; i++) {
+            users.add(userRepository.save(new User("index-test-" + i, "index-test-" + i + "@example.com", "x", Role.AUTHOR)));
+        }
+        now = LocalDateTime.now().withNano(0);
+        Random random = new Random(7);
+        for (int i = 0; i < 150; i++) {
+            Article a = new Article(TITLES[random.nextInt(TITLES.length)], "body " + i);
+            a.setAuthor(users.get(random.nextInt(users.size())));
+            // Whole days only, so dates, views and titles all have ties
+            a.setCreatedAt(now.toLocalDate().minusDays(random.nextInt(60)).atTime(10, 0));
+            a.setPublishedAt(switch (random.nextInt(3)) {
+                case 0 -> null;
+                case 1 -> now.minusDays(random.nextInt(30));
+                default -> now.plusDays(1 + random.nextInt(5));
+            });
+            a.setViewCount((long) random.nextInt(10));
+            a.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            a.setTags(TAGS[random.nextInt(TAGS.length)]);
+            a.setFeatured(random.nextInt(4) == 0);
+            a.setPinned(random.nextInt(5) == 0);
+            Article saved = articleRepository.save(a);
+            articles.add(saved);
+            index.index(saved);
+        }
+    }
+
+    @AfterEach
+    void removeArticles() {
+        articles.forEach(a -> index.remove(a.getId()));
+        articleRepository.deleteAll(articles);
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    void everyFilterCombinationMatchesSql() {
+        LocalDate today = now.toLocalDate();
+        Long[] authors = { null, users.get(0).getId(), -1L };
+        String[] categories = { null, "tech", "Science", "none" };
+        List<List<String>> tagLists = Arrays.asList(null, List.of("java"), List.of("spr", "photo"));
+        LocalDate[][] ranges = { { null, null }, { today.minusDays(40), today.minusDays(10) }, { today.minusDays(5), null } };
+
+        for (Long author : authors)
+            for (String category : categories)
+                for (List<String> tags : tagLists)
+                    for (LocalDate[] range : ranges)
+                        for (boolean published : new boolean[] { true, false })
+                            for (boolean featured : new boolean[] { false, true })
+                                for (boolean pinned : new boolean[] { false, true }) {
+                                    ArticleMetadataIndex.Filter filter = new ArticleMetadataIndex.Filter(author, category, tags,
+                                            range[0] != null ? range[0].atStartOfDay() : null,
+                                            range[1] != null ? range[1].atTime(LocalTime.MAX) : null,
+                                            published ? now : null, featured, pinned, null);
+                                    assertSameAsSql(filter, ArticleMetadataIndex.Order.DATE, false, 0, 1000);
+                                }
+    }
+
+    @Test
+    void everyOrderMatchesSqlPageByPage() {
+        List<ArticleMetadataIndex.Filter> filters = List.of(
+                new ArticleMetadataIndex.Filter(null, null, null, null, null, null, false, false, null),
+                new ArticleMetadataIndex.Filter(null, "tech", null, null, null, now, false, false, null),
+                new ArticleMetadataIndex.Filter(users.get(1).getId(), null, List.of("photo"), null, null, null, false, false, null));
+        for (ArticleMetadataIndex.Filter filter : filters)
+            for (ArticleMetadataIndex.Order order : ArticleMetadataIndex.Order.values())
+                for (boolean ascending : new boolean[] { true, false })
+                    for (int page = 0; page < 4; page++) {
+                        assertSameAsSql(filter, order, ascending, page, 7);
+                    }
+    }
+
+    @Test
+    void facetTotalMatchesSql() {
+        ArticleMetadataIndex.Filter filter = new ArticleMetadataIndex.Filter(null, "tech", List.of("java"), null, null,
+                now, false, false, null);
+        assertThat(index.count(filter).total()).isEqualTo(articleRepository.count(spec(filter)));
+    }
+
+    private void assertSameAsSql(ArticleMetadataIndex.Filter filter, ArticleMetadataIndex.Order order,
+                                 boolean ascending, int page, int size) {
+        String field = switch (order) {
+            case DATE -> "createdAt";
+            case POPULARITY -> "viewCount";
+            case TITLE -> "title";
+        };
+        Sort sort = Sort.by(ascending ? Sort.Direction.ASC : Sort.Direction.DESC, field).and(Sort.by("id"));
+        List<Long> expected = articleRepository.findAll(spec(filter), PageRequest.of(page, size, sort))
+                .map(Article::getId).getContent();
+        long expectedTotal = articleRepository.count(spec(filter));
+
+        ArticleMetadataIndex.IdPage actual = index.query(filter, order, ascending, page, size);
+
+        assertThat(actual.ids()).as("%s %s %s page %d", filter, order, ascending ? "asc" : "desc", page)
+                .containsExactlyElementsOf(expected);
+        assertThat(actual.total()).as("%s total", filter).isEqualTo(expectedTotal);
+    }
+
+    /** The SQL filters built by GET /articles for the same parameters. */
+    private static Specification<Article> spec(ArticleMetadataIndex.Filter filter) {
+        return ArticleSpecification.combine(
+                ArticleSpecification.withAuthorId(filter.authorId()),
+                ArticleSpecification.withCategory(filter.category()),
+                ArticleSpecification.withTags(filter.tags()),
+                ArticleSpecification.createdAfter(filter.createdFrom()),
+                ArticleSpecification.createdBefore(filter.createdTo()),
+                ArticleSpecification.publishedOnly(filter.publishedAsOf()),
+                ArticleSpecification.featuredOnly(filter.featured()),
+                ArticleSpecification.pinnedOnly(filter.pinned()));
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.Article;
+import com.example.blog_api.ArticleRepository;
+import com.example.blog_api.AuthorStats;
+import com.example.blog_api.AuthorStatsRepository;
+import com.example.blog_api.Role;
+import com.example.blog_api.User;
+import com.example.blog_api.UserRepository;
+import com.example.blog_api.dto.ArticleRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author statistics kept by per-write deltas: after each write the stored row must equal the
+ * full aggregate (the repair path), including once a scheduled article has gone live.
+ */
+@SpringBootTest
+class AuthorStatsServiceTest {
+
+    @Autowired
+    private AuthorStatsService service;
+    @Autowired
+    private AuthorStatsRepository repository;
+    @Autowired
+    private ArticleService articleService;
+    @Autowired
+    private TrendingService trendingService;
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User author;
+    private final List<Long> articleIds = new ArrayList<>();
+
+    @BeforeEach
+    void createAuthor() {
+        author = userRepository.save(new User("stats-test", "stats-test@example.com", "x", Role.AUTHOR));
+        // First read creates the row through the repair path; every later write is a delta
+        assertCounts(service.get(author.getId()), 0, 0, 0, 0);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        articleIds.forEach(id -> articleRepository.findById(id).ifPresent(a -> articleService.delete(a, author.getId())));
+        repository.deleteById(author.getId());
+        userRepository.delete(author);
+    }
+
+    @Test
+    void createPublishAndDelete() {
+        LocalDateTime past = LocalDateTime.now().minusDays(1).withNano(0);
+        Article draft = create(null);
+        Article published = create(past);
+        Article scheduled = create(LocalDateTime.now().plusDays(3).withNano(0));
+        assertCounts(stored(), 3, 1, 1, 1);
+        assertThat(stored().getLastPublishedAt()).isEqualTo(past);
+        assertThat(stored().getNextScheduledAt()).isEqualTo(scheduled.getPublishedAt());
+
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        update(draft, now);
+        assertCounts(stored(), 3, 0, 2, 1);
+        assertThat(stored().getLastPublishedAt()).isEqualTo(now);
+
+        update(scheduled, past.minusDays(1));
+        assertCounts(stored(), 3, 0, 3, 0);
+        assertThat(stored().getNextScheduledAt()).isNull();
+        assertThat(stored().getLastPublishedAt()).isEqualTo(now);
+
+        // Deleting the latest publication falls back to the next latest
+        articleService.delete(articleRepository.findById(draft.getId()).orElseThrow(), author.getId());
+        assertCounts(stored(), 2, 0, 2, 0);
+        assertThat(stored().getLastPublishedAt()).isEqualTo(past);
+
+        articleService.delete(articleRepository.findById(published.getId()).orElseThrow(), author.getId());
+        assertCounts(stored(), 1, 0, 1, 0);
+        assertThat(stored().getLastPublishedAt()).isEqualTo(past.minusDays(1));
+        assertMatchesAggregate();
+    }
+
+    @Test
+    void scheduledArticleIsCountedOnceLive() throws InterruptedException {
+        LocalDateTime soon = LocalDateTime.now().plusSeconds(1).truncatedTo(ChronoUnit.MILLIS);
+        create(soon);
+        assertCounts(service.get(author.getId()), 1, 0, 0, 1);
+
+        Thread.sleep(1200);
+        AuthorStats stats = service.get(author.getId());
+        assertCounts(stats, 1, 0, 1, 0);
+        assertThat(stats.getLastPublishedAt()).isEqualTo(soon);
+        assertThat(stats.getNextScheduledAt()).isNull();
+        assertMatchesAggregate();
+    }
+
+    @Test
+    void writeToAnArticleThatWentLiveSinceTheLastCount() throws InterruptedException {
+        Article article = create(LocalDateTime.now().plusSeconds(1));
+        create(null);
+        Thread.sleep(1200);
+
+        // Nothing read the stats since: the write is applied as of the last count, then rolled forward
+        LocalDateTime later = LocalDateTime.now().plusDays(2).withNano(0);
+        update(article, later);
+        assertCounts(stored(), 2, 1, 0, 1);
+        assertThat(stored().getNextScheduledAt()).isEqualTo(later);
+        assertThat(stored().getLastPublishedAt()).isNull();
+        assertMatchesAggregate();
+    }
+
+    @Test
+    void viewsAreAddedOnFlushAndRemovedWithTheArticle() {
+        Article first = create(LocalDateTime.now().minusHours(1));
+        Article second = create(LocalDateTime.now().minusHours(2));
+        trendingService.flushViewCounts();
+        for (int i = 0; i < 3; i++) trendingService.recordView(first.getId());
+        trendingService.recordView(second.getId());
+        trendingService.flushViewCounts();
+        assertThat(stored().getTotalViews()).isEqualTo(4);
+
+        articleService.delete(articleRepository.findById(first.getId()).orElseThrow(), author.getId());
+        assertThat(stored().getTotalViews()).isEqualTo(1);
+        assertMatchesAggregate();
+    }
+
+    private Article create(LocalDateTime publishedAt) {
+        Article article = articleService.create(request("Stats " + articleIds.size(), publishedAt), author.getId());
+        articleIds.add(article.getId());
+        return article;
+    }
+
+    private void update(Article article, LocalDateTime publishedAt) {
+        Article current = articleRepository.findById(article.getId()).orElseThrow();
+        articleService.update(current, request(current.getTitle(), publishedAt), author.getId());
+    }
+
+    private AuthorStats stored() {
+        return repository.findById(author.getId()).orElseThrow();
+    }
+
+    private void assertMatchesAggregate() {
+        AuthorStats stats = stored();
+        Object[] row = repository.aggregateForAuthor(author.getId(), stats.getCountedAt()).get(0);
+        assertCounts(stats, ((Number) row[0]).longValue(), ((Number) row[1]).longValue(),
+                ((Number) row[2]).longValue(), ((Number) row[3]).longValue());
+        assertThat(stats.getTotalViews()).isEqualTo(row[4] == null ? 0 : ((Number) row[4]).longValue());
+        assertThat(stats.getLastPublishedAt()).isEqualTo(row[5]);
+        assertThat(stats.getNextScheduledAt()).isEqualTo(row[6]);
+    }
+
+    private static void assertCounts(AuthorStats stats, long total, long drafts, long published, long scheduled) {
+        assertThat(stats.getArticleCount()).as("articles").isEqualTo(total);
+        assertThat(stats.getDraftCount()).as("drafts").isEqualTo(drafts);
+        assertThat(stats.getPublishedCount()).as("published").isEqualTo(published);
+        assertThat(stats.getScheduledCount()).as("scheduled").isEqualTo(scheduled);
+    }
+
+    private static ArticleRequest request(String title, LocalDateTime publishedAt) {
+        ArticleRequest request = new ArticleRequest();
+        request.setTitle(title);
+        request.setContent("Body of " + title);
+        request.setPublishedAt(publishedAt);
+        return request;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.config.CompressionProperties;
+import com.example.blog_api.dto.ArticleResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressedArticleCacheTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final CompressedArticleCache cache = new CompressedArticleCache(objectMapper, new CompressionProperties());
+
+    @Test
+    void cachedBodyIsServedUntilTheViewCountMoves() throws IOException {
+        byte[] gzip = cache.gzippedJson(article(UPDATED, 5L));
+
+        assertThat(cache.cached(1L, UPDATED, 5L)).isSameAs(gzip);
+        assertThat(cache.cached(1L, UPDATED, 6L)).isNull();
+        assertThat(cache.cached(1L, UPDATED.plusSeconds(1), 5L)).isNull();
+
+        byte[] refreshed = cache.gzippedJson(article(UPDATED, 6L));
+        assertThat(objectMapper.readTree(gunzip(refreshed)).get("viewCount").asLong()).isEqualTo(6);
+        assertThat(cache.cached(1L, UPDATED, 6L)).isSameAs(refreshed);
+    }
+
+    @Test
+    void smallBodiesAreNotCached() {
+        ArticleResponse small = new ArticleResponse(2L, "t", "short", "short", 1, UPDATED, UPDATED, UPDATED, 0L,
+                null, null, null, null, false, false, 0L, null, null);
+
+        assertThat(cache.gzippedJson(small)).isNull();
+        assertThat(cache.cached(2L, UPDATED, 0L)).isNull();
+    }
+
+    private static ArticleResponse article(LocalDateTime updatedAt, Long viewCount) {
+        String body = "Lorem ipsum dolor sit amet. ".repeat(100);
+        return new ArticleResponse(1L, "Title", body, body.substring(0, 300), 500, updatedAt, updatedAt, updatedAt,
+                viewCount, 1L, null, null, null, false, false, 0L, null, null);
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.Article;
+import com.example.blog_api.ArticleRepository;
+import com.example.blog_api.ArticleSpecification;
+import com.example.blog_api.Role;
+import com.example.blog_api.User;
+import com.example.blog_api.UserRepository;
+import com.example.blog_api.config.ContentStorageProperties;
+import com.example.blog_api.config.ReactiveReadProperties;
+import com.example.blog_api.dto.ArticleRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Turning compression on must not change what keyword search finds: bodies stored compressed
+ * match through their plain-text copy, on the JPA path and on the R2DBC path alike.
+ */
+@SpringBootTest
+class CompressedContentSearchTest {
+
+    private static final String WORD = "zanzibarquokka";
+
+    @Autowired
+    private ArticleService articleService;
+    @Autowired
+    private ArticleContentService contentService;
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ContentStorageProperties properties;
+    @Autowired
+    private ReactiveReadProperties reactiveProperties;
+
+    private User author;
+    private long articleId;
+    private boolean compression;
+    private int minSize;
+
+    @BeforeEach
+    void enableCompression() {
+        compression = properties.isCompression();
+        minSize = properties.getMinSize();
+        properties.setCompression(true);
+        properties.setMinSize(64);
+        author = userRepository.save(new User("search-test", "search-test@example.com", "x", Role.AUTHOR));
+        articleId = articleService.create(request(body("Intro " + WORD)), author.getId()).getId();
+    }
+
+    @AfterEach
+    void restore() {
+        articleRepository.findById(articleId).ifPresent(a -> articleService.delete(a, author.getId()));
+        userRepository.delete(author);
+        properties.setCompression(compression);
+        properties.setMinSize(minSize);
+    }
+
+    @Test
+    void compressedBodiesStillMatch() {
+        assertThat(jdbcTemplate.queryForObject("SELECT content FROM article_content WHERE article_id = ?",
+                String.class, articleId)).isNull();
+        assertThat(jpaMatches(WORD)).contains(articleId);
+        assertThat(reactiveMatches(WORD)).contains(articleId);
+    }
+
+    @Test
+    void searchFollowsEditsAcrossStorageForms() {
+        Article article = articleRepository.findById(articleId).orElseThrow();
+        articleService.update(article, request("Short, stored as text"), author.getId());
+        assertThat(jpaMatches(WORD)).doesNotContain(articleId);
+        assertThat(jpaMatches("stored as text")).contains(articleId);
+
+        article = articleRepository.findById(articleId).orElseThrow();
+        articleService.update(article, request(body("Back to compressed, now with albatrossplume")), author.getId());
+        assertThat(contentService.get(articleId)).contains("albatrossplume");
+        assertThat(jpaMatches("albatrossplume")).contains(articleId);
+        assertThat(jpaMatches("stored as text")).doesNotContain(articleId);
+        assertThat(reactiveMatches("albatrossplume")).contains(articleId);
+    }
+
+    private List<Long> jpaMatches(String keyword) {
+        return articleRepository.findAll(ArticleSpecification.withKeyword(keyword)).stream().map(Article::getId).toList();
+    }
+
+    private List<Long> reactiveMatches(String keyword) {
+        ReactiveArticleReader reader = new ReactiveArticleReader(reactiveProperties);
+        try {
+            return reader.keywordMatches(keyword).block();
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static String body(String first) {
+        return first + "\n" + "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(4);
+    }
+
+    private static ArticleRequest request(String content) {
+        ArticleRequest request = new ArticleRequest();
+        request.setTitle("Search");
+        request.setContent(content);
+        return request;
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.Article;
+import com.example.blog_api.ArticleRepository;
+import com.example.blog_api.Role;
+import com.example.blog_api.User;
+import com.example.blog_api.UserRepository;
+import com.example.blog_api.config.DraftProperties;
+import com.example.blog_api.controller.ArticleController;
+import com.example.blog_api.dto.ArticleRequest;
+import com.example.blog_api.dto.DraftPatchRequest;
+import com.example.blog_api.dto.DraftResponse;
+import com.example.blog_api.security.UserDetailsImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Autosave through the controller, as the editor uses it: PATCH /articles/{id}/draft then PUT.
+ * Background flushes are held back so that each test decides when the draft is written.
+ */
+@SpringBootTest
+class DraftAutosaveServiceTest {
+
+    private static final String BODY = "Hello world\n";
+
+    @Autowired
+    private ArticleController controller;
+    @Autowired
+    private ArticleService articleService;
+    @Autowired
+    private DraftAutosaveService drafts;
+    @Autowired
+    private ArticleContentService contentService;
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DraftProperties properties;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User author;
+    private Authentication auth;
+    private long articleId;
+    private long version;
+    private long quietMs;
+    private long maxDelayMs;
+
+    @BeforeEach
+    void createDraft() {
+        quietMs = properties.getQuietMs();
+        maxDelayMs = properties.getMaxDelayMs();
+        properties.setQuietMs(Long.MAX_VALUE / 2);
+        properties.setMaxDelayMs(Long.MAX_VALUE / 2);
+
+        author = userRepository.save(new User("draft-test", "draft-test@example.com", "x", Role.AUTHOR));
+        UserDetailsImpl principal = new UserDetailsImpl(author);
+        auth = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        Article article = articleService.create(request("Title", BODY, null), author.getId());
+        articleId = article.getId();
+        version = articleRepository.findById(articleId).orElseThrow().getVersion();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        properties.setQuietMs(quietMs);
+        properties.setMaxDelayMs(maxDelayMs);
+        articleRepository.findById(articleId).ifPresent(a -> articleService.delete(a, author.getId()));
+        userRepository.delete(author);
+    }
+
+    @Test
+    void putRightAfterAnAutosaveSucceeds() {
+        DraftResponse draft = body(patch(version, 0, 5, 5, ","));
+        assertThat(draft.version()).isEqualTo(version);
+        assertThat(draft.sequence()).isEqualTo(1);
+        assertThat(draft.pending()).isTrue();
+
+        ResponseEntity<?> put = controller.updateArticle(articleId, request("Title", "Hello, world!\n", draft.version()), auth);
+
+        assertThat(put.getStatusCode().value()).isEqualTo(200);
+        assertThat(contentService.get(articleId)).isEqualTo("Hello, world!\n");
+        drafts.flushPending(articleId, auth);
+        assertThat(contentService.get(articleId)).isEqualTo("Hello, world!\n");
+    }
+
+    @Test
+    void putAfterTheDraftWasWrittenSucceeds() {
+        DraftResponse first = body(patch(version, 0, 5, 5, ","));
+        drafts.flushPending(articleId, auth);
+        assertThat(currentVersion()).isEqualTo(version + 1);
+        assertThat(contentService.get(articleId)).isEqualTo("Hello, world\n");
+
+        // Still based on this draft: accepted although the version moved underneath
+        DraftResponse second = body(patch(first.version(), first.sequence(), 12, 12, "!"));
+        assertThat(second.version()).isEqualTo(version + 1);
+        assertThat(second.sequence()).isEqualTo(2);
+
+        // The editor holding the first response saves in full
+        ResponseEntity<?> put = controller.updateArticle(articleId, request("Title", "Hello, world!!\n", first.version()), auth);
+
+        assertThat(put.getStatusCode().value()).isEqualTo(200);
+        drafts.flushPending(articleId, auth);
+        assertThat(contentService.get(articleId)).isEqualTo("Hello, world!!\n");
+    }
+
+    @Test
+    void conflictingPutDropsTheDraft() {
+        DraftResponse draft = body(patch(version, 0, 5, 5, ","));
+
+        ResponseEntity<?> put = controller.updateArticle(articleId, request("Other tab", "Replaced\n", version), auth);
+        assertThat(put.getStatusCode().value()).isEqualTo(200);
+
+        assertThat(patch(draft.version(), draft.sequence(), 0, 0, "x").getStatusCode().value()).isEqualTo(409);
+        drafts.flushPending(articleId, auth);
+        assertThat(contentService.get(articleId)).isEqualTo("Replaced\n");
+    }
+
+    @Test
+    void stalePutDoesNotDropTheDraft() {
+        body(patch(version, 0, 5, 5, ","));
+        drafts.flushPending(articleId, auth);
+        writeElsewhere();
+
+        ResponseEntity<?> put = controller.updateArticle(articleId, request("Title", "Stale\n", version), auth);
+
+        assertThat(put.getStatusCode().value()).isEqualTo(409);
+    }
+
+    @Test
+    void patchAgainstAVersionWrittenElsewhereIsRefused() {
+        body(patch(version, 0, 5, 5, ","));
+        // Another node saves the article: the version it produces is not one of this draft's
+        long elsewhere = writeElsewhere();
+
+        assertThat(patch(elsewhere, 0, 0, 0, "x").getStatusCode().value()).isEqualTo(409);
+        // The pending draft loses to that write when flushed, and later patches are refused
+        drafts.flushPending(articleId, auth);
+        assertThat(patch(version, 1, 0, 0, "x").getStatusCode().value()).isEqualTo(409);
+        assertThat(contentService.get(articleId)).isEqualTo(BODY);
+    }
+
+    @Test
+    void outOfRangeEditsAreRejectedWithoutSideEffects() {
+        assertThat(patch(version, 0, 0, BODY.length() + 1, "x").getStatusCode().value()).isEqualTo(400);
+        assertThat(patch(version, 0, -1, 0, "x").getStatusCode().value()).isEqualTo(400);
+        assertThat(patch(version, 0, 3, 2, "x").getStatusCode().value()).isEqualTo(400);
+
+        DraftResponse draft = body(patch(version, 0, BODY.length(), BODY.length(), "more\n"));
+        assertThat(draft.sequence()).isEqualTo(1);
+        drafts.flushPending(articleId, auth);
+        assertThat(contentService.get(articleId)).isEqualTo(BODY + "more\n");
+    }
+
+    @Test
+    void readersCannotPatch() {
+        User reader = userRepository.save(new User("draft-reader", "draft-reader@example.com", "x", Role.READER));
+        try {
+            UserDetailsImpl principal = new UserDetailsImpl(reader);
+            Authentication readerAuth = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+            ResponseEntity<?> response = controller.patchDraft(articleId,
+                    new DraftPatchRequest(version, 0L, null, List.of(new DraftPatchRequest.TextEdit(0, 0, "x"))), readerAuth);
+            assertThat(response.getStatusCode().value()).isEqualTo(403);
+        } finally {
+            userRepository.delete(reader);
+        }
+    }
+
+    private ResponseEntity<?> patch(long baseVersion, long baseSequence, int start, int end, String text) {
+        return controller.patchDraft(articleId, new DraftPatchRequest(baseVersion, baseSequence, null,
+                List.of(new DraftPatchRequest.TextEdit(start, end, text))), auth);
+    }
+
+    private static DraftResponse body(ResponseEntity<?> response) {
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        return (DraftResponse) response.getBody();
+    }
+
+    private static ArticleRequest request(String title, String content, Long version) {
+        ArticleRequest request = new ArticleRequest();
+        request.setTitle(title);
+        request.setContent(content);
+        request.setVersion(version);
+        return request;
+    }
+
+    private long currentVersion() {
+        return articleRepository.findById(articleId).orElseThrow().getVersion();
+    }
+
+    /** An update by another node: moves the version without going through this node's draft. */
+    private long writeElsewhere() {
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE Article a SET a.version = a.version + 1, a.title = 'Elsewhere' WHERE a.id = :id")
+                .setParameter("id", articleId)
+                .executeUpdate());
+        return currentVersion();
+    }
+}
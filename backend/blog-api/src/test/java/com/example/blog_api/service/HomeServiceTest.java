@@ -0,0 +1,95 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.ArticleRepository;
+import com.example.blog_api.config.HomeProperties;
+import com.example.blog_api.dto.HomeResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GET /home degradation: a branch that times out or is rejected by a full pool is left out and
+ * named in missing, while the other sections are still returned. Each test runs its own HomeService
+ * over the real beans, with one repository method held back.
+ */
+@SpringBootTest
+class HomeServiceTest {
+
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private AuthorNameCache authorNameCache;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private ArticleMetadataIndex metadataIndex;
+
+    private final HomeProperties properties = new HomeProperties();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private HomeService home;
+
+    @AfterEach
+    void stop() {
+        release.countDown();
+        if (home != null) home.stop();
+    }
+
+    @Test
+    void slowBranchTimesOutAlone() {
+        properties.setBranchTimeoutMs(300);
+        start("findDistinctCategories", TimeUnit.MINUTES.toMillis(1));
+
+        long started = System.nanoTime();
+        HomeResponse response = home.load(null);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(5000);
+        assertThat(response.missing()).containsExactly("categories");
+        assertThat(response.categories()).isNull();
+        assertThat(response.featured()).isNotNull();
+        assertThat(response.pinned()).isNotNull();
+        assertThat(response.latest()).isNotNull();
+        assertThat(response.user()).isNull();
+    }
+
+    @Test
+    void branchesBeyondAFullPoolAreRejected() {
+        // One thread busy with featured for a moment, pinned queued behind it, everything after rejected
+        properties.setThreads(1);
+        properties.setQueue(1);
+        properties.setBranchTimeoutMs(10000);
+        start("findAll", 300);
+
+        HomeResponse response = home.load(-1L);
+
+        assertThat(response.missing()).containsExactly("latest", "categories", "user");
+        assertThat(response.featured()).isNotNull();
+        assertThat(response.pinned()).isNotNull();
+        assertThat(response.latest()).isNull();
+        assertThat(response.categories()).isNull();
+    }
+
+    /** HomeService whose repository holds each call to slowMethod for up to delayMs (until the test ends). */
+    private void start(String slowMethod, long delayMs) {
+        ArticleRepository slow = (ArticleRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { ArticleRepository.class }, (proxy, method, args) -> {
+                    if (method.getName().equals(slowMethod)) {
+                        release.await(delayMs, TimeUnit.MILLISECONDS);
+                    }
+                    try {
+                        return method.invoke(articleRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        home = new HomeService(slow, authorNameCache, authService, metadataIndex, properties);
+        home.start();
+    }
+}
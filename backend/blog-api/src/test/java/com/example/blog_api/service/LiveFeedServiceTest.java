@@ -0,0 +1,129 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.config.LiveFeedProperties;
+import com.example.blog_api.dto.ArticleNotification;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveFeedServiceTest {
+
+    private static final Pattern ID = Pattern.compile("^id:(\\d+)$", Pattern.MULTILINE);
+
+    private final LiveFeedProperties properties = new LiveFeedProperties();
+    private LiveFeedService feed;
+
+    @AfterEach
+    void stop() {
+        if (feed != null) feed.stop();
+    }
+
+    @Test
+    void everySubscriberGetsNotificationsInPublishOrder() throws InterruptedException {
+        properties.setBufferSize(256);
+        start();
+        RecordingEmitter first = subscribe(new RecordingEmitter(null));
+        RecordingEmitter second = subscribe(new RecordingEmitter(null));
+
+        for (int i = 0; i < 200; i++) feed.publish(notification(i));
+
+        long[] expected = LongStream.rangeClosed(1, 200).toArray();
+        assertThat(first.awaitIds(200)).containsExactly(expected);
+        assertThat(second.awaitIds(200)).containsExactly(expected);
+        assertThat(feed.evictedCount()).isZero();
+    }
+
+    @Test
+    void slowConsumerIsEvictedWithoutHoldingBackOthers() throws InterruptedException {
+        properties.setBufferSize(4);
+        properties.setWriterThreads(2);
+        start();
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = subscribe(new RecordingEmitter(release));
+        RecordingEmitter fast = subscribe(new RecordingEmitter(null));
+
+        try {
+            for (int i = 0; i < 20; i++) {
+                feed.publish(notification(i));
+                // One at a time, so only the stalled subscriber can fall behind its buffer
+                fast.awaitIds(i + 1);
+            }
+            assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(fast.ids()).containsExactly(LongStream.rangeClosed(1, 20).toArray());
+        assertThat(fast.completed.getCount()).isEqualTo(1);
+        assertThat(feed.evictedCount()).isEqualTo(1);
+        assertThat(feed.subscriberCount()).isEqualTo(1);
+    }
+
+    private void start() {
+        feed = new LiveFeedService(new ObjectMapper().registerModule(new JavaTimeModule()), properties);
+        feed.start();
+    }
+
+    private RecordingEmitter subscribe(RecordingEmitter emitter) {
+        feed.subscribe(emitter);
+        return emitter;
+    }
+
+    private static ArticleNotification notification(int i) {
+        return new ArticleNotification(ArticleNotification.PUBLISHED, i, "Title " + i, null, LocalDateTime.of(2026, 1, 1, 0, 0));
+    }
+
+    /** Keeps the frames it is sent; when given a latch, sends block until it is released (stalled client). */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        final List<String> frames = new CopyOnWriteArrayList<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            frames.add(builder.build().stream().map(d -> d.getData().toString()).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        long[] ids() {
+            return frames.stream().map(ID::matcher).filter(Matcher::find).mapToLong(m -> Long.parseLong(m.group(1))).toArray();
+        }
+
+        long[] awaitIds(int count) throws InterruptedException {
+            for (int i = 0; i < 500 && ids().length < count; i++) Thread.sleep(10);
+            return ids();
+        }
+    }
+}
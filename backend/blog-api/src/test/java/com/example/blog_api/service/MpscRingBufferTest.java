@@ -0,0 +1,110 @@
+package com.example.blog_api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MpscRingBufferTest {
+
+    @Test
+    void capacityIsRoundedUpToAPowerOfTwo() {
+        assertThat(new MpscRingBuffer<>(16).capacity()).isEqualTo(16);
+        assertThat(new MpscRingBuffer<>(17).capacity()).isEqualTo(32);
+        for (int requested = 1; requested <= 1025; requested++) {
+            int capacity = new MpscRingBuffer<>(requested).capacity();
+            assertThat(capacity).isGreaterThanOrEqualTo(requested);
+            assertThat(Integer.bitCount(capacity)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void emptyBufferDrainsNothing() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        List<Integer> out = new ArrayList<>();
+
+        assertThat(buffer.drain(out::add, 10)).isZero();
+        assertThat(out).isEmpty();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void fullBufferRejectsUntilDrained() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        List<Integer> out = new ArrayList<>();
+        assertThat(buffer.drain(out::add, 1)).isEqualTo(1);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.drain(out::add, 10)).isEqualTo(4);
+        assertThat(out).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void orderIsKeptAcrossWraparound() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        List<Integer> out = new ArrayList<>();
+        int next = 0;
+        for (int round = 0; round < 100; round++) {
+            int batch = 1 + round % 4;
+            for (int i = 0; i < batch; i++) {
+                assertThat(buffer.offer(next++)).isTrue();
+            }
+            buffer.drain(out::add, round % 2 == 0 ? batch : Integer.MAX_VALUE);
+        }
+        assertThat(out).containsExactlyElementsOf(IntStream.range(0, next).boxed().toList());
+    }
+
+    @Test
+    void concurrentProducersLoseNothing() throws InterruptedException {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(64);
+        int producers = 4;
+        int perProducer = 2_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            Thread t = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            t.start();
+            threads.add(t);
+        }
+        start.countDown();
+
+        boolean[] seen = new boolean[producers * perProducer];
+        int[] lastPerProducer = new int[producers];
+        Arrays.fill(lastPerProducer, -1);
+        int received = 0;
+        while (received < seen.length) {
+            received += buffer.drain(value -> {
+                assertThat(seen[value]).isFalse();
+                seen[value] = true;
+                int producer = value / perProducer;
+                // Elements of one producer come out in the order it offered them
+                assertThat(value % perProducer).isGreaterThan(lastPerProducer[producer]);
+                lastPerProducer[producer] = value % perProducer;
+            }, 128);
+        }
+        for (Thread t : threads) t.join();
+        assertThat(buffer.size()).isZero();
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.Article;
+import com.example.blog_api.ArticleRepository;
+import com.example.blog_api.Role;
+import com.example.blog_api.User;
+import com.example.blog_api.UserRepository;
+import com.example.blog_api.controller.ArticleController;
+import com.example.blog_api.dto.ArticleRequest;
+import com.example.blog_api.dto.ArticleRevisionInfo;
+import com.example.blog_api.security.UserDetailsImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Revision numbering when two writes of the same article overlap. */
+@SpringBootTest
+class RevisionServiceTest {
+
+    @Autowired
+    private RevisionService revisionService;
+    @Autowired
+    private ArticleService articleService;
+    @Autowired
+    private ArticleController controller;
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User author;
+    private long articleId;
+
+    @BeforeEach
+    void createArticle() {
+        author = userRepository.save(new User("revision-test", "revision-test@example.com", "x", Role.AUTHOR));
+        articleId = articleService.create(request("Title", "v1\n", null), author.getId()).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        articleRepository.findById(articleId).ifPresent(a -> articleService.delete(a, author.getId()));
+        userRepository.delete(author);
+    }
+
+    @Test
+    void overlappingWritersTakeConsecutiveRevisions() throws Exception {
+        CountDownLatch firstRecorded = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            revisionService.record(articleId, "Title", "v1\n", "Title", "v2\n", author.getId());
+            firstRecorded.countDown();
+            sleep(300); // holds the article row while the second writer starts
+        }));
+        assertThat(firstRecorded.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status ->
+                revisionService.record(articleId, "Title", "v2\n", "Title", "v3\n", author.getId())));
+
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+
+        assertThat(revisionService.list(articleId)).extracting(ArticleRevisionInfo::revision).containsExactly(3, 2, 1);
+        assertThat(revisionService.get(articleId, 3).orElseThrow().content()).isEqualTo("v3\n");
+    }
+
+    @Test
+    void simultaneousPutsGiveOneConflictAndNoError() throws Exception {
+        UserDetailsImpl principal = new UserDetailsImpl(author);
+        Authentication auth = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        long version = articleRepository.findById(articleId).map(Article::getVersion).orElseThrow();
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Integer>> puts = List.of("a\n", "b\n").stream()
+                .map(content -> CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    return controller.updateArticle(articleId, request("Title", content, version), auth).getStatusCode().value();
+                }))
+                .toList();
+        start.countDown();
+
+        List<Integer> statuses = puts.stream().map(CompletableFuture::join).sorted().toList();
+
+        assertThat(statuses).containsExactly(200, 409);
+        assertThat(revisionService.list(articleId)).extracting(ArticleRevisionInfo::revision).containsExactly(2, 1);
+    }
+
+    private static ArticleRequest request(String title, String content, Long version) {
+        ArticleRequest request = new ArticleRequest();
+        request.setTitle(title);
+        request.setContent(content);
+        request.setVersion(version);
+        return request;
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.blog_api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextDeltaTest {
+
+    private static void assertRoundTrip(String base, String target) {
+        assertThat(TextDelta.apply(base, TextDelta.encode(base, target))).isEqualTo(target);
+    }
+
+    @Test
+    void editsRoundTrip() {
+        String base = "title\nfirst paragraph\nsecond paragraph\nend\n";
+        assertRoundTrip(base, base);
+        assertRoundTrip(base, "title\nfirst paragraph\ninserted\nsecond paragraph\nend\n");
+        assertRoundTrip(base, "title\nsecond paragraph\nend\n");
+        assertRoundTrip(base, "title\nfirst paragraph, reworded\nsecond paragraph\nend\n");
+        assertRoundTrip(base, "new head\n" + base + "new tail");
+    }
+
+    @Test
+    void edgeCasesRoundTrip() {
+        assertRoundTrip("", "");
+        assertRoundTrip("", "only\nnew\n");
+        assertRoundTrip("only\nold\n", "");
+        assertRoundTrip("no trailing newline", "no trailing newline, edited");
+        assertRoundTrip("a\nb", "a\nb\n");
+        assertRoundTrip("\n\n\n", "\n\nx\n");
+        assertRoundTrip("café\nœuvre\n", "café\nœuvre — déjà vu\n😀\n");
+    }
+
+    @Test
+    void rewriteBeyondTheEditDistanceLimitRoundTrips() {
+        String base = numbered("old", 3000);
+        String target = numbered("new", 3000);
+        assertRoundTrip(base, target);
+    }
+
+    @Test
+    void randomEditsRoundTrip() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<String> lines = new ArrayList<>();
+            for (int i = random.nextInt(40); i > 0; i--) lines.add("line " + random.nextInt(10));
+            String base = String.join("\n", lines);
+            for (int edits = random.nextInt(6); edits > 0; edits--) {
+                int at = lines.isEmpty() ? 0 : random.nextInt(lines.size());
+                switch (random.nextInt(3)) {
+                    case 0 -> lines.add(at, "added " + random.nextInt(10));
+                    case 1 -> { if (!lines.isEmpty()) lines.remove(at); }
+                    default -> { if (!lines.isEmpty()) lines.set(at, "changed " + random.nextInt(10)); }
+                }
+            }
+            assertRoundTrip(base, String.join("\n", lines) + (random.nextBoolean() ? "\n" : ""));
+        }
+    }
+
+    @Test
+    void deltaOfASmallEditIsSmallerThanTheCompressedDocument() {
+        String base = numbered("paragraph", 2000);
+        String target = base.replace("paragraph 1000\n", "paragraph 1000, edited\n");
+        assertThat(TextDelta.encode(base, target).length).isLessThan(TextDelta.compress(target).length / 10);
+    }
+
+    @Test
+    void compressRoundTrips() {
+        String text = numbered("line", 100) + "é😀";
+        assertThat(TextDelta.decompress(TextDelta.compress(text))).isEqualTo(text);
+    }
+
+    private static String numbered(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + " " + i + "\n").collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.blog_api.service;
+
+import com.example.blog_api.config.TrendingProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendingServiceTest {
+
+    /** Half past some hour, so minutes 0..30 back are in the current hour bucket. */
+    private static final int NOW = 500_000 * 60 + 30;
+
+    private final TrendingProperties properties = new TrendingProperties();
+    private final TrendingService trending = service(properties);
+
+    @Test
+    void olderViewsDecay() {
+        // Two views 30 minutes ago weigh 2 * 0.5^2 in the hour window (15 min half-life), one now weighs 1
+        view(1L, NOW - 30, 2);
+        view(2L, NOW, 1);
+        trending.refreshRankings(NOW);
+
+        assertThat(trending.trending(TrendingService.Window.HOUR, 10)).containsExactly(2L, 1L);
+        // Same hour bucket for the day window: raw counts decide
+        assertThat(trending.trending(TrendingService.Window.DAY, 10)).containsExactly(1L, 2L);
+        assertThat(trending.trending(TrendingService.Window.HOUR, 1)).containsExactly(2L);
+    }
+
+    @Test
+    void viewsLeaveEachWindowAtItsEnd() {
+        // Membership only: 1 and 2 share an hour bucket, so they tie in the day and week windows
+        view(1L, NOW - 59, 1);
+        view(2L, NOW - 60, 1);
+        view(3L, NOW - 23 * 60, 1);
+        view(4L, NOW - 24 * 60, 1);
+        view(5L, NOW - 167 * 60, 1);
+        view(6L, NOW - 168 * 60, 1);
+        trending.refreshRankings(NOW);
+
+        assertThat(trending.trending(TrendingService.Window.HOUR, 10)).containsExactly(1L);
+        assertThat(trending.trending(TrendingService.Window.DAY, 10)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(trending.trending(TrendingService.Window.WEEK, 10)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+
+        // A week later nothing is left
+        trending.refreshRankings(NOW + 168 * 60);
+        assertThat(trending.trending(TrendingService.Window.WEEK, 10)).isEmpty();
+    }
+
+    @Test
+    void topKKeepsTheBest() {
+        properties.setTopK(2);
+        for (long id = 1; id <= 5; id++) view(id, NOW, (int) id);
+        trending.refreshRankings(NOW);
+
+        assertThat(trending.trending(TrendingService.Window.HOUR, 10)).containsExactly(5L, 4L);
+    }
+
+    @Test
+    void snapshotRestoresRankings(@TempDir Path dir) {
+        properties.setSnapshotFile(dir.resolve("trending.bin").toString());
+        for (long id = 1; id <= 3; id++) {
+            for (int i = 0; i < id; i++) trending.recordView(id);
+        }
+        trending.refreshRankings();
+        trending.saveSnapshot();
+
+        TrendingService restarted = service(properties);
+        restarted.loadSnapshot();
+
+        for (TrendingService.Window window : TrendingService.Window.values()) {
+            assertThat(restarted.trending(window, 10)).containsExactly(3L, 2L, 1L)
+                    .containsExactly(trending.trending(window, 10));
+        }
+    }
+
+    private void view(long articleId, int minute, int times) {
+        for (int i = 0; i < times; i++) trending.recordView(articleId, minute);
+    }
+
+    /** Rankings and snapshots only: no flush, so no repositories. */
+    private static TrendingService service(TrendingProperties properties) {
+        return new TrendingService(null, null, null, properties, null);
+    }
+}
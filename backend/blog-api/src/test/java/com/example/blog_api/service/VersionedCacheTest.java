@@ -0,0 +1,54 @@
+package com.example.blog_api.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VersionedCacheTest {
+
+    @Test
+    void valueReloadedAtTheInvalidatedVersionIsCachedAgain() {
+        VersionedCache<String, String> cache = new VersionedCache<>(100);
+        cache.put("alice", "v1", 1);
+
+        cache.invalidate("alice", 2);
+        assertThat(cache.get("alice")).isNull();
+
+        cache.put("alice", "v2", 2);
+        assertThat(cache.get("alice")).isEqualTo("v2");
+    }
+
+    @Test
+    void valueOlderThanTheTombstoneIsRejected() {
+        VersionedCache<String, String> cache = new VersionedCache<>(100);
+        cache.invalidate("alice", 2);
+
+        cache.put("alice", "v1", 1);
+
+        assertThat(cache.get("alice")).isNull();
+    }
+
+    @Test
+    void newerVersionReplacesAndOlderDoesNot() {
+        VersionedCache<String, String> cache = new VersionedCache<>(100);
+        cache.put("alice", "v2", 2);
+
+        cache.put("alice", "v1", 1);
+        assertThat(cache.get("alice")).isEqualTo("v2");
+
+        cache.put("alice", "v3", 3);
+        assertThat(cache.get("alice")).isEqualTo("v3");
+    }
+
+    @Test
+    void duplicateOrLateInvalidationIsIgnored() {
+        VersionedCache<String, String> cache = new VersionedCache<>(100);
+        assertThat(cache.invalidate("alice", 2)).isTrue();
+        assertThat(cache.invalidate("alice", 2)).isFalse();
+        assertThat(cache.invalidate("alice", 1)).isFalse();
+
+        cache.put("alice", "v3", 3);
+        assertThat(cache.invalidate("alice", 2)).isFalse();
+        assertThat(cache.get("alice")).isEqualTo("v3");
+    }
+}
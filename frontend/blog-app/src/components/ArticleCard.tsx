@@ -4,7 +4,7 @@ import { Card, CardContent, CardHeader } from "@/components/ui/card"
 import { Button } from "@/components/ui/button"
 import { Badge } from "@/components/ui/badge"
 import { useAuth } from "@/contexts/AuthContext"
-import { Pencil, Pin, Star, Trash2, Clock, Eye, Calendar, FileText } from "lucide-react"
+import { Pencil, Pin, Star, Trash2, Clock, Eye, Calendar, FileText, User } from "lucide-react"
 import { useState } from "react"
 import * as api from "@/lib/api"
 import { cn } from "@/lib/utils"
@@ -20,9 +20,10 @@ function formatDate(s: string | undefined) {
 }
 
 /** Estimation: ~200 mots/min en français */
-function getReadTimeMinutes(content: string | undefined): number {
-  if (!content || !content.trim()) return 0
-  const words = content.trim().split(/\s+/).filter(Boolean).length
+function getReadTimeMinutes(article: Article): number {
+  const words = article.wordCount
+    ?? (article.content ? article.content.trim().split(/\s+/).filter(Boolean).length : 0)
+  if (!words) return 0
   return Math.max(1, Math.ceil(words / 200))
 }
 
@@ -34,10 +35,11 @@ function isPublished(article: Article): boolean {
 export function ArticleCard({ article }: ArticleCardProps) {
   const { canEditArticle, canDeleteArticle } = useAuth()
   const [deleting, setDeleting] = useState(false)
-  const canEdit = canEditArticle(article.authorId ?? null)
-  const canDelete = canDeleteArticle(article.authorId ?? null)
+  // Decided by the server on listings; role check as fallback (absent for readers and anonymous)
+  const canEdit = article.canEdit ?? canEditArticle(article.authorId ?? null)
+  const canDelete = article.canDelete ?? canDeleteArticle(article.authorId ?? null)
   const published = isPublished(article)
-  const readTime = getReadTimeMinutes(article.content)
+  const readTime = getReadTimeMinutes(article)
 
   async function handleDelete(e: React.MouseEvent) {
     e.preventDefault()
@@ -107,11 +109,17 @@ export function ArticleCard({ article }: ArticleCardProps) {
 
           {/* Content - fixed height */}
           <p className="text-sm leading-relaxed text-muted-foreground/80 line-clamp-2 min-h-[2.75rem]">
-            {article.content || "Aucun contenu"}
+            {article.excerpt || article.content || "Aucun contenu"}
           </p>
 
           {/* Metrics row - aligned at bottom */}
           <div className="mt-auto flex flex-wrap items-center gap-x-6 gap-y-2 pt-5 text-xs text-muted-foreground/70 border-t border-border/20">
+            {article.authorUsername && (
+              <span className="flex items-center gap-1.5 transition-colors group-hover:text-foreground/80">
+                <User className="h-3.5 w-3.5 shrink-0 opacity-70" />
+                {article.authorUsername}
+              </span>
+            )}
             <span className="flex items-center gap-1.5 transition-colors group-hover:text-foreground/80">
               <Calendar className="h-3.5 w-3.5 shrink-0 opacity-70" />
               {formatDate(article.createdAt)}
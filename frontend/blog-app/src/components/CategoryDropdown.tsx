@@ -11,9 +11,13 @@ interface CategoryDropdownProps {
   placeholder?: string
   className?: string
   onOpenChange?: (open: boolean) => void
+  /** Result count per category for the current filters (facet counts), shown next to each entry. */
+  counts?: Record<string, number>
+  /** Categories loaded by the page (GET /home); null while the page is still loading them, undefined = fetched here. */
+  initialCategories?: string[] | null
 }
 
-export function CategoryDropdown({ value, onChange, placeholder = "Catégorie", className, onOpenChange }: CategoryDropdownProps) {
+export function CategoryDropdown({ value, onChange, placeholder = "Catégorie", className, onOpenChange, counts, initialCategories }: CategoryDropdownProps) {
   const [categories, setCategories] = useState<string[]>([])
   const [open, setOpen] = useState(false)
   const [search, setSearch] = useState("")
@@ -28,8 +32,12 @@ export function CategoryDropdown({ value, onChange, placeholder = "Catégorie",
   })
 
   useEffect(() => {
+    if (initialCategories !== undefined) {
+      if (initialCategories) setCategories(initialCategories)
+      return
+    }
     api.getCategories().then(setCategories).catch(() => setCategories([]))
-  }, [])
+  }, [initialCategories])
 
   useEffect(() => {
     function handleClickOutside(e: MouseEvent) {
@@ -82,6 +90,12 @@ export function CategoryDropdown({ value, onChange, placeholder = "Catégorie",
     ? categories.filter((c) => c.toLowerCase().includes(search.toLowerCase().trim()))
     : categories
 
+  function countOf(cat: string): number | undefined {
+    if (!counts) return undefined
+    const key = Object.keys(counts).find((k) => k.toLowerCase() === cat.toLowerCase())
+    return key ? counts[key] : 0
+  }
+
   const dropdownContent = open && (
     <ul
       ref={dropdownRef}
@@ -120,7 +134,12 @@ export function CategoryDropdown({ value, onChange, placeholder = "Catégorie",
               setOpen(false)
             }}
           >
-            {cat}
+            <span className="flex items-center justify-between gap-2">
+              {cat}
+              {countOf(cat) !== undefined && (
+                <span className="text-xs text-muted-foreground/70 tabular-nums">{countOf(cat)}</span>
+              )}
+            </span>
           </button>
         </li>
       ))}
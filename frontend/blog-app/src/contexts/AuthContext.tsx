@@ -8,7 +8,7 @@ import {
   type ReactNode,
 } from "react"
 import * as api from "@/lib/api"
-import type { Role, User } from "@/types"
+import type { AuthResponse, Role, User } from "@/types"
 
 interface AuthState {
   user: User | null
@@ -28,6 +28,30 @@ interface AuthContextValue extends AuthState {
 
 const AuthContext = createContext<AuthContextValue | null>(null)
 
+/** Refresh this long before the access token expires. */
+const REFRESH_MARGIN_MS = 60_000
+
+function storeSession(res: AuthResponse): { token: string; user: User } {
+  const user: User = {
+    id: res.id,
+    username: res.username,
+    email: res.email,
+    role: res.role,
+  }
+  localStorage.setItem("token", res.token)
+  localStorage.setItem("refreshToken", res.refreshToken)
+  localStorage.setItem("tokenExpiresAt", String(Date.now() + res.expiresIn * 1000))
+  localStorage.setItem("user", JSON.stringify(user))
+  return { token: res.token, user }
+}
+
+function clearSession() {
+  localStorage.removeItem("token")
+  localStorage.removeItem("refreshToken")
+  localStorage.removeItem("tokenExpiresAt")
+  localStorage.removeItem("user")
+}
+
 function roleCanCreate(role: Role): boolean {
   return role === "ADMIN" || role === "EDITOR" || role === "AUTHOR"
 }
@@ -55,8 +79,7 @@ export function AuthProvider({ children }: { children: ReactNode }) {
         const user = JSON.parse(raw) as User
         setState((s) => ({ ...s, token, user, isLoading: false }))
       } catch {
-        localStorage.removeItem("token")
-        localStorage.removeItem("user")
+        clearSession()
         setState((s) => ({ ...s, token: null, user: null, isLoading: false }))
       }
     } else {
@@ -65,16 +88,8 @@ export function AuthProvider({ children }: { children: ReactNode }) {
   }, [])
 
   const login = useCallback(async (username: string, password: string) => {
-    const res = await api.login(username, password)
-    const user: User = {
-      id: res.id,
-      username: res.username,
-      email: res.email,
-      role: res.role,
-    }
-    localStorage.setItem("token", res.token)
-    localStorage.setItem("user", JSON.stringify(user))
-    setState({ token: res.token, user, isLoading: false })
+    const { token, user } = storeSession(await api.login(username, password))
+    setState({ token, user, isLoading: false })
   }, [])
 
   const register = useCallback(
@@ -83,22 +98,40 @@ export function AuthProvider({ children }: { children: ReactNode }) {
         ...params,
         role: params.role ?? "READER",
       })
-      const user: User = {
-        id: res.id,
-        username: res.username,
-        email: res.email,
-        role: res.role,
-      }
-      localStorage.setItem("token", res.token)
-      localStorage.setItem("user", JSON.stringify(user))
-      setState({ token: res.token, user, isLoading: false })
+      const { token, user } = storeSession(res)
+      setState({ token, user, isLoading: false })
     },
     []
   )
 
+  // Renew the token pair shortly before the access token expires (at once if it already has)
+  useEffect(() => {
+    const refreshToken = localStorage.getItem("refreshToken")
+    if (!state.token || !refreshToken) return
+    const expiresAt = Number(localStorage.getItem("tokenExpiresAt") ?? 0)
+    const timer = setTimeout(async () => {
+      try {
+        const { token, user } = storeSession(await api.refresh(refreshToken))
+        setState({ token, user, isLoading: false })
+      } catch {
+        // Another tab already rotated it: use its tokens
+        const current = localStorage.getItem("refreshToken")
+        const token = localStorage.getItem("token")
+        if (current && current !== refreshToken && token) {
+          setState((s) => ({ ...s, token }))
+          return
+        }
+        clearSession()
+        setState({ token: null, user: null, isLoading: false })
+      }
+    }, Math.max(0, expiresAt - Date.now() - REFRESH_MARGIN_MS))
+    return () => clearTimeout(timer)
+  }, [state.token])
+
   const logout = useCallback(() => {
-    localStorage.removeItem("token")
-    localStorage.removeItem("user")
+    // Revoke server-side; the local session ends either way
+    api.logout(localStorage.getItem("refreshToken")).catch(() => {})
+    clearSession()
     setState({ token: null, user: null, isLoading: false })
   }, [])
 
@@ -1,4 +1,4 @@
-import type { Article, ArticleRequest, AuthResponse, UserProfile } from "@/types"
+import type { Article, ArticleNotification, Attachment, ArticleRequest, ArticleSummary, AuthResponse, DraftPatch, DraftResponse, FacetCounts, RenderedArticle, TextEdit, UserProfile } from "@/types"
 
 export interface Page<T> {
   content: T[]
@@ -8,6 +8,8 @@ export interface Page<T> {
   number: number
   first: boolean
   last: boolean
+  /** Present when requested with facets: true (and once the server-side index is built). */
+  facets?: FacetCounts
 }
 
 const API_BASE = "/api"
@@ -72,6 +74,26 @@ export async function register(params: {
   return text ? JSON.parse(text) : ({} as AuthResponse)
 }
 
+/** New token pair; the refresh token passed in is revoked (single use). */
+export async function refresh(refreshToken: string): Promise<AuthResponse> {
+  const res = await fetch(`${API_BASE}/auth/refresh`, {
+    method: "POST",
+    headers: { "Content-Type": "application/json" },
+    body: JSON.stringify({ refreshToken }),
+  })
+  if (!res.ok) throw new Error("Session expirée")
+  return res.json()
+}
+
+/** Revokes the current access token and the refresh token server-side. */
+export async function logout(refreshToken: string | null): Promise<void> {
+  await fetch(`${API_BASE}/auth/logout`, {
+    method: "POST",
+    headers: getAuthHeaders(),
+    body: JSON.stringify({ refreshToken }),
+  })
+}
+
 // Articles
 export interface ArticleListOptions {
   page?: number
@@ -87,6 +109,8 @@ export interface ArticleListOptions {
   publishedOnly?: boolean
   featured?: boolean
   pinned?: boolean
+  /** Also return per-category/tag/author/month counts for the same filters. */
+  facets?: boolean
 }
 
 export async function getCategories(): Promise<string[]> {
@@ -110,12 +134,34 @@ export async function getArticles(params: ArticleListOptions = {}): Promise<Page
     publishedOnly: params.publishedOnly ?? true,
     featured: params.featured,
     pinned: params.pinned,
+    facets: params.facets,
   })
-  const res = await fetch(`${API_BASE}/articles${query}`)
+  // Signed in: the server adds canEdit/canDelete to each article
+  const token = getToken()
+  const res = await fetch(`${API_BASE}/articles${query}`, token ? { headers: { Authorization: `Bearer ${token}` } } : undefined)
   if (!res.ok) throw new Error("Impossible de charger les articles")
   return res.json()
 }
 
+/**
+ * Homepage sections fetched in one request (loaded in parallel server-side). A section that
+ * timed out is null and named in missing; user is null for anonymous visitors.
+ */
+export interface Home {
+  featured: Article[] | null
+  pinned: Article[] | null
+  latest: Page<Article> | null
+  categories: string[] | null
+  user: UserProfile | null
+  missing: string[]
+}
+
+export async function getHome(): Promise<Home> {
+  const res = await fetch(`${API_BASE}/home`, { headers: getAuthHeaders() })
+  if (!res.ok) throw new Error("Impossible de charger la page d'accueil")
+  return res.json()
+}
+
 export async function getArticleById(id: number): Promise<Article> {
   const res = await fetch(`${API_BASE}/articles/${id}`)
   if (!res.ok) {
@@ -125,6 +171,36 @@ export async function getArticleById(id: number): Promise<Article> {
   return res.json()
 }
 
+/** Article with its body rendered server-side (markdown → HTML, table of contents, reading time). */
+export async function getRenderedArticle(id: number): Promise<RenderedArticle> {
+  const res = await fetch(`${API_BASE}/articles/${id}${buildQuery({ format: "html" })}`, { headers: getAuthHeaders() })
+  if (!res.ok) {
+    if (res.status === 404) throw new Error("Article introuvable")
+    throw new Error("Impossible de charger l'article")
+  }
+  return res.json()
+}
+
+export async function getRelatedArticles(id: number, limit = 5): Promise<ArticleSummary[]> {
+  const res = await fetch(`${API_BASE}/articles/${id}/related${buildQuery({ limit })}`)
+  if (!res.ok) return []
+  return res.json()
+}
+
+export async function getTrendingArticles(window: "1h" | "24h" | "7d" = "24h", limit = 10): Promise<ArticleSummary[]> {
+  const res = await fetch(`${API_BASE}/articles/trending${buildQuery({ window, limit })}`)
+  if (!res.ok) return []
+  return res.json()
+}
+
+/** Live feed of published/updated/deleted articles (SSE). Returns a function closing the stream. */
+export function subscribeToArticleFeed(onNotification: (n: ArticleNotification) => void): () => void {
+  const source = new EventSource(`${API_BASE}/articles/stream`)
+  const handler = (e: MessageEvent) => onNotification(JSON.parse(e.data))
+  for (const type of ["published", "updated", "deleted"]) source.addEventListener(type, handler)
+  return () => source.close()
+}
+
 export async function createArticle(data: ArticleRequest): Promise<Article> {
   const res = await fetch(`${API_BASE}/articles`, {
     method: "POST",
@@ -151,6 +227,42 @@ export async function updateArticle(id: number, data: ArticleRequest): Promise<A
   return res.json()
 }
 
+/** Thrown when the article changed on the server since the version we edited. */
+export class VersionConflictError extends Error {}
+
+export class DraftLostError extends Error {}
+
+/** Single edit turning `before` into `after` (common prefix and suffix are kept). */
+export function diffText(before: string, after: string): TextEdit | null {
+  if (before === after) return null
+  let start = 0
+  const max = Math.min(before.length, after.length)
+  while (start < max && before[start] === after[start]) start++
+  let end = 0
+  while (end < max - start && before[before.length - 1 - end] === after[after.length - 1 - end]) end++
+  return { start, end: before.length - end, text: after.slice(start, after.length - end) }
+}
+
+export async function patchDraft(id: number, patch: DraftPatch): Promise<DraftResponse> {
+  const res = await fetch(`${API_BASE}/articles/${id}/draft`, {
+    method: "PATCH",
+    headers: getAuthHeaders(),
+    body: JSON.stringify(patch),
+  })
+  if (res.status === 409) {
+    throw new VersionConflictError(await res.text())
+  }
+  if (res.status === 500) {
+    // Previous edits dropped server-side after repeated write failures
+    throw new DraftLostError("Vos dernières modifications n'ont pas pu être enregistrées : rechargez l'article.")
+  }
+  if (!res.ok) {
+    const text = await res.text()
+    throw new Error(text || "Échec de l'enregistrement automatique")
+  }
+  return res.json()
+}
+
 export async function deleteArticle(id: number): Promise<void> {
   const res = await fetch(`${API_BASE}/articles/${id}`, {
     method: "DELETE",
@@ -162,6 +274,28 @@ export async function deleteArticle(id: number): Promise<void> {
   }
 }
 
+/** Uploads an image as the raw request body (streamed to the file store server-side). */
+export async function uploadAttachment(articleId: number, file: File): Promise<Attachment> {
+  const token = getToken()
+  const headers: Record<string, string> = { "Content-Type": file.type }
+  if (token) headers["Authorization"] = `Bearer ${token}`
+  const res = await fetch(`${API_BASE}/articles/${articleId}/attachments${buildQuery({ name: file.name })}`, {
+    method: "POST",
+    headers,
+    body: file,
+  })
+  if (!res.ok) {
+    const text = await res.text()
+    throw new Error(text || "Impossible d'envoyer l'image")
+  }
+  return res.json()
+}
+
+/** Absolute (proxied) URL of an attachment path returned by the API. */
+export function attachmentUrl(path: string): string {
+  return `${API_BASE}${path}`
+}
+
 // Profil utilisateur
 export interface UpdateProfileParams {
   username?: string
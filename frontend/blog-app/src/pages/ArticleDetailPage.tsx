@@ -1,12 +1,12 @@
 import { useEffect, useState } from "react"
 import { Link, useParams, useNavigate } from "react-router-dom"
 import * as api from "@/lib/api"
-import type { Article } from "@/types"
+import type { Article, ArticleSummary, RenderedArticle } from "@/types"
 import { Button } from "@/components/ui/button"
 import { Card, CardContent, CardHeader } from "@/components/ui/card"
 import { Badge } from "@/components/ui/badge"
 import { useAuth } from "@/contexts/AuthContext"
-import { Pencil, Pin, Star, ArrowLeft, Trash2 } from "lucide-react"
+import { Pencil, Pin, Star, ArrowLeft, Trash2, Clock } from "lucide-react"
 
 function formatDate(s: string | undefined) {
   if (!s) return ""
@@ -17,10 +17,12 @@ export function ArticleDetailPage() {
   const { id } = useParams<{ id: string }>()
   const navigate = useNavigate()
   const { canEditArticle, canDeleteArticle } = useAuth()
-  const [article, setArticle] = useState<Article | null>(null)
+  const [rendered, setRendered] = useState<RenderedArticle | null>(null)
+  const article: Article | null = rendered?.article ?? null
   const [loading, setLoading] = useState(true)
   const [error, setError] = useState("")
   const [deleting, setDeleting] = useState(false)
+  const [related, setRelated] = useState<ArticleSummary[]>([])
 
   useEffect(() => {
     if (!id) return
@@ -31,10 +33,11 @@ export function ArticleDetailPage() {
       return
     }
     api
-      .getArticleById(numId)
-      .then(setArticle)
+      .getRenderedArticle(numId)
+      .then(setRendered)
       .catch((err) => setError(err instanceof Error ? err.message : "Article introuvable"))
       .finally(() => setLoading(false))
+    api.getRelatedArticles(numId).then(setRelated)
   }, [id])
 
   const canEdit = article ? canEditArticle(article.authorId ?? null) : false
@@ -125,12 +128,54 @@ export function ArticleDetailPage() {
             {article.publishedAt && <span>Publié le {formatDate(article.publishedAt)}</span>}
             {article.viewCount != null && <span>{article.viewCount} vue(s)</span>}
             {article.tags && <span>Tags : {article.tags}</span>}
+            {rendered && rendered.readingTimeMinutes > 0 && (
+              <span className="flex items-center gap-1">
+                <Clock className="h-3.5 w-3.5" /> {rendered.readingTimeMinutes} min de lecture
+              </span>
+            )}
           </div>
+          {rendered && rendered.toc.length > 1 && (
+            <nav className="rounded-lg border border-border bg-secondary/30 p-4 text-sm">
+              <p className="mb-2 font-semibold text-foreground">Sommaire</p>
+              <ul className="space-y-1">
+                {rendered.toc.map((entry) => (
+                  <li key={entry.id} style={{ paddingLeft: `${(entry.level - 1) * 0.75}rem` }}>
+                    <a href={`#${entry.id}`} className="text-muted-foreground hover:text-primary">
+                      {entry.text}
+                    </a>
+                  </li>
+                ))}
+              </ul>
+            </nav>
+          )}
           <div className="prose prose-sm max-w-none dark:prose-invert prose-headings:text-foreground prose-p:text-foreground/90">
-            <p className="whitespace-pre-wrap text-foreground/90 leading-relaxed">{article.content || "Aucun contenu."}</p>
+            {rendered?.html ? (
+              // Sanitized server-side: raw HTML in the source is escaped, unsafe URLs are dropped
+              <div dangerouslySetInnerHTML={{ __html: rendered.html }} />
+            ) : (
+              <p className="text-foreground/90 leading-relaxed">Aucun contenu.</p>
+            )}
           </div>
         </CardContent>
       </Card>
+      {related.length > 0 && (
+        <section className="space-y-3">
+          <h2 className="text-lg font-semibold text-foreground">Articles similaires</h2>
+          <ul className="grid gap-3 sm:grid-cols-2">
+            {related.map((r) => (
+              <li key={r.id}>
+                <Link
+                  to={`/articles/${r.id}`}
+                  className="block rounded-xl border border-border/40 bg-card px-4 py-3 hover:border-border/60 hover:bg-card-hover transition-colors"
+                >
+                  <span className="font-medium text-foreground line-clamp-1">{r.title}</span>
+                  {r.category && <span className="text-xs text-muted-foreground">{r.category}</span>}
+                </Link>
+              </li>
+            ))}
+          </ul>
+        </section>
+      )}
     </article>
   )
 }
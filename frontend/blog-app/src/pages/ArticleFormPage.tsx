@@ -1,4 +1,4 @@
-import { useState, useEffect } from "react"
+import { useState, useEffect, useRef } from "react"
 import { useNavigate, useParams } from "react-router-dom"
 import * as api from "@/lib/api"
 import type { ArticleRequest } from "@/types"
@@ -8,6 +8,8 @@ import { Label } from "@/components/ui/label"
 import { Card, CardContent, CardHeader, CardTitle } from "@/components/ui/card"
 import { useAuth } from "@/contexts/AuthContext"
 
+const AUTOSAVE_DELAY_MS = 1500
+
 interface ArticleFormPageProps {
   mode: "create" | "edit"
 }
@@ -25,6 +27,12 @@ export function ArticleFormPage({ mode }: ArticleFormPageProps) {
   const [pinned, setPinned] = useState(false)
   const [loading, setLoading] = useState(false)
   const [error, setError] = useState("")
+  const [uploading, setUploading] = useState(false)
+  const contentRef = useRef<HTMLTextAreaElement>(null)
+  const fileInput = useRef<HTMLInputElement>(null)
+  // Autosave (unpublished articles only): last state known to the server, its version and autosave sequence
+  const [autosave, setAutosave] = useState<"off" | "idle" | "saving" | "saved" | "conflict">("off")
+  const saved = useRef<{ title: string; content: string; version: number; sequence: number } | null>(null)
 
   const isEdit = mode === "edit"
   const numId = id ? Number(id) : NaN
@@ -52,6 +60,11 @@ export function ArticleFormPage({ mode }: ArticleFormPageProps) {
           setTags(a.tags ?? "")
           setFeatured(a.featured ?? false)
           setPinned(a.pinned ?? false)
+          const unpublished = !a.publishedAt || new Date(a.publishedAt) > new Date()
+          if (unpublished && a.version != null) {
+            saved.current = { title: a.title, content: a.content ?? "", version: a.version, sequence: 0 }
+            setAutosave("idle")
+          }
           if (a.publishedAt) {
             const d = new Date(a.publishedAt)
             setPublishedAt(d.toISOString().slice(0, 16))
@@ -61,6 +74,41 @@ export function ArticleFormPage({ mode }: ArticleFormPageProps) {
     }
   }, [isEdit, numId, canEditArticle])
 
+  // Sends only what changed since the last autosave, once typing pauses
+  useEffect(() => {
+    const base = saved.current
+    if (!base || autosave === "off" || autosave === "conflict" || autosave === "saving") return
+    const edit = api.diffText(base.content, content)
+    const newTitle = title.trim() && title !== base.title ? title : undefined
+    if (!edit && !newTitle) return
+    const timer = setTimeout(() => {
+      setAutosave("saving")
+      api
+        .patchDraft(numId, {
+          baseVersion: base.version,
+          baseSequence: base.sequence,
+          title: newTitle,
+          edits: edit ? [edit] : [],
+        })
+        .then((d) => {
+          saved.current = { title: newTitle ?? base.title, content, version: d.version, sequence: d.sequence }
+          setAutosave("saved")
+        })
+        .catch((err) => {
+          if (err instanceof api.VersionConflictError) {
+            setAutosave("conflict")
+            setError("L'article a été modifié ailleurs : rechargez la page avant de continuer.")
+          } else if (err instanceof api.DraftLostError) {
+            setAutosave("conflict")
+            setError(err.message)
+          } else {
+            setAutosave("idle")
+          }
+        })
+    }, AUTOSAVE_DELAY_MS)
+    return () => clearTimeout(timer)
+  }, [title, content, autosave, numId])
+
   if (isEdit && !canEditArticle(null)) {
     return (
       <Card>
@@ -80,6 +128,23 @@ export function ArticleFormPage({ mode }: ArticleFormPageProps) {
     )
   }
 
+  /** Uploads the image and inserts its markdown at the cursor (the body only stores a link). */
+  async function insertImage(file: File) {
+    setError("")
+    setUploading(true)
+    try {
+      const attachment = await api.uploadAttachment(numId, file)
+      const alt = (attachment.originalName ?? "image").replace(/[[\]]/g, "")
+      const markdown = `![${alt}](${api.attachmentUrl(attachment.url)})`
+      const at = contentRef.current?.selectionStart ?? content.length
+      setContent((c) => c.slice(0, at) + markdown + c.slice(at))
+    } catch (err) {
+      setError(err instanceof Error ? err.message : "Impossible d'envoyer l'image")
+    } finally {
+      setUploading(false)
+    }
+  }
+
   async function handleSubmit(e: React.FormEvent) {
     e.preventDefault()
     setError("")
@@ -91,6 +156,7 @@ export function ArticleFormPage({ mode }: ArticleFormPageProps) {
       tags: tags.trim() || undefined,
       featured,
       pinned,
+      version: saved.current?.version,
     }
     if (publishedAt.trim()) {
       payload.publishedAt = new Date(publishedAt).toISOString()
@@ -116,6 +182,8 @@ export function ArticleFormPage({ mode }: ArticleFormPageProps) {
     <Card className="border-border bg-card">
       <CardHeader>
         <CardTitle className="text-foreground">{isEdit ? "Modifier l'article" : "Nouvel article"}</CardTitle>
+        {autosave === "saving" && <p className="text-xs text-muted-foreground">Enregistrement automatique…</p>}
+        {autosave === "saved" && <p className="text-xs text-muted-foreground">Brouillon enregistré</p>}
       </CardHeader>
       <CardContent>
         <form onSubmit={handleSubmit} className="space-y-4">
@@ -139,11 +207,36 @@ export function ArticleFormPage({ mode }: ArticleFormPageProps) {
             <Label htmlFor="content">Contenu</Label>
             <textarea
               id="content"
+              ref={contentRef}
               className="flex min-h-[200px] w-full rounded-md border border-border bg-secondary px-3 py-2 text-sm shadow-sm placeholder:text-muted-foreground focus-visible:outline-none focus-visible:ring-1 focus-visible:ring-ring text-foreground"
               value={content}
               onChange={(e) => setContent(e.target.value)}
               placeholder="Rédigez votre article..."
             />
+            {isEdit && !Number.isNaN(numId) && (
+              <div>
+                <input
+                  ref={fileInput}
+                  type="file"
+                  accept="image/png,image/jpeg,image/gif,image/webp"
+                  className="hidden"
+                  onChange={(e) => {
+                    const file = e.target.files?.[0]
+                    e.target.value = ""
+                    if (file) insertImage(file)
+                  }}
+                />
+                <Button
+                  type="button"
+                  variant="outline"
+                  size="sm"
+                  disabled={uploading}
+                  onClick={() => fileInput.current?.click()}
+                >
+                  {uploading ? "Envoi de l'image..." : "Insérer une image"}
+                </Button>
+              </div>
+            )}
           </div>
           <div className="grid grid-cols-1 gap-4 sm:grid-cols-2">
             <div className="space-y-2">
@@ -47,8 +47,12 @@ export function HomePage() {
   const [featured, setFeatured] = useState<boolean | undefined>(undefined)
   const [pinned, setPinned] = useState<boolean | undefined>(undefined)
   const [data, setData] = useState<api.Page<Article> | null>(null)
+  // null : en attente de /home ; undefined : le menu charge lui-même les catégories
+  const [homeCategories, setHomeCategories] = useState<string[] | null | undefined>(null)
   const [loading, setLoading] = useState(true)
   const [error, setError] = useState("")
+  const [newArticles, setNewArticles] = useState(0)
+  const [reloadKey, setReloadKey] = useState(0)
   const [filtersOpen, setFiltersOpen] = useState(true) // Start open when near top
   const [isCollapsed, setIsCollapsed] = useState(false) // Track if search bar should be collapsed
   const lastScrollY = useRef(0)
@@ -325,12 +329,33 @@ export function HomePage() {
     }
   }, [])
 
+  // Flux temps réel : signaler les nouveaux articles publiés sans recharger la liste
+  useEffect(() => {
+    return api.subscribeToArticleFeed((n) => {
+      if (n.type === "published") setNewArticles((c) => c + 1)
+    })
+  }, [])
+
   useEffect(() => {
     let cancelled = false
     setLoading(true)
     setError("")
-    api
-      .getArticles({
+    setNewArticles(0)
+    const defaultView = page === 0 && size === 10 && sort === "date" && order === "desc" && !keyword && !category
+      && !tags && authorId === undefined && publishedOnly && featured === undefined && pinned === undefined
+    // Vue par défaut : une seule requête (/home) pour la liste et les catégories
+    const home: Promise<api.Page<Article> | null> = defaultView
+      ? api.getHome().then((h) => {
+          if (!cancelled) setHomeCategories((c) => c === null ? h.categories ?? undefined : c)
+          return h.latest
+        }).catch(() => {
+          if (!cancelled) setHomeCategories((c) => c === null ? undefined : c)
+          return null
+        })
+      : Promise.resolve(null)
+    if (!defaultView) setHomeCategories((c) => c === null ? undefined : c)
+    home
+      .then((latest) => latest ?? api.getArticles({
         page,
         size,
         sort,
@@ -342,7 +367,8 @@ export function HomePage() {
         publishedOnly,
         featured,
         pinned,
-      })
+        facets: true,
+      }))
       .then((res) => {
         if (!cancelled) setData(res)
       })
@@ -353,7 +379,7 @@ export function HomePage() {
         if (!cancelled) setLoading(false)
       })
     return () => { cancelled = true }
-  }, [page, size, sort, order, keyword, category, tags, authorId, publishedOnly, featured, pinned, user])
+  }, [page, size, sort, order, keyword, category, tags, authorId, publishedOnly, featured, pinned, user, reloadKey])
 
   const totalPages = data?.totalPages ?? 0
   const pageNumbers = getPageNumbers(page + 1, totalPages)
@@ -669,6 +695,8 @@ export function HomePage() {
             <label className="text-xs font-semibold uppercase tracking-wider text-muted-foreground/80">Catégorie</label>
             <CategoryDropdown 
               value={category} 
+              counts={data?.facets?.categories}
+              initialCategories={homeCategories}
               onChange={(value) => {
                 setCategory(value)
                 // Keep active state briefly after selection to prevent immediate collapse
@@ -859,6 +887,19 @@ export function HomePage() {
       </div>
 
     <div className="space-y-8">
+      {newArticles > 0 && (
+        <div className="flex justify-center">
+          <Button
+            variant="outline"
+            size="sm"
+            className="rounded-xl border-primary/40 text-primary hover:bg-primary/10"
+            onClick={() => setReloadKey((k) => k + 1)}
+          >
+            {newArticles === 1 ? "1 nouvel article" : `${newArticles} nouveaux articles`} — actualiser
+          </Button>
+        </div>
+      )}
+
       {error && (
         <div className="rounded-xl border border-destructive/40 bg-destructive/10 backdrop-blur-sm px-5 py-4 text-sm text-destructive font-medium shadow-lg">
           {error}
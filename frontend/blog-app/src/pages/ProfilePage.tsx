@@ -7,7 +7,7 @@ import { Input } from "@/components/ui/input"
 import { PasswordInput } from "@/components/ui/password-input"
 import { Label } from "@/components/ui/label"
 import { Card, CardContent, CardDescription, CardHeader, CardTitle } from "@/components/ui/card"
-import { FileText } from "lucide-react"
+import { Eye, FileText } from "lucide-react"
 import type { Role } from "@/types"
 import { useState } from "react"
 
@@ -18,6 +18,10 @@ const ROLE_LABELS: Record<Role, string> = {
   ADMIN: "Administrateur",
 }
 
+function formatDate(s: string) {
+  return new Date(s).toLocaleString("fr-FR", { dateStyle: "medium", timeStyle: "short" })
+}
+
 export function ProfilePage() {
   const { user, updateUser } = useAuth()
   const queryClient = useQueryClient()
@@ -123,16 +127,33 @@ export function ProfilePage() {
                 <FileText className="h-4 w-4" />
               </div>
               <div>
-                <p className="text-lg font-semibold text-foreground">{p.articleCount}</p>
-                <p className="text-xs text-muted-foreground">article{p.articleCount !== 1 ? "s" : ""} publié{p.articleCount !== 1 ? "s" : ""}</p>
+                <p className="text-lg font-semibold text-foreground">{p.publishedCount}</p>
+                <p className="text-xs text-muted-foreground">article{p.publishedCount !== 1 ? "s" : ""} publié{p.publishedCount !== 1 ? "s" : ""}</p>
               </div>
             </div>
+            <div className="flex items-center gap-2">
+              <div className="flex h-9 w-9 items-center justify-center rounded-lg bg-primary/20 text-primary">
+                <Eye className="h-4 w-4" />
+              </div>
+              <div>
+                <p className="text-lg font-semibold text-foreground">{p.totalViews}</p>
+                <p className="text-xs text-muted-foreground">vue{p.totalViews !== 1 ? "s" : ""}</p>
+              </div>
+            </div>
+            {(p.draftCount > 0 || p.scheduledCount > 0) && (
+              <p className="text-xs text-muted-foreground">
+                {p.draftCount} brouillon{p.draftCount !== 1 ? "s" : ""} · {p.scheduledCount} programmé{p.scheduledCount !== 1 ? "s" : ""}
+              </p>
+            )}
             {p.articleCount > 0 && (
               <Button asChild variant="outline" size="sm" className="border-border hover:bg-secondary">
                 <Link to={`/?authorId=${p.id}`}>Voir tous mes articles</Link>
               </Button>
             )}
           </div>
+          {p.lastPublishedAt && (
+            <p className="text-xs text-muted-foreground">Dernière publication le {formatDate(p.lastPublishedAt)}</p>
+          )}
           <dl className="grid gap-2 text-sm">
             <div>
               <dt className="text-muted-foreground">Nom d'utilisateur</dt>
@@ -13,11 +13,20 @@ export interface UserProfile {
   email: string
   role: Role
   articleCount: number
+  publishedCount: number
+  draftCount: number
+  scheduledCount: number
+  totalViews: number
+  lastPublishedAt?: string | null
 }
 
 export interface AuthResponse {
   token: string
   type: string
+  /** Exchanged at /auth/refresh for a new pair; single use. */
+  refreshToken: string
+  /** Lifetime of token, in seconds. */
+  expiresIn: number
   id: number
   username: string
   email: string
@@ -27,16 +36,76 @@ export interface AuthResponse {
 export interface Article {
   id: number
   title: string
-  content: string
+  /** Absent in listings, which carry excerpt and wordCount instead. */
+  content?: string | null
+  excerpt?: string | null
+  wordCount?: number | null
   createdAt: string
   updatedAt?: string
   publishedAt?: string | null
   viewCount: number
   authorId?: number | null
+  /** Present in listings. */
+  authorUsername?: string | null
   category?: string | null
   tags?: string | null
   featured: boolean
   pinned: boolean
+  version?: number | null
+  /** Listings only, for signed-in callers who can write: what this caller may do with the article. */
+  canEdit?: boolean
+  canDelete?: boolean
+}
+
+/**
+ * Result counts per facet value for the current filters; each facet ignores its own filter.
+ * Ordered by count (months: most recent first). Author keys are user ids.
+ */
+export interface FacetCounts {
+  total: number
+  categories: Record<string, number>
+  tags: Record<string, number>
+  authors: Record<string, number>
+  months: Record<string, number>
+}
+
+/** Heading of a rendered article; id is the anchor of the heading element. */
+export interface TocEntry {
+  level: number
+  id: string
+  text: string
+}
+
+/** GET /articles/{id}?format=html: metadata plus the body rendered from markdown (sanitized HTML). */
+export interface RenderedArticle {
+  article: Article
+  html: string
+  toc: TocEntry[]
+  wordCount: number
+  readingTimeMinutes: number
+}
+
+/** Article metadata without content (related articles, etc.). */
+export interface ArticleSummary {
+  id: number
+  title: string
+  authorId?: number | null
+  category?: string | null
+  tags?: string | null
+  createdAt: string
+  publishedAt?: string | null
+  viewCount: number
+  featured: boolean
+  pinned: boolean
+}
+
+/** Message of the live feed (GET /articles/stream). Only id is set for "deleted". */
+export interface ArticleNotification {
+  type: "published" | "updated" | "deleted"
+  id: number
+  title?: string | null
+  category?: string | null
+  publishedAt?: string | null
 }
 
 export interface ArticleRequest {
@@ -47,6 +116,43 @@ export interface ArticleRequest {
   publishedAt?: string | null
   featured?: boolean
   pinned?: boolean
+  version?: number | null
+}
+
+/** Replaces content[start, end) with text. */
+export interface TextEdit {
+  start: number
+  end: number
+  text: string
+}
+
+export interface DraftPatch {
+  baseVersion: number
+  baseSequence: number
+  title?: string
+  edits?: TextEdit[]
+}
+
+export interface DraftResponse {
+  id: number
+  version: number
+  sequence: number
+  pending: boolean
+}
+
+/** Image attached to an article; url and thumbnailUrl are relative to the API root. */
+export interface Attachment {
+  id: number
+  articleId: number
+  contentType: string
+  size: number
+  originalName?: string | null
+  width?: number | null
+  height?: number | null
+  thumbnail: "PENDING" | "READY" | "NONE"
+  url: string
+  thumbnailUrl: string
+  createdAt: string
 }
 
 export interface Page<T> {